@@ -9,6 +9,8 @@ import {
   Alert,
   Button,
   Paper,
+  Chip,
+  ChipProps,
 } from '@mui/material';
 import {
   TrendingUp,
@@ -22,24 +24,39 @@ import {
 } from '@mui/icons-material';
 import { useNavigate } from 'react-router-dom';
 import { jobApplicationService } from '../services/api';
-import { ApplicationStats } from '../types/JobApplication';
+import {
+  ApplicationStats,
+  ChangeNotification,
+  JobApplicationSummary,
+  STATUS_COLORS,
+  STATUS_LABELS,
+} from '../types/JobApplication';
+
+const RECENT_ACTIVITY_SIZE = 10;
 
 const Dashboard: React.FC = () => {
   const [stats, setStats] = useState<ApplicationStats | null>(null);
+  const [recent, setRecent] = useState<JobApplicationSummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const navigate = useNavigate();
 
   useEffect(() => {
-    loadStats();
+    loadDashboard();
+    // Every change carries the new counters and row, so the dashboard never needs to re-poll
+    return jobApplicationService.subscribeToChanges({
+      onChange: applyChange,
+      onReset: () => loadDashboard(),
+    });
   }, []);
 
-  const loadStats = async () => {
+  const loadDashboard = async () => {
     try {
       setLoading(true);
       setError(null);
-      const data = await jobApplicationService.getStats();
-      setStats(data);
+      const data = await jobApplicationService.getDashboard();
+      setStats(data.stats);
+      setRecent(data.recentActivity);
     } catch (err) {
       setError('Failed to load statistics. Please try again.');
       console.error(err);
@@ -48,6 +65,16 @@ const Dashboard: React.FC = () => {
     }
   };
 
+  const applyChange = (change: ChangeNotification) => {
+    setStats(change.stats);
+    setRecent((rows) => {
+      const others = rows.filter((row) => row.id !== change.id);
+      return change.application
+        ? [change.application, ...others].slice(0, RECENT_ACTIVITY_SIZE)
+        : others;
+    });
+  };
+
   if (loading) {
     return (
       <Box display="flex" justifyContent="center" alignItems="center" minHeight="400px">
@@ -161,6 +188,36 @@ const Dashboard: React.FC = () => {
         ))}
       </Grid>
 
+      {/* Recent Activity */}
+      {recent.length > 0 && (
+        <Paper elevation={2} sx={{ p: 3, mb: 4 }}>
+          <Typography variant="h6" fontWeight="bold" gutterBottom>
+            Recent Activity
+          </Typography>
+          {recent.map((row) => (
+            <Box
+              key={row.id}
+              display="flex"
+              justifyContent="space-between"
+              alignItems="center"
+              py={1}
+            >
+              <Box>
+                <Typography fontWeight="medium">{row.companyName}</Typography>
+                <Typography variant="body2" color="text.secondary">
+                  {row.jobTitle} · {new Date(row.updatedAt).toLocaleString()}
+                </Typography>
+              </Box>
+              <Chip
+                size="small"
+                label={STATUS_LABELS[row.status]}
+                color={STATUS_COLORS[row.status] as ChipProps['color']}
+              />
+            </Box>
+          ))}
+        </Paper>
+      )}
+
       {/* Quick Actions */}
       <Paper elevation={2} sx={{ p: 3 }}>
         <Typography variant="h6" fontWeight="bold" gutterBottom>
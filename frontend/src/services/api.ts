@@ -1,5 +1,20 @@
 import axios from 'axios';
-import { JobApplication, JobApplicationRequest, ApplicationStats, ApplicationStatus } from '../types/JobApplication';
+import {
+  JobApplication,
+  JobApplicationSummary,
+  JobApplicationRequest,
+  JobApplicationPatch,
+  ApplicationStats,
+  ApplicationStatus,
+  StageAnalytics,
+  RollupInterval,
+  TimeSeries,
+  ImportJobStatus,
+  ChangeNotification,
+  Dashboard,
+  ApplicationFilter,
+  CursorPage,
+} from '../types/JobApplication';
 
 const API_BASE_URL = process.env.REACT_APP_API_URL || '/api';
 
@@ -10,9 +25,33 @@ const api = axios.create({
   },
 });
 
+export interface ChangeHandlers {
+  onChange: (change: ChangeNotification) => void;
+  // Events were missed and cannot be replayed; reload whatever is on screen
+  onReset: () => void;
+}
+
 export const jobApplicationService = {
-  getAll: async (): Promise<JobApplication[]> => {
-    const response = await api.get<JobApplication[]>('/applications');
+  getAll: async (
+    filter: ApplicationFilter = {},
+    cursor?: string,
+    limit?: number
+  ): Promise<CursorPage<JobApplication>> => {
+    const response = await api.get<CursorPage<JobApplication>>('/applications', {
+      params: { ...filter, cursor, limit },
+    });
+    return response.data;
+  },
+
+  // Card-sized rows without description/notes; same paging and filters as getAll
+  getSummaries: async (
+    filter: ApplicationFilter = {},
+    cursor?: string,
+    limit?: number
+  ): Promise<CursorPage<JobApplicationSummary>> => {
+    const response = await api.get<CursorPage<JobApplicationSummary>>('/applications', {
+      params: { ...filter, cursor, limit, view: 'summary' },
+    });
     return response.data;
   },
 
@@ -31,6 +70,20 @@ export const jobApplicationService = {
     return response.data;
   },
 
+  patch: async (id: number, data: JobApplicationPatch): Promise<JobApplication> => {
+    const response = await api.patch<JobApplication>(`/applications/${id}`, data);
+    return response.data;
+  },
+
+  changeStatus: async (
+    id: number,
+    status: ApplicationStatus,
+    version?: number
+  ): Promise<JobApplication> => {
+    const response = await api.put<JobApplication>(`/applications/${id}/status`, { status, version });
+    return response.data;
+  },
+
   delete: async (id: number): Promise<void> => {
     await api.delete(`/applications/${id}`);
   },
@@ -45,10 +98,59 @@ export const jobApplicationService = {
     return response.data;
   },
 
+  getActiveSummaries: async (): Promise<JobApplicationSummary[]> => {
+    const response = await api.get<JobApplicationSummary[]>('/applications/active', {
+      params: { view: 'summary' },
+    });
+    return response.data;
+  },
+
+  // Opens the change feed; EventSource reconnects and resumes via Last-Event-ID by itself.
+  // Returns a function that closes the connection.
+  subscribeToChanges: (handlers: ChangeHandlers): (() => void) => {
+    const source = new EventSource(`${API_BASE_URL}/applications/events`);
+    const onChange = (event: MessageEvent) => handlers.onChange(JSON.parse(event.data));
+    ['created', 'updated', 'deleted'].forEach((type) => source.addEventListener(type, onChange));
+    source.addEventListener('reset', () => handlers.onReset());
+    return () => source.close();
+  },
+
   getStats: async (): Promise<ApplicationStats> => {
     const response = await api.get<ApplicationStats>('/applications/stats');
     return response.data;
   },
+
+  // Counters, recent activity and the first active/interview pages in one request
+  getDashboard: async (): Promise<Dashboard> => {
+    const response = await api.get<Dashboard>('/dashboard');
+    return response.data;
+  },
+
+  // Sends the file as the raw body; the import continues after this resolves
+  startImport: async (file: File): Promise<ImportJobStatus> => {
+    const csv = file.name.toLowerCase().endsWith('.csv');
+    const response = await api.post<ImportJobStatus>('/applications/import', file, {
+      headers: { 'Content-Type': csv ? 'text/csv' : 'application/x-ndjson' },
+    });
+    return response.data;
+  },
+
+  getImportStatus: async (jobId: string): Promise<ImportJobStatus> => {
+    const response = await api.get<ImportJobStatus>(`/applications/import/${jobId}`);
+    return response.data;
+  },
+
+  getStageAnalytics: async (): Promise<StageAnalytics> => {
+    const response = await api.get<StageAnalytics>('/applications/analytics');
+    return response.data;
+  },
+
+  getTimeSeries: async (from?: string, to?: string, interval?: RollupInterval): Promise<TimeSeries> => {
+    const response = await api.get<TimeSeries>('/applications/timeseries', {
+      params: { from, to, interval },
+    });
+    return response.data;
+  },
 };
 
 export default api;
\ No newline at end of file
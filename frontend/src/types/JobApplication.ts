@@ -24,6 +24,20 @@ export interface JobApplication {
   appliedDate?: string;
   createdAt: string;
   updatedAt: string;
+  statusChangedAt?: string;
+  version: number;
+  active: boolean;
+  inInterviewProcess: boolean;
+}
+
+export interface JobApplicationSummary {
+  id: number;
+  companyName: string;
+  jobTitle: string;
+  status: ApplicationStatus;
+  appliedDate?: string;
+  createdAt: string;
+  updatedAt: string;
   active: boolean;
   inInterviewProcess: boolean;
 }
@@ -41,6 +55,24 @@ export interface JobApplicationRequest {
   appliedDate?: string;
 }
 
+// Fields left out are unchanged; version, when sent, turns a concurrent edit into a 409
+export type JobApplicationPatch = Partial<JobApplicationRequest> & { version?: number };
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
+export interface ApplicationFilter {
+  status?: ApplicationStatus;
+  company?: string;
+  createdFrom?: string;
+  createdTo?: string;
+  // Also list applications moved to the archive after being closed for a while
+  includeArchived?: boolean;
+}
+
 export interface ApplicationStats {
   total: number;
   active: number;
@@ -49,6 +81,49 @@ export interface ApplicationStats {
   accepted: number;
 }
 
+// Lists hold at most one page each, most recently updated first
+export interface Dashboard {
+  stats: ApplicationStats;
+  recentActivity: JobApplicationSummary[];
+  active: JobApplicationSummary[];
+  inInterview: JobApplicationSummary[];
+}
+
+// Hours are null until at least one application has left the stage
+export interface StageTiming {
+  status: ApplicationStatus;
+  entered: number;
+  exited: number;
+  medianHours: number | null;
+  p90Hours: number | null;
+}
+
+export interface StageConversion {
+  from: ApplicationStatus | null;
+  to: ApplicationStatus;
+  count: number;
+  rate: number;
+}
+
+export type RollupInterval = 'DAY' | 'WEEK' | 'MONTH' | 'YEAR';
+
+// Applications created in each period, by their current status
+export interface TimeSeriesPoint {
+  periodStart: string;
+  total: number;
+  byStatus: Partial<Record<ApplicationStatus, number>>;
+}
+
+export interface TimeSeries {
+  interval: RollupInterval;
+  points: TimeSeriesPoint[];
+}
+
+export interface StageAnalytics {
+  stages: StageTiming[];
+  conversions: StageConversion[];
+}
+
 export const STATUS_LABELS: Record<ApplicationStatus, string> = {
   [ApplicationStatus.RESEARCHING]: 'Researching',
   [ApplicationStatus.APPLIED]: 'Applied',
@@ -71,4 +146,25 @@ export const STATUS_COLORS: Record<ApplicationStatus, string> = {
   [ApplicationStatus.REJECTED]: 'error',
   [ApplicationStatus.WITHDRAWN]: 'default',
   [ApplicationStatus.ACCEPTED]: 'success',
-};
\ No newline at end of file
+};
+export interface ImportJobStatus {
+  id: string;
+  format: 'NDJSON' | 'CSV';
+  state: 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+  records: number;
+  imported: number;
+  failed: number;
+  recordsPerSecond: number;
+  startedAt: string | null;
+  finishedAt: string | null;
+  message: string | null;
+  errors: { line: number; errors: string[] }[];
+}
+
+// Payload of a change feed event; application is null for deletes
+export interface ChangeNotification {
+  type: 'CREATED' | 'UPDATED' | 'DELETED';
+  id: number;
+  application: JobApplicationSummary | null;
+  stats: ApplicationStats;
+}
@@ -0,0 +1,54 @@
+package com.jobtracker;
+
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representative rows for the benchmarks: every column populated, with free text
+ * sized like a typical pasted job description.
+ */
+public final class BenchmarkFixtures {
+    
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 3, 1, 9, 30);
+    private static final String DESCRIPTION = ("Build and operate backend services in Java and Spring Boot. "
+        + "Own APIs end to end, from design reviews to on-call. ").repeat(8);
+    
+    private BenchmarkFixtures() {}
+    
+    public static JobApplication entity(long id) {
+        JobApplication entity = new JobApplication();
+        entity.setId(id);
+        entity.setCompanyName("Company " + id);
+        entity.setJobTitle("Senior Software Engineer");
+        entity.setStatus(STATUSES[(int) (id % STATUSES.length)]);
+        entity.setDescription(DESCRIPTION);
+        entity.setNotes("Referred by a former colleague; follow up after two weeks.");
+        entity.setLocation("Remote");
+        entity.setJobUrl("https://careers.example.com/jobs/" + id);
+        entity.setSalaryMin(120_000);
+        entity.setSalaryMax(160_000);
+        entity.setAppliedDate(BASE_TIME.plusHours(id));
+        entity.setCreatedAt(BASE_TIME.plusHours(id));
+        entity.setUpdatedAt(BASE_TIME.plusHours(id).plusMinutes(5));
+        return entity;
+    }
+    
+    public static JobApplicationRequest request(long id) {
+        return new JobApplicationRequest(
+            "Company " + id,
+            "Senior Software Engineer",
+            STATUSES[(int) (id % STATUSES.length)],
+            DESCRIPTION,
+            "Referred by a former colleague; follow up after two weeks.",
+            "Remote",
+            "https://careers.example.com/jobs/" + id,
+            120_000,
+            160_000,
+            BASE_TIME.plusHours(id)
+        );
+    }
+}
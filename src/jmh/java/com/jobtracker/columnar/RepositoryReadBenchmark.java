@@ -0,0 +1,108 @@
+package com.jobtracker.columnar;
+
+import com.jobtracker.BenchmarkFixtures;
+import com.jobtracker.JobTrackerApplication;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.snapshot.SnapshotManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The reads served by the columnar profile, called through the repository with and
+ * without it: JPA against H2, and the same calls answered from {@link ApplicationColumns}.
+ * The application runs without a web server on an in-memory database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryReadBenchmark {
+    
+    private static final int SEED_BATCH = 1_000;
+    
+    @Param({"jpa", ColumnarStoreConfig.PROFILE})
+    public String store;
+    
+    @Param("10000")
+    public int rows;
+    
+    private ConfigurableApplicationContext context;
+    private JobApplicationRepository repository;
+    private LocalDateTime rangeStart;
+    private LocalDateTime rangeEnd;
+    
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(JobTrackerApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        if (store.equals(ColumnarStoreConfig.PROFILE)) {
+            application.setAdditionalProfiles(ColumnarStoreConfig.PROFILE);
+        }
+        context = application.run(
+            "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+            "--jobtracker.snapshot.path=",
+            "--logging.level.root=WARN");
+        repository = context.getBean(JobApplicationRepository.class);
+        
+        List<JobApplication> batch = new ArrayList<>(SEED_BATCH);
+        for (long id = 1; id <= rows; id++) {
+            JobApplication entity = BenchmarkFixtures.entity(id);
+            entity.setId(null);
+            batch.add(entity);
+            if (batch.size() == SEED_BATCH) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+        // Seeding bypasses the service, so load the columns again instead of relying on events
+        if (store.equals(ColumnarStoreConfig.PROFILE)) {
+            context.getBean(SnapshotManager.class).load();
+        }
+        
+        // About 1% of the rows, from the middle of the table
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String createdAt = "SELECT created_at FROM job_applications ORDER BY id OFFSET ? ROWS FETCH FIRST 1 ROW ONLY";
+        rangeStart = jdbc.queryForObject(createdAt, LocalDateTime.class, rows / 2);
+        rangeEnd = jdbc.queryForObject(createdAt, LocalDateTime.class, rows / 2 + rows / 100);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<JobApplication> findByStatus() {
+        return repository.findByStatus(ApplicationStatus.APPLIED);
+    }
+    
+    @Benchmark
+    public long countByStatus() {
+        return repository.countByStatus(ApplicationStatus.APPLIED);
+    }
+    
+    @Benchmark
+    public List<JobApplicationSummary> findActiveSummariesPage() {
+        return repository.findActiveSummaries(PageRequest.ofSize(10));
+    }
+    
+    @Benchmark
+    public List<JobApplication> findByCreatedAtBetween() {
+        return repository.findByCreatedAtBetween(rangeStart, rangeEnd);
+    }
+}
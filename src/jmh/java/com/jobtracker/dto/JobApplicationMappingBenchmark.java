@@ -0,0 +1,81 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.BenchmarkFixtures;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request DTO cost: entity to response mapping, and the checks a request body
+ * goes through (the record's compact constructor, then Bean Validation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobApplicationMappingBenchmark {
+    
+    private JobApplication entity;
+    private JobApplicationRequest request;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private LocalDateTime appliedDate;
+    private Integer salaryMin;
+    private Integer salaryMax;
+    
+    @Setup
+    public void setUp() {
+        entity = BenchmarkFixtures.entity(42);
+        request = BenchmarkFixtures.request(42);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        appliedDate = request.appliedDate();
+        // Boxed once here so the constructor benchmarks do not measure autoboxing
+        salaryMin = request.salaryMin();
+        salaryMax = request.salaryMax();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+    
+    @Benchmark
+    public JobApplicationResponse fromEntity() {
+        return JobApplicationResponse.fromEntity(entity);
+    }
+    
+    @Benchmark
+    public JobApplicationRequest requestConstructor() {
+        return new JobApplicationRequest("Acme", "Engineer", ApplicationStatus.APPLIED,
+            null, null, null, null, salaryMin, salaryMax, appliedDate);
+    }
+    
+    /**
+     * The rejection path: the constructor throws, which costs a stack trace per request.
+     */
+    @Benchmark
+    public Object requestConstructorRejected() {
+        try {
+            return new JobApplicationRequest("Acme", "Engineer", ApplicationStatus.APPLIED,
+                null, null, null, null, salaryMax, salaryMin, appliedDate);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+    
+    @Benchmark
+    public Set<ConstraintViolation<JobApplicationRequest>> beanValidation() {
+        return validator.validate(request);
+    }
+}
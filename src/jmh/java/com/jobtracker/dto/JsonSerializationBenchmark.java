@@ -0,0 +1,90 @@
+package com.jobtracker.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jobtracker.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Jackson cost of response bodies, single and as a 10k-element list, plus parsing
+ * a request body. The mapper is configured the way Spring Boot configures its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+    
+    private static final int LIST_SIZE = 10_000;
+    
+    private ObjectWriter responseWriter;
+    private ObjectReader responseReader;
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+    private ObjectReader requestReader;
+    
+    private JobApplicationResponse response;
+    private List<JobApplicationResponse> responses;
+    private byte[] responseJson;
+    private byte[] responsesJson;
+    private byte[] requestJson;
+    
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        TypeReference<List<JobApplicationResponse>> listType = new TypeReference<>() {};
+        responseWriter = mapper.writerFor(JobApplicationResponse.class);
+        responseReader = mapper.readerFor(JobApplicationResponse.class);
+        listWriter = mapper.writerFor(listType);
+        listReader = mapper.readerFor(listType);
+        requestReader = mapper.readerFor(JobApplicationRequest.class);
+        
+        response = JobApplicationResponse.fromEntity(BenchmarkFixtures.entity(42));
+        responses = LongStream.range(0, LIST_SIZE)
+            .mapToObj(id -> JobApplicationResponse.fromEntity(BenchmarkFixtures.entity(id)))
+            .toList();
+        responseJson = responseWriter.writeValueAsBytes(response);
+        responsesJson = listWriter.writeValueAsBytes(responses);
+        requestJson = mapper.writeValueAsBytes(BenchmarkFixtures.request(42));
+    }
+    
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public JobApplicationResponse deserializeResponse() throws IOException {
+        return responseReader.readValue(responseJson);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public byte[] serializeResponseList() throws IOException {
+        return listWriter.writeValueAsBytes(responses);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<JobApplicationResponse> deserializeResponseList() throws IOException {
+        return listReader.readValue(responsesJson);
+    }
+    
+    @Benchmark
+    public JobApplicationRequest deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobtracker.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of a BM25 search over an index of generated descriptions: a selective
+ * query matching about 0.1% of the documents, and a broad one matching most of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FullTextSearchBenchmark {
+    
+    private static final String[] COMMON_WORDS = {
+        "backend", "services", "java", "spring", "platform", "team", "design", "apis", "cloud", "systems"
+    };
+    
+    @Param({"100000"})
+    public int documents;
+    
+    @Param({"selective", "broad"})
+    public String query;
+    
+    private FullTextIndex index;
+    private String text;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new FullTextIndex();
+        for (long id = 1; id <= documents; id++) {
+            StringBuilder description = new StringBuilder();
+            for (int word = 0; word < 20; word++) {
+                description.append(COMMON_WORDS[random.nextInt(COMMON_WORDS.length)]).append(' ');
+            }
+            // A rare term per thousand documents, the selective query's match
+            description.append("term").append(random.nextInt(1000));
+            index.put(id, description.toString(), "Referred by a former colleague");
+        }
+        text = query.equals("selective") ? "term7" : "java platform";
+    }
+    
+    @Benchmark
+    public FullTextIndex.Hits search() {
+        return index.search(text, 0, 20);
+    }
+}
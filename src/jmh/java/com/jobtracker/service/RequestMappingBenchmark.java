@@ -0,0 +1,34 @@
+package com.jobtracker.service;
+
+import com.jobtracker.BenchmarkFixtures;
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.entity.JobApplication;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of copying a request onto a new entity, as done on every create and update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestMappingBenchmark {
+    
+    private JobApplicationRequest request;
+    
+    @Setup
+    public void setUp() {
+        request = BenchmarkFixtures.request(42);
+    }
+    
+    @Benchmark
+    public JobApplication mapRequestToEntity() {
+        JobApplication entity = new JobApplication();
+        JobApplicationService.mapRequestToEntity(request, entity);
+        return entity;
+    }
+}
@@ -0,0 +1,157 @@
+package com.jobtracker.loadtest;
+
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Migrates and fills a database with {@code rows} applications (ids 1..rows) before the
+ * application starts, so its startup indexes cover the whole data set.
+ * <p>
+ * Rows are generated from a fixed seed: company and title vocabularies sized so that
+ * name search has many partial matches, a status mix skewed towards applied and rejected,
+ * and descriptions drawn from a shared word list for the full-text index.
+ */
+final class DatasetSeeder {
+    
+    private static final String USERNAME = "sa";
+    private static final int BATCH_SIZE = 1_000;
+    private static final int COMMIT_INTERVAL = 20_000;
+    
+    private static final String INSERT = """
+        INSERT INTO job_applications (id, company_name, job_title, status, description, notes, location,
+            job_url, salary_min, salary_max, applied_date, created_at, updated_at, status_changed_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    
+    private static final String[] COMPANY_PREFIXES = {
+        "Acme", "Globex", "Initech", "Umbrella", "Stark", "Wayne", "Hooli", "Pied Piper", "Soylent", "Vandelay",
+        "Wonka", "Tyrell", "Cyberdyne", "Aperture", "Black Mesa", "Massive Dynamic", "Oscorp", "Gringotts",
+        "Monarch", "Dunder Mifflin"
+    };
+    private static final String[] COMPANY_SUFFIXES = {
+        "Labs", "Systems", "Technologies", "Software", "Analytics", "Cloud", "Health", "Financial", "Robotics", "Media"
+    };
+    private static final String[] TITLES = {
+        "Software Engineer", "Senior Software Engineer", "Staff Engineer", "Backend Engineer", "Frontend Engineer",
+        "Full Stack Developer", "Data Engineer", "Site Reliability Engineer", "Platform Engineer",
+        "Engineering Manager", "Machine Learning Engineer", "Mobile Developer", "QA Engineer", "DevOps Engineer"
+    };
+    private static final String[] LOCATIONS = {
+        "Remote", "New York, NY", "San Francisco, CA", "Austin, TX", "Seattle, WA", "Chicago, IL", "Boston, MA"
+    };
+    private static final String[] WORDS = (
+        "java spring boot kotlin python golang rust typescript react angular postgres mysql redis kafka "
+        + "kubernetes docker terraform aws gcp azure microservices distributed systems latency throughput "
+        + "scalability observability monitoring oncall incident design review mentoring agile scrum testing "
+        + "automation pipelines ci cd security compliance payments billing search ranking recommendations "
+        + "analytics streaming batch etl warehouse graphql grpc rest api mobile ios android startup fintech "
+        + "healthcare ecommerce marketplace growth platform infrastructure reliability performance caching"
+    ).split(" ");
+    // Weighted towards the states most applications end up in
+    private static final ApplicationStatus[] STATUS_MIX = {
+        ApplicationStatus.RESEARCHING, ApplicationStatus.RESEARCHING,
+        ApplicationStatus.APPLIED, ApplicationStatus.APPLIED, ApplicationStatus.APPLIED,
+        ApplicationStatus.APPLIED, ApplicationStatus.APPLIED, ApplicationStatus.APPLIED,
+        ApplicationStatus.PHONE_SCREEN, ApplicationStatus.PHONE_SCREEN,
+        ApplicationStatus.TECHNICAL_INTERVIEW, ApplicationStatus.ONSITE_INTERVIEW,
+        ApplicationStatus.OFFER, ApplicationStatus.ACCEPTED,
+        ApplicationStatus.REJECTED, ApplicationStatus.REJECTED, ApplicationStatus.REJECTED,
+        ApplicationStatus.REJECTED, ApplicationStatus.REJECTED,
+        ApplicationStatus.WITHDRAWN
+    };
+    
+    private DatasetSeeder() {}
+    
+    static void seed(String jdbcUrl, int rows) throws SQLException {
+        Flyway.configure().dataSource(jdbcUrl, USERNAME, "").load().migrate();
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, USERNAME, "")) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (int id = 1; id <= rows; id++) {
+                    bind(insert, id, random, now);
+                    insert.addBatch();
+                    if (id % BATCH_SIZE == 0 || id == rows) {
+                        insert.executeBatch();
+                    }
+                    if (id % COMMIT_INTERVAL == 0) {
+                        connection.commit();
+                    }
+                }
+            }
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                // Keep ids the application allocates clear of the seeded range
+                statement.execute("ALTER SEQUENCE " + JobApplication.ID_SEQUENCE + " RESTART WITH "
+                    + (rows + 2L * JobApplication.ID_ALLOCATION_SIZE));
+                // Same backfills as the migrations, which ran before there were rows
+                statement.execute("INSERT INTO stage_transitions (from_status, to_status, transitions) "
+                    + "SELECT 'NEW', status, COUNT(*) FROM job_applications GROUP BY status");
+                for (String granularity : List.of("DAY", "ISO_WEEK", "MONTH", "YEAR")) {
+                    String period = "CAST(DATE_TRUNC('" + granularity + "', created_at) AS DATE)";
+                    statement.execute("INSERT INTO status_rollups (granularity, period_start, status, applications) "
+                        + "SELECT '" + granularity.replace("ISO_", "") + "', " + period + ", status, COUNT(*) "
+                        + "FROM job_applications GROUP BY " + period + ", status");
+                }
+                statement.execute("ANALYZE");
+            }
+            connection.commit();
+        }
+    }
+    
+    /**
+     * Closes the in-memory database so the next data set starts from a free heap.
+     */
+    static void drop(String jdbcUrl) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, USERNAME, "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+    
+    private static void bind(PreparedStatement insert, int id, Random random, LocalDateTime now) throws SQLException {
+        LocalDateTime createdAt = now.minusMinutes(random.nextInt(2 * 365 * 24 * 60));
+        LocalDateTime updatedAt = createdAt.plusMinutes(random.nextInt(60 * 24 * 30));
+        if (updatedAt.isAfter(now)) {
+            updatedAt = now;
+        }
+        int salaryMin = 60_000 + random.nextInt(120) * 1_000;
+        insert.setLong(1, id);
+        insert.setString(2, COMPANY_PREFIXES[random.nextInt(COMPANY_PREFIXES.length)] + " "
+            + COMPANY_SUFFIXES[random.nextInt(COMPANY_SUFFIXES.length)] + " " + (id % 997));
+        insert.setString(3, TITLES[random.nextInt(TITLES.length)]);
+        insert.setString(4, STATUS_MIX[random.nextInt(STATUS_MIX.length)].name());
+        insert.setString(5, words(random, 20 + random.nextInt(40)));
+        insert.setString(6, random.nextInt(3) == 0 ? words(random, 5 + random.nextInt(15)) : null);
+        insert.setString(7, LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        insert.setString(8, "https://careers.example.com/jobs/" + id);
+        insert.setInt(9, salaryMin);
+        insert.setInt(10, salaryMin + 20_000 + random.nextInt(40) * 1_000);
+        insert.setTimestamp(11, Timestamp.valueOf(createdAt));
+        insert.setTimestamp(12, Timestamp.valueOf(createdAt));
+        insert.setTimestamp(13, Timestamp.valueOf(updatedAt));
+        insert.setTimestamp(14, Timestamp.valueOf(updatedAt));
+    }
+    
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobtracker.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one endpoint, in microseconds.
+ * <p>
+ * {@link #corrected()} measures from the time the request was <em>scheduled</em>, so a
+ * stalled server (or generator) is charged for every request that should have been sent
+ * while it was stalled, i.e. corrected for coordinated omission. {@link #uncorrected()}
+ * measures from the time it was actually sent, which is what a closed-loop tool reports.
+ */
+final class EndpointLatency {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    
+    private final Histogram corrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram uncorrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    
+    void record(long scheduledNanos, long sentNanos, long completedNanos) {
+        corrected.recordValue(toMicros(completedNanos - scheduledNanos));
+        uncorrected.recordValue(toMicros(completedNanos - sentNanos));
+    }
+    
+    void recordError() {
+        errors.increment();
+    }
+    
+    /**
+     * Counts a request that was not sent because too many were already in flight.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+    
+    Histogram corrected() {
+        return corrected;
+    }
+    
+    Histogram uncorrected() {
+        return uncorrected;
+    }
+    
+    long errors() {
+        return errors.sum();
+    }
+    
+    long dropped() {
+        return dropped.sum();
+    }
+    
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(nanos / 1_000, 0), HIGHEST_TRACKABLE_MICROS);
+    }
+}
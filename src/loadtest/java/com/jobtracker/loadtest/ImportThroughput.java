@@ -0,0 +1,78 @@
+package com.jobtracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.bulk.BulkFormat;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Rows per second of one bulk import: posts a generated file of {@code rows} records
+ * to {@code /api/applications/import} and polls the job until it finishes. The rate
+ * is the one the job reports, from the start of the import to its last commit.
+ */
+final class ImportThroughput {
+    
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    record Result(BulkFormat format, long imported, long failed, double rowsPerSecond, Duration elapsed) {}
+    
+    private ImportThroughput() {}
+    
+    static Result run(HttpClient client, URI baseUri, BulkFormat format, int rows)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/applications/import"))
+            .header("Content-Type", format.getMediaType().toString())
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body(format, rows)))
+            .build();
+        long start = System.nanoTime();
+        HttpResponse<String> accepted = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (accepted.statusCode() != 202) {
+            throw new IOException("Import was not accepted: " + accepted.statusCode() + " " + accepted.body());
+        }
+        URI location = baseUri.resolve(accepted.headers().firstValue("Location").orElseThrow());
+        while (true) {
+            Thread.sleep(POLL_INTERVAL.toMillis());
+            JsonNode status = MAPPER.readTree(client.send(HttpRequest.newBuilder(location).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body());
+            String state = status.get("state").asText();
+            if (state.equals("COMPLETED") || state.equals("FAILED")) {
+                return new Result(format, status.get("imported").asLong(), status.get("failed").asLong(),
+                    status.get("recordsPerSecond").asDouble(), Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+    }
+    
+    private static byte[] body(BulkFormat format, int rows) {
+        StringBuilder body = new StringBuilder(rows * 200);
+        if (format == BulkFormat.CSV) {
+            body.append("companyName,jobTitle,status,description,location,salaryMin,salaryMax\r\n");
+        }
+        for (int row = 0; row < rows; row++) {
+            String company = "Import Co " + row;
+            String status = STATUSES[row % STATUSES.length].name();
+            int salaryMin = 80_000 + (row % 80) * 1_000;
+            if (format == BulkFormat.CSV) {
+                body.append(company).append(",Backend Engineer,").append(status)
+                    .append(",\"Design and operate Java services; on-call rotation, Kubernetes.\",Remote,")
+                    .append(salaryMin).append(',').append(salaryMin + 30_000).append("\r\n");
+            } else {
+                body.append("{\"companyName\":\"").append(company)
+                    .append("\",\"jobTitle\":\"Backend Engineer\",\"status\":\"").append(status)
+                    .append("\",\"description\":\"Design and operate Java services; on-call rotation, Kubernetes.\"")
+                    .append(",\"location\":\"Remote\",\"salaryMin\":").append(salaryMin)
+                    .append(",\"salaryMax\":").append(salaryMin + 30_000).append("}\n");
+            }
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobtracker.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prints per-endpoint percentiles for one data-set size and writes the raw material
+ * for comparing runs: an {@code .hgrm} percentile distribution per endpoint and one
+ * row per endpoint in {@code summary.csv}. Bulk import rates, when measured, go to
+ * {@code imports.csv}.
+ */
+final class LatencyReport {
+    
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final String CSV_HEADER =
+        "rows,endpoint,requests,errors,dropped,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,uncorrected_p99_ms";
+    private static final String IMPORT_CSV_HEADER = "rows,format,imported,failed,rows_per_second,elapsed_ms";
+    
+    private final Path output;
+    
+    LatencyReport(Path output) throws IOException {
+        this.output = Files.createDirectories(output);
+        Files.writeString(output.resolve("summary.csv"), CSV_HEADER + System.lineSeparator());
+        Files.deleteIfExists(output.resolve("imports.csv"));
+    }
+    
+    void write(int rows, Map<Operation, EndpointLatency> latencies, Duration duration) throws IOException {
+        PrintStream out = System.out;
+        out.printf(Locale.ROOT, "%n%,d rows, %ds recorded (latency in ms, from scheduled start)%n",
+            rows, duration.toSeconds());
+        out.printf(Locale.ROOT, "%-20s %9s %7s %7s %8s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "dropped", "req/s", "p50", "p90", "p99", "p99.9", "max", "p99 unc.");
+        StringBuilder csv = new StringBuilder();
+        for (Map.Entry<Operation, EndpointLatency> entry : latencies.entrySet()) {
+            Operation operation = entry.getKey();
+            EndpointLatency latency = entry.getValue();
+            Histogram corrected = latency.corrected();
+            double throughput = corrected.getTotalCount() / (double) duration.toSeconds();
+            double[] columns = {
+                millis(corrected, 50), millis(corrected, 90), millis(corrected, 99), millis(corrected, 99.9),
+                corrected.getMaxValue() / MICROS_PER_MILLI, millis(latency.uncorrected(), 99)
+            };
+            out.printf(Locale.ROOT, "%-20s %9d %7d %7d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                operation.label(), corrected.getTotalCount(), latency.errors(), latency.dropped(), throughput,
+                columns[0], columns[1], columns[2], columns[3], columns[4], columns[5]);
+            csv.append(String.format(Locale.ROOT, "%d,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                rows, operation.label(), corrected.getTotalCount(), latency.errors(), latency.dropped(),
+                throughput, columns[0], columns[1], columns[2], columns[3], columns[4], columns[5]));
+            writeDistribution(rows, operation, corrected);
+        }
+        Files.writeString(output.resolve("summary.csv"), csv, StandardOpenOption.APPEND);
+    }
+    
+    void writeImport(int rows, ImportThroughput.Result result) throws IOException {
+        System.out.printf(Locale.ROOT, "%nImport of %,d %s records at %,d rows: %,d imported, %,d failed, "
+            + "%,.0f rows/s (%d ms until done)%n", result.imported() + result.failed(), result.format(), rows,
+            result.imported(), result.failed(), result.rowsPerSecond(), result.elapsed().toMillis());
+        Path file = output.resolve("imports.csv");
+        String line = String.format(Locale.ROOT, "%d,%s,%d,%d,%.0f,%d%n", rows, result.format(),
+            result.imported(), result.failed(), result.rowsPerSecond(), result.elapsed().toMillis());
+        if (Files.notExists(file)) {
+            line = IMPORT_CSV_HEADER + System.lineSeparator() + line;
+        }
+        Files.writeString(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+    
+    private void writeDistribution(int rows, Operation operation, Histogram histogram) throws IOException {
+        Path file = output.resolve(rows + "-" + operation.name().toLowerCase(Locale.ROOT) + ".hgrm");
+        try (PrintStream stream = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(stream, MICROS_PER_MILLI);
+        }
+    }
+    
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobtracker.loadtest;
+
+import com.jobtracker.JobTrackerApplication;
+import com.jobtracker.bulk.BulkFormat;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Entry point of the {@code loadtest} Maven profile. For each configured data-set size
+ * it seeds an in-memory H2 database, starts the application on a random port against it,
+ * drives the configured endpoint mix at a fixed arrival rate and reports percentiles.
+ * With {@code loadtest.import-rows} set it then times one bulk import per format.
+ * <p>
+ * Program arguments of the form {@code --name=value} are passed on to the application,
+ * e.g. {@code --spring.threads.virtual.enabled=true}. The generator shares the machine
+ * with the application, so results are comparable between runs on the same host only.
+ */
+public final class LoadTestRunner {
+    
+    private LoadTestRunner() {}
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LatencyReport report = new LatencyReport(settings.output());
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(clientExecutor)
+                .build();
+            for (int rows : settings.sizes()) {
+                String jdbcUrl = "jdbc:h2:mem:loadtest_" + rows + ";DB_CLOSE_DELAY=-1";
+                long seedStart = System.nanoTime();
+                DatasetSeeder.seed(jdbcUrl, rows);
+                log("Seeded %,d rows in %d ms", rows, (System.nanoTime() - seedStart) / 1_000_000);
+                try (ConfigurableApplicationContext app = start(jdbcUrl, args)) {
+                    int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                    log("Driving %d req/s for %ds warmup + %ds at %,d rows", settings.rate(),
+                        settings.warmup().toSeconds(), settings.duration().toSeconds(), rows);
+                    URI baseUri = URI.create("http://localhost:" + port);
+                    OpenLoadGenerator generator = new OpenLoadGenerator(client, baseUri, rows, settings);
+                    report.write(rows, generator.run(settings.warmup(), settings.duration()), settings.duration());
+                    if (settings.importRows() > 0) {
+                        for (BulkFormat format : BulkFormat.values()) {
+                            report.writeImport(rows, ImportThroughput.run(client, baseUri, format,
+                                settings.importRows()));
+                        }
+                    }
+                } finally {
+                    DatasetSeeder.drop(jdbcUrl);
+                }
+            }
+        }
+        log("Histograms and summary.csv written to %s", settings.output().toAbsolutePath());
+    }
+    
+    private static ConfigurableApplicationContext start(String jdbcUrl, String[] args) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("jobtracker.snapshot.path", "");
+        properties.put("logging.level.root", "WARN");
+        // Later arguments win; repeating a key on the command line would join the values instead
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                properties.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        String[] applicationArgs = properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new);
+        return SpringApplication.run(JobTrackerApplication.class, applicationArgs);
+    }
+    
+    private static void log(String format, Object... args) {
+        System.out.printf(format + "%n", args);
+    }
+}
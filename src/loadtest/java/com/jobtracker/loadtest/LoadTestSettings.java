@@ -0,0 +1,80 @@
+package com.jobtracker.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties (set by the
+ * {@code loadtest} Maven profile).
+ *
+ * @param sizes data-set sizes to run, one embedded instance each
+ * @param rate total arrival rate in requests per second, across all endpoints
+ * @param warmup time at full rate before recording starts
+ * @param duration recorded time at full rate
+ * @param mix relative weight of each endpoint
+ * @param maxInFlight requests beyond this many outstanding are dropped and counted
+ * @param importRows records per bulk import after the endpoint mix, once per format; 0 skips it
+ * @param output directory for histograms and the summary CSV
+ */
+record LoadTestSettings(
+    List<Integer> sizes,
+    int rate,
+    Duration warmup,
+    Duration duration,
+    Map<Operation, Integer> mix,
+    int maxInFlight,
+    int importRows,
+    Path output
+) {
+    LoadTestSettings {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive, was " + rate);
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must name at least one endpoint");
+        }
+        if (importRows < 0) {
+            throw new IllegalArgumentException("loadtest.import-rows must not be negative, was " + importRows);
+        }
+    }
+    
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Arrays.stream(property("loadtest.sizes", "1000,100000,1000000").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList(),
+            Integer.parseInt(property("loadtest.rate", "200")),
+            Duration.parse(property("loadtest.warmup", "PT15S")),
+            Duration.parse(property("loadtest.duration", "PT60S")),
+            parseMix(property("loadtest.mix", "get=45,list=20,list-summary=5,stats=15,create=8,update=7")),
+            Integer.parseInt(property("loadtest.max-in-flight", "2000")),
+            Integer.parseInt(property("loadtest.import-rows", "0")),
+            Path.of(property("loadtest.output", "target/loadtest"))
+        );
+    }
+    
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint=weight in loadtest.mix, got '" + entry + "'");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0]), weight);
+            }
+        }
+        return weights;
+    }
+    
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
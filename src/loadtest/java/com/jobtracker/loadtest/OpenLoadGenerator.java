@@ -0,0 +1,131 @@
+package com.jobtracker.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are scheduled at a fixed arrival rate and sent
+ * whether or not earlier ones have completed, each on its own virtual thread.
+ * <p>
+ * Latency is taken from each request's scheduled start, so when the server (or the
+ * generator itself) falls behind, the delay shows up in the percentiles rather than
+ * silently lowering the offered load.
+ */
+final class OpenLoadGenerator {
+    
+    private final HttpClient client;
+    private final URI baseUri;
+    private final int rows;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final long intervalNanos;
+    private final Semaphore inFlight;
+    
+    OpenLoadGenerator(HttpClient client, URI baseUri, int rows, LoadTestSettings settings) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.rows = rows;
+        this.operations = settings.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.intervalNanos = 1_000_000_000L / settings.rate();
+        this.inFlight = new Semaphore(settings.maxInFlight());
+    }
+    
+    /**
+     * Runs the warmup, then records for {@code duration}, then waits for outstanding
+     * requests to finish.
+     */
+    Map<Operation, EndpointLatency> run(Duration warmup, Duration duration) {
+        Map<Operation, EndpointLatency> latencies = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            latencies.put(operation, new EndpointLatency());
+        }
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                parkUntil(scheduled);
+                Operation operation = pick(ThreadLocalRandom.current());
+                // Warmup requests are sent but not recorded
+                EndpointLatency latency = scheduled >= recordFrom ? latencies.get(operation) : null;
+                if (!inFlight.tryAcquire()) {
+                    if (latency != null) {
+                        latency.recordDropped();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        send(operation, scheduled, latency);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return latencies;
+    }
+    
+    private void send(Operation operation, long scheduled, EndpointLatency latency) {
+        HttpRequest request = operation.request(baseUri, rows, ThreadLocalRandom.current())
+            .timeout(Operation.TIMEOUT)
+            .build();
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long completed = System.nanoTime();
+            if (latency == null) {
+                return;
+            }
+            if (response.statusCode() >= 400) {
+                latency.recordError();
+            } else {
+                latency.record(scheduled, sent, completed);
+            }
+        } catch (IOException e) {
+            if (latency != null) {
+                latency.recordError();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private Operation pick(ThreadLocalRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weight table is inconsistent");
+    }
+    
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
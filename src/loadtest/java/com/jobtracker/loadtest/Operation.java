@@ -0,0 +1,102 @@
+package com.jobtracker.loadtest;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The controller endpoints driven by the load test, each building one request
+ * against a data set of {@code rows} seeded rows (ids 1..rows).
+ */
+enum Operation {
+    
+    GET("GET /{id}") {
+        @Override
+        HttpRequest.Builder request(URI base, int rows, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/api/applications/" + randomId(rows, random))).GET();
+        }
+    },
+    LIST("GET /") {
+        @Override
+        HttpRequest.Builder request(URI base, int rows, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/api/applications?limit=20" + statusFilter(random))).GET();
+        }
+    },
+    LIST_SUMMARY("GET /?view=summary") {
+        @Override
+        HttpRequest.Builder request(URI base, int rows, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(
+                base.resolve("/api/applications?view=summary&limit=20" + statusFilter(random))).GET();
+        }
+    },
+    STATS("GET /stats") {
+        @Override
+        HttpRequest.Builder request(URI base, int rows, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/api/applications/stats")).GET();
+        }
+    },
+    CREATE("POST /") {
+        @Override
+        HttpRequest.Builder request(URI base, int rows, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/api/applications"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(random)));
+        }
+    },
+    UPDATE("PUT /{id}") {
+        @Override
+        HttpRequest.Builder request(URI base, int rows, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/api/applications/" + randomId(rows, random)))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body(random)));
+        }
+    };
+    
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+    
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    
+    private final String label;
+    
+    Operation(String label) {
+        this.label = label;
+    }
+    
+    abstract HttpRequest.Builder request(URI base, int rows, ThreadLocalRandom random);
+    
+    String label() {
+        return label;
+    }
+    
+    /**
+     * Parses the key used in {@code loadtest.mix}, e.g. {@code list-summary}.
+     */
+    static Operation fromKey(String key) {
+        return valueOf(key.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+    
+    private static long randomId(int rows, ThreadLocalRandom random) {
+        return 1 + random.nextInt(rows);
+    }
+    
+    /**
+     * Half of the listings are filtered by status, as the status tabs in the UI are.
+     */
+    private static String statusFilter(ThreadLocalRandom random) {
+        return random.nextBoolean() ? "" : "&status=" + STATUSES[random.nextInt(STATUSES.length)];
+    }
+    
+    private static String body(ThreadLocalRandom random) {
+        int salaryMin = 80_000 + random.nextInt(80) * 1_000;
+        return """
+            {"companyName":"Load Test Co %d","jobTitle":"Backend Engineer","status":"%s",\
+            "description":"Design and operate Java services; on-call rotation; Kubernetes and PostgreSQL.",\
+            "location":"Remote","salaryMin":%d,"salaryMax":%d}"""
+            .formatted(random.nextInt(10_000), STATUSES[random.nextInt(STATUSES.length)],
+                salaryMin, salaryMin + 30_000);
+    }
+}
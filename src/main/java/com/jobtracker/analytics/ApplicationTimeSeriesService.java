@@ -0,0 +1,83 @@
+package com.jobtracker.analytics;
+
+import com.jobtracker.dto.TimeSeries;
+import com.jobtracker.dto.TimeSeries.TimeSeriesPoint;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Applications created per period, broken down by current status, read from
+ * {@code status_rollups}. A query reads at most one row per period and status,
+ * so its cost depends on the number of points requested, not on the number of
+ * applications in the range.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ApplicationTimeSeriesService {
+    
+    /** Chosen intervals give at most this many points. */
+    static final int TARGET_POINTS = 60;
+    /** Explicitly requested intervals are refused beyond this many points. */
+    static final int MAX_POINTS = 400;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public ApplicationTimeSeriesService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * Counts for every period from the one containing {@code from} to the one
+     * containing {@code to}, including empty periods. A null {@code interval} picks
+     * the finest one that stays within {@link #TARGET_POINTS}.
+     */
+    public TimeSeries getTimeSeries(LocalDate from, LocalDate to, RollupInterval interval) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        RollupInterval resolved = interval != null ? interval : chooseInterval(from, to);
+        long points = resolved.periodsBetween(from, to);
+        if (points > MAX_POINTS) {
+            throw new IllegalArgumentException("Range spans " + points + " " + resolved.name().toLowerCase()
+                + " periods; at most " + MAX_POINTS + " are returned, use a coarser interval");
+        }
+        
+        LocalDate first = resolved.periodStart(from);
+        LocalDate last = resolved.periodStart(to);
+        Map<LocalDate, Map<ApplicationStatus, Long>> counts = new TreeMap<>();
+        for (LocalDate period = first; !period.isAfter(last); period = resolved.next(period)) {
+            counts.put(period, new EnumMap<>(ApplicationStatus.class));
+        }
+        jdbcTemplate.query("""
+            SELECT period_start, status, applications FROM status_rollups
+            WHERE granularity = ? AND period_start BETWEEN ? AND ? AND applications <> 0""",
+            rs -> {
+                counts.get(rs.getDate(1).toLocalDate()).put(ApplicationStatus.valueOf(rs.getString(2)), rs.getLong(3));
+            },
+            resolved.name(), Date.valueOf(first), Date.valueOf(last));
+        
+        List<TimeSeriesPoint> series = new ArrayList<>(counts.size());
+        counts.forEach((period, byStatus) -> series.add(new TimeSeriesPoint(period,
+            byStatus.values().stream().mapToLong(Long::longValue).sum(), byStatus)));
+        return new TimeSeries(resolved, series);
+    }
+    
+    static RollupInterval chooseInterval(LocalDate from, LocalDate to) {
+        for (RollupInterval interval : RollupInterval.values()) {
+            if (interval.periodsBetween(from, to) <= TARGET_POINTS) {
+                return interval;
+            }
+        }
+        return RollupInterval.YEAR;
+    }
+}
@@ -0,0 +1,54 @@
+package com.jobtracker.analytics;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Runs a batch of {@code MERGE} upserts that add to a counter row.
+ * <p>
+ * Two transactions writing the same new key both take the {@code WHEN NOT MATCHED}
+ * branch; the later insert waits for the earlier transaction and fails with a
+ * duplicate key once it commits. Only the failed statements are run again, one at a
+ * time: the row is visible by then, so they update it instead.
+ */
+final class MergeBatches {
+    
+    private static final int ATTEMPTS = 3;
+    
+    private MergeBatches() {
+    }
+    
+    static void merge(JdbcTemplate jdbcTemplate, String sql, List<Object[]> batchArgs) {
+        try {
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+        } catch (DuplicateKeyException e) {
+            if (!(e.getCause() instanceof BatchUpdateException batch)) {
+                throw e;
+            }
+            int[] counts = batch.getUpdateCounts();
+            for (int i = 0; i < batchArgs.size(); i++) {
+                // Statements past the end of the counts were not run if the driver stopped early
+                if (i >= counts.length || counts[i] == Statement.EXECUTE_FAILED) {
+                    mergeOne(jdbcTemplate, sql, batchArgs.get(i));
+                }
+            }
+        }
+    }
+    
+    private static void mergeOne(JdbcTemplate jdbcTemplate, String sql, Object[] args) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(sql, args);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
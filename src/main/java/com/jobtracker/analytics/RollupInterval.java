@@ -0,0 +1,45 @@
+package com.jobtracker.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Period lengths kept in {@code status_rollups}. Weeks start on Monday (ISO).
+ */
+public enum RollupInterval {
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS),
+    MONTH(ChronoUnit.MONTHS),
+    YEAR(ChronoUnit.YEARS);
+    
+    private final ChronoUnit unit;
+    
+    RollupInterval(ChronoUnit unit) {
+        this.unit = unit;
+    }
+    
+    /**
+     * First day of the period containing {@code date}.
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+    
+    public LocalDate next(LocalDate periodStart) {
+        return periodStart.plus(1, unit);
+    }
+    
+    /**
+     * Number of periods touched by the inclusive range {@code from..to}.
+     */
+    public long periodsBetween(LocalDate from, LocalDate to) {
+        return unit.between(periodStart(from), periodStart(to)) + 1;
+    }
+}
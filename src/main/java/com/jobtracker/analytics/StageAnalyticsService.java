@@ -0,0 +1,108 @@
+package com.jobtracker.analytics;
+
+import com.jobtracker.dto.StageAnalytics;
+import com.jobtracker.dto.StageAnalytics.StageConversion;
+import com.jobtracker.dto.StageAnalytics.StageTiming;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Time-in-stage and conversion analytics, read from the aggregates that
+ * {@link StatusHistoryRecorder} maintains. Both tables hold at most one row per
+ * status pair or duration bucket, so a call costs two small scans however long
+ * the history grows.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StageAnalyticsService {
+    
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public StageAnalyticsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    public StageAnalytics getStageAnalytics() {
+        List<TransitionCount> transitions = jdbcTemplate.query(
+            "SELECT from_status, to_status, transitions FROM stage_transitions",
+            (rs, rowNum) -> new TransitionCount(status(rs.getString(1)), ApplicationStatus.valueOf(rs.getString(2)),
+                rs.getLong(3)));
+        Map<ApplicationStatus, TreeMap<Integer, Long>> durations = new EnumMap<>(ApplicationStatus.class);
+        jdbcTemplate.query("SELECT status, bucket, exits FROM stage_durations", rs -> {
+            durations.computeIfAbsent(ApplicationStatus.valueOf(rs.getString(1)), status -> new TreeMap<>())
+                .put(rs.getInt(2), rs.getLong(3));
+        });
+        return summarize(transitions, durations);
+    }
+    
+    static StageAnalytics summarize(List<TransitionCount> transitions,
+                                    Map<ApplicationStatus, TreeMap<Integer, Long>> durations) {
+        long created = 0;
+        Map<ApplicationStatus, Long> entered = new EnumMap<>(ApplicationStatus.class);
+        Map<ApplicationStatus, Long> exited = new EnumMap<>(ApplicationStatus.class);
+        for (TransitionCount transition : transitions) {
+            entered.merge(transition.to(), transition.count(), Long::sum);
+            if (transition.from() == null) {
+                created += transition.count();
+            } else {
+                exited.merge(transition.from(), transition.count(), Long::sum);
+            }
+        }
+        
+        List<StageTiming> stages = new ArrayList<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            TreeMap<Integer, Long> histogram = durations.getOrDefault(status, new TreeMap<>());
+            stages.add(new StageTiming(status, entered.getOrDefault(status, 0L), exited.getOrDefault(status, 0L),
+                percentileHours(histogram, 0.5), percentileHours(histogram, 0.9)));
+        }
+        
+        List<StageConversion> conversions = new ArrayList<>();
+        for (TransitionCount transition : transitions) {
+            long base = transition.from() == null ? created : entered.getOrDefault(transition.from(), 0L);
+            // Aggregates predate the history for existing applications, so guard the denominator
+            double rate = base > 0 ? Math.min(1.0, (double) transition.count() / base) : 0.0;
+            conversions.add(new StageConversion(transition.from(), transition.to(), transition.count(), rate));
+        }
+        return new StageAnalytics(stages, conversions);
+    }
+    
+    /**
+     * The representative value of the bucket holding the {@code quantile}, or null for
+     * an empty histogram.
+     */
+    static Double percentileHours(TreeMap<Integer, Long> histogram, double quantile) {
+        long total = histogram.values().stream().mapToLong(Long::longValue).sum();
+        if (total == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        int bucket = histogram.lastKey();
+        for (Map.Entry<Integer, Long> entry : histogram.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                bucket = entry.getKey();
+                break;
+            }
+        }
+        Duration value = StageDurationBuckets.valueOf(bucket);
+        return value.toMillis() / MILLIS_PER_HOUR;
+    }
+    
+    private static ApplicationStatus status(String name) {
+        return StatusHistoryRecorder.ENTRY.equals(name) ? null : ApplicationStatus.valueOf(name);
+    }
+    
+    record TransitionCount(ApplicationStatus from, ApplicationStatus to, long count) {}
+}
@@ -0,0 +1,28 @@
+package com.jobtracker.analytics;
+
+import java.time.Duration;
+
+/**
+ * Log-scale buckets for time-in-stage durations: four per doubling of the duration
+ * in seconds, so an estimate read back from a bucket is within about 9% of the true
+ * value. A century fits in about 130 buckets.
+ */
+final class StageDurationBuckets {
+    
+    private static final int BUCKETS_PER_DOUBLING = 4;
+    
+    private StageDurationBuckets() {}
+    
+    static int bucketOf(Duration duration) {
+        double seconds = Math.max(duration.toMillis() / 1000.0, 1.0);
+        return (int) Math.floor(Math.log(seconds) / Math.log(2) * BUCKETS_PER_DOUBLING);
+    }
+    
+    /**
+     * Representative duration of a bucket: the geometric midpoint of its bounds.
+     */
+    static Duration valueOf(int bucket) {
+        double seconds = Math.pow(2, (bucket + 0.5) / BUCKETS_PER_DOUBLING);
+        return Duration.ofMillis(Math.round(seconds * 1000));
+    }
+}
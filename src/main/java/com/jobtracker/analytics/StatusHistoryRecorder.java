@@ -0,0 +1,96 @@
+package com.jobtracker.analytics;
+
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationsImportedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends every status transition to {@code application_status_history} and keeps
+ * the {@code stage_transitions} and {@code stage_durations} aggregates current, all
+ * in the transaction that made the change.
+ * <p>
+ * Transitions are written just before commit as three JDBC batches (see
+ * {@link TransactionBatcher}); if writing fails, the whole change rolls back. The
+ * aggregates are upserted through {@link MergeBatches}, so two changes creating the
+ * same aggregate row at once both count.
+ */
+@Component
+public class StatusHistoryRecorder {
+    
+    /** Stands in for "no previous status" in {@code stage_transitions}. */
+    static final String ENTRY = "NEW";
+    
+    private static final String INSERT_HISTORY = """
+        INSERT INTO application_status_history
+            (application_id, from_status, to_status, changed_at, time_in_previous_ms)
+        VALUES (?, ?, ?, ?, ?)""";
+    private static final String MERGE_TRANSITIONS = """
+        MERGE INTO stage_transitions t
+        USING (VALUES (CAST(? AS VARCHAR(32)), CAST(? AS VARCHAR(32)), CAST(? AS BIGINT))) s(from_status, to_status, delta)
+        ON t.from_status = s.from_status AND t.to_status = s.to_status
+        WHEN MATCHED THEN UPDATE SET transitions = t.transitions + s.delta
+        WHEN NOT MATCHED THEN INSERT (from_status, to_status, transitions) VALUES (s.from_status, s.to_status, s.delta)""";
+    private static final String MERGE_DURATIONS = """
+        MERGE INTO stage_durations d
+        USING (VALUES (CAST(? AS VARCHAR(32)), CAST(? AS INT), CAST(? AS BIGINT))) s(status, bucket, delta)
+        ON d.status = s.status AND d.bucket = s.bucket
+        WHEN MATCHED THEN UPDATE SET exits = d.exits + s.delta
+        WHEN NOT MATCHED THEN INSERT (status, bucket, exits) VALUES (s.status, s.bucket, s.delta)""";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionBatcher<StatusTransition> batcher = new TransactionBatcher<>(this::write);
+    
+    public StatusHistoryRecorder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    // A plain listener, unlike the read models: it must run inside the writing transaction
+    @EventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        StatusTransition transition = StatusTransition.of(event);
+        if (transition != null) {
+            batcher.add(transition);
+        }
+    }
+    
+    @EventListener
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        batcher.addAll(event.created().stream().map(created -> StatusTransition.of(null, created)).toList());
+    }
+    
+    private void write(List<StatusTransition> transitions) {
+        List<Object[]> history = new ArrayList<>(transitions.size());
+        Map<List<String>, Long> transitionCounts = new HashMap<>();
+        Map<List<Object>, Long> durationCounts = new HashMap<>();
+        for (StatusTransition transition : transitions) {
+            String from = transition.from() != null ? transition.from().name() : null;
+            history.add(new Object[] {
+                transition.applicationId(), from, transition.to().name(),
+                Timestamp.valueOf(transition.changedAt()),
+                transition.timeInPrevious() != null ? transition.timeInPrevious().toMillis() : null
+            });
+            transitionCounts.merge(List.of(from != null ? from : ENTRY, transition.to().name()), 1L, Long::sum);
+            if (from != null && transition.timeInPrevious() != null) {
+                durationCounts.merge(List.of(from, StageDurationBuckets.bucketOf(transition.timeInPrevious())),
+                    1L, Long::sum);
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY, history);
+        MergeBatches.merge(jdbcTemplate, MERGE_TRANSITIONS, transitionCounts.entrySet().stream()
+            .map(entry -> new Object[] {entry.getKey().get(0), entry.getKey().get(1), entry.getValue()})
+            .toList());
+        if (!durationCounts.isEmpty()) {
+            MergeBatches.merge(jdbcTemplate, MERGE_DURATIONS, durationCounts.entrySet().stream()
+                .map(entry -> new Object[] {entry.getKey().get(0), entry.getKey().get(1), entry.getValue()})
+                .toList());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobtracker.analytics;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationsImportedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@code status_rollups} equal to the count of applications per creation
+ * period and current status: a create adds one to its period, a status change
+ * moves one between statuses, and a delete removes one. Each change touches one
+ * row per {@link RollupInterval}, upserted in the writing transaction through
+ * {@link MergeBatches}.
+ */
+@Component
+public class StatusRollupRecorder {
+    
+    private static final String MERGE_ROLLUP = """
+        MERGE INTO status_rollups r
+        USING (VALUES (CAST(? AS VARCHAR(8)), CAST(? AS DATE), CAST(? AS VARCHAR(32)), CAST(? AS BIGINT)))
+            s(granularity, period_start, status, delta)
+        ON r.granularity = s.granularity AND r.period_start = s.period_start AND r.status = s.status
+        WHEN MATCHED THEN UPDATE SET applications = r.applications + s.delta
+        WHEN NOT MATCHED THEN INSERT (granularity, period_start, status, applications)
+            VALUES (s.granularity, s.period_start, s.status, s.delta)""";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionBatcher<RollupDelta> batcher = new TransactionBatcher<>(this::write);
+    
+    public StatusRollupRecorder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @EventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.previousStatus() == event.currentStatus()) {
+            return;
+        }
+        if (event.before() != null) {
+            batcher.add(new RollupDelta(createdOn(event.before()), event.previousStatus().name(), -1));
+        }
+        if (event.after() != null) {
+            batcher.add(new RollupDelta(createdOn(event.after()), event.currentStatus().name(), 1));
+        }
+    }
+    
+    @EventListener
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        batcher.addAll(event.created().stream()
+            .map(created -> new RollupDelta(createdOn(created), created.status().name(), 1))
+            .toList());
+    }
+    
+    private void write(List<RollupDelta> deltas) {
+        Map<List<Object>, Long> totals = new HashMap<>();
+        for (RollupDelta delta : deltas) {
+            for (RollupInterval interval : RollupInterval.values()) {
+                totals.merge(List.of(interval.name(), interval.periodStart(delta.day()), delta.status()),
+                    delta.delta(), Long::sum);
+            }
+        }
+        // A change that cancels out within the transaction needs no write
+        totals.values().removeIf(total -> total == 0);
+        if (totals.isEmpty()) {
+            return;
+        }
+        MergeBatches.merge(jdbcTemplate, MERGE_ROLLUP, totals.entrySet().stream()
+            .map(entry -> new Object[] {
+                entry.getKey().get(0), Date.valueOf((LocalDate) entry.getKey().get(1)), entry.getKey().get(2),
+                entry.getValue()
+            })
+            .toList());
+    }
+    
+    private static LocalDate createdOn(JobApplicationResponse application) {
+        // Set on persist; absent only for rows inserted around the application
+        return application.createdAt() != null ? application.createdAt().toLocalDate() : LocalDate.now();
+    }
+    
+    private record RollupDelta(LocalDate day, String status, long delta) {}
+}
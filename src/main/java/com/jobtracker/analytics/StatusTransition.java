@@ -0,0 +1,42 @@
+package com.jobtracker.analytics;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.service.ApplicationChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * One status change of one application. {@code from} is null for creation;
+ * {@code timeInPrevious} is null when there was no previous status or its
+ * start is unknown.
+ */
+record StatusTransition(
+    Long applicationId,
+    ApplicationStatus from,
+    ApplicationStatus to,
+    LocalDateTime changedAt,
+    Duration timeInPrevious
+) {
+    /**
+     * The transition recorded by {@code event}, or null if the status did not change
+     * (including deletes, which end an application without a transition).
+     */
+    static StatusTransition of(ApplicationChangedEvent event) {
+        return of(event.before(), event.after());
+    }
+    
+    static StatusTransition of(JobApplicationResponse before, JobApplicationResponse after) {
+        if (after == null || (before != null && before.status() == after.status())) {
+            return null;
+        }
+        LocalDateTime changedAt = after.statusChangedAt() != null ? after.statusChangedAt() : after.updatedAt();
+        Duration timeInPrevious = null;
+        if (before != null && before.statusChangedAt() != null && changedAt != null) {
+            timeInPrevious = Duration.between(before.statusChangedAt(), changedAt);
+        }
+        return new StatusTransition(after.id(), before != null ? before.status() : null, after.status(),
+            changedAt, timeInPrevious);
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobtracker.analytics;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects items for the duration of the current transaction and hands them to
+ * {@code writer} in one call just before commit, so a bulk change costs one
+ * batch of statements rather than one per row. A failing write rolls back the
+ * transaction. Outside a transaction each item is written immediately.
+ */
+final class TransactionBatcher<T> {
+    
+    private final Consumer<List<T>> writer;
+    
+    TransactionBatcher(Consumer<List<T>> writer) {
+        this.writer = writer;
+    }
+    
+    void add(T item) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().add(item);
+        } else {
+            writer.accept(List.of(item));
+        }
+    }
+    
+    void addAll(List<T> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().addAll(items);
+        } else {
+            writer.accept(items);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<T> pending() {
+        List<T> pending = (List<T>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<T> items = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, items);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writer.accept(items);
+                }
+                
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionBatcher.this);
+                }
+            });
+            pending = items;
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobtracker.archive;
+
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationsArchivedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves applications that have been closed (rejected, withdrawn or accepted) for at
+ * least {@code jobtracker.archive.min-age} from {@code job_applications} to
+ * {@code job_applications_archive}. Rows move in batches of {@code batch-size}, each
+ * in its own transaction, so locks are held only briefly.
+ * <p>
+ * A batch is locked with {@code FOR UPDATE} before it is copied. An edit racing the
+ * move either commits first, and the row is re-checked, or fails its version check.
+ * Moving a row changes nothing about the application, so no
+ * {@link ApplicationChangedEvent} is published and counters, history and rollups stay
+ * as they are. An {@link ApplicationsArchivedEvent} lets hot-tier read models drop the rows.
+ */
+@Component
+public class ApplicationArchiver {
+    
+    private static final Logger log = LoggerFactory.getLogger(ApplicationArchiver.class);
+    
+    private static final String COLUMNS = "id, company_name, job_title, status, description, notes, location, "
+        + "job_url, salary_min, salary_max, applied_date, created_at, updated_at, status_changed_at, version";
+    
+    private static final String SELECT_BATCH = "SELECT id FROM job_applications "
+        + "WHERE status IN ('REJECTED', 'WITHDRAWN', 'ACCEPTED') AND status_changed_at < :cutoff "
+        + "ORDER BY id FETCH FIRST :batchSize ROWS ONLY FOR UPDATE";
+    private static final String COPY_BATCH = "INSERT INTO job_applications_archive (" + COLUMNS + ", archived_at) "
+        + "SELECT " + COLUMNS + ", :archivedAt FROM job_applications WHERE id IN (:ids)";
+    private static final String DELETE_BATCH = "DELETE FROM job_applications WHERE id IN (:ids)";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+    
+    public ApplicationArchiver(NamedParameterJdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${jobtracker.archive.enabled:true}") boolean enabled,
+                               @Value("${jobtracker.archive.min-age:90d}") Duration minAge,
+                               @Value("${jobtracker.archive.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("jobtracker.archive.batch-size must be positive, was " + batchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(initialDelayString = "${jobtracker.archive.initial-delay:PT1M}",
+               fixedDelayString = "${jobtracker.archive.interval:PT1H}")
+    public void archiveOnSchedule() {
+        if (enabled) {
+            archive();
+        }
+    }
+    
+    /**
+     * Archives every application closed before now minus the minimum age.
+     *
+     * @return the number of applications moved
+     */
+    public int archive() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> moveBatch(cutoff));
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            log.info("Archived {} closed applications in {} ms", total, (System.nanoTime() - start) / 1_000_000);
+        }
+        return total;
+    }
+    
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_BATCH, new MapSqlParameterSource()
+            .addValue("cutoff", cutoff)
+            .addValue("batchSize", batchSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource batch = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("archivedAt", LocalDateTime.now());
+        jdbcTemplate.update(COPY_BATCH, batch);
+        jdbcTemplate.update(DELETE_BATCH, batch);
+        eventPublisher.publishEvent(new ApplicationsArchivedEvent(ids));
+        return ids.size();
+    }
+}
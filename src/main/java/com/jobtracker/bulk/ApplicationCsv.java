@@ -0,0 +1,145 @@
+package com.jobtracker.bulk;
+
+import com.jobtracker.dto.JobApplicationResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV layout for job applications. Fields containing a comma, quote or
+ * line break are quoted, with embedded quotes doubled; nulls are written as empty fields.
+ * Reading accepts the same layout, so exported files can be imported again.
+ */
+public final class ApplicationCsv {
+    
+    public static final List<String> COLUMNS = List.of(
+        "id", "companyName", "jobTitle", "status", "description", "notes", "location",
+        "jobUrl", "salaryMin", "salaryMax", "appliedDate", "createdAt", "updatedAt"
+    );
+    
+    private ApplicationCsv() {}
+    
+    public static void writeHeader(Writer out) throws IOException {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(COLUMNS.get(i));
+        }
+        out.write("\r\n");
+    }
+    
+    public static void writeRow(Writer out, JobApplicationResponse row) throws IOException {
+        writeField(out, row.id());
+        out.write(',');
+        writeField(out, row.companyName());
+        out.write(',');
+        writeField(out, row.jobTitle());
+        out.write(',');
+        writeField(out, row.status());
+        out.write(',');
+        writeField(out, row.description());
+        out.write(',');
+        writeField(out, row.notes());
+        out.write(',');
+        writeField(out, row.location());
+        out.write(',');
+        writeField(out, row.jobUrl());
+        out.write(',');
+        writeField(out, row.salaryMin());
+        out.write(',');
+        writeField(out, row.salaryMax());
+        out.write(',');
+        writeField(out, row.appliedDate());
+        out.write(',');
+        writeField(out, row.createdAt());
+        out.write(',');
+        writeField(out, row.updatedAt());
+        out.write("\r\n");
+    }
+    
+    /**
+     * Splits one record (which may span lines inside quoted fields) into its fields.
+     * Empty fields are returned as null.
+     */
+    public static List<String> parseRecord(String record) {
+        List<String> fields = new ArrayList<>(COLUMNS.size());
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c != '\r' || i + 1 < record.length()) {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+        return fields;
+    }
+    
+    /**
+     * Whether {@code line} moves a record into or out of a quoted field, i.e. holds
+     * an odd number of quotes (doubled quotes cancel out). A record read line by line
+     * is open while an odd number of its lines have done so.
+     */
+    public static boolean togglesQuote(CharSequence line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 1;
+    }
+    
+    private static void writeField(Writer out, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!needsQuoting(text)) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+    
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,147 @@
+package com.jobtracker.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.entity.ArchivedApplication;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.repository.ArchivedApplicationRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Streams applications to an output stream one row at a time, optionally with the
+ * archived ones merged in by id.
+ * <p>
+ * Rows come from database cursors and each entity is detached as soon as it has
+ * been read, so the persistence context never grows and heap use is independent
+ * of the table size.
+ */
+@Service
+public class ApplicationExportService {
+    
+    private final JobApplicationRepository repository;
+    private final ArchivedApplicationRepository archiveRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    public ApplicationExportService(JobApplicationRepository repository,
+                                    ArchivedApplicationRepository archiveRepository,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Writes the applications in id order and returns the number of rows written.
+     * Archived applications are left out, as in the listings, unless
+     * {@code includeArchived} is set. The caller owns {@code out} and is responsible
+     * for closing it.
+     */
+    @Transactional(readOnly = true)
+    public long export(BulkFormat format, boolean includeArchived, OutputStream out) throws IOException {
+        try (Stream<JobApplicationResponse> hot = repository.streamAllOrderById().map(this::toResponse);
+             Stream<JobApplicationResponse> archived = includeArchived
+                 ? archiveRepository.streamAllOrderById().map(this::toResponse)
+                 : Stream.empty()) {
+            Iterator<JobApplicationResponse> rows = mergeById(hot.iterator(), archived.iterator());
+            return switch (format) {
+                case NDJSON -> writeNdjson(rows, out);
+                case CSV -> writeCsv(rows, out);
+            };
+        }
+    }
+    
+    private long writeNdjson(Iterator<JobApplicationResponse> rows, OutputStream out) throws IOException {
+        long written = 0;
+        try (SequenceWriter writer = objectMapper.writerFor(JobApplicationResponse.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                written++;
+            }
+        }
+        if (written > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return written;
+    }
+    
+    private long writeCsv(Iterator<JobApplicationResponse> rows, OutputStream out) throws IOException {
+        long written = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ApplicationCsv.writeHeader(writer);
+        while (rows.hasNext()) {
+            ApplicationCsv.writeRow(writer, rows.next());
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+    
+    private JobApplicationResponse toResponse(JobApplication entity) {
+        JobApplicationResponse response = JobApplicationResponse.fromEntity(entity);
+        entityManager.detach(entity);
+        return response;
+    }
+    
+    private JobApplicationResponse toResponse(ArchivedApplication entity) {
+        JobApplicationResponse response = JobApplicationResponse.fromArchived(entity);
+        entityManager.detach(entity);
+        return response;
+    }
+    
+    /**
+     * Merges two cursors sorted by id. A row archived while the export runs can be
+     * read from both tables and is written once.
+     */
+    static Iterator<JobApplicationResponse> mergeById(Iterator<JobApplicationResponse> hot,
+                                                      Iterator<JobApplicationResponse> archived) {
+        return new Iterator<>() {
+            private JobApplicationResponse nextHot = hot.hasNext() ? hot.next() : null;
+            private JobApplicationResponse nextArchived = archived.hasNext() ? archived.next() : null;
+            
+            @Override
+            public boolean hasNext() {
+                return nextHot != null || nextArchived != null;
+            }
+            
+            @Override
+            public JobApplicationResponse next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                JobApplicationResponse row;
+                if (nextArchived == null || (nextHot != null && nextHot.id() <= nextArchived.id())) {
+                    row = nextHot;
+                    nextHot = hot.hasNext() ? hot.next() : null;
+                } else {
+                    row = nextArchived;
+                }
+                if (nextArchived != null && nextArchived.id().equals(row.id())) {
+                    nextArchived = archived.hasNext() ? archived.next() : null;
+                }
+                return row;
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobtracker.bulk;
+
+import com.jobtracker.dto.ImportJobStatus;
+import com.jobtracker.service.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Starts bulk imports and reports their progress.
+ * <p>
+ * The upload is first spooled to a temporary file, so the request completes as
+ * soon as the body has been received and the import itself runs asynchronously
+ * in an {@link ImportPipeline}. The most recent jobs are kept for status queries.
+ */
+@Service
+public class ApplicationImportService {
+    
+    private final ImportPipeline pipeline;
+    private final int maxErrors;
+    private final int retainedJobs;
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+    
+    ApplicationImportService(ImportPipeline pipeline,
+                             @Value("${jobtracker.import.max-errors:1000}") int maxErrors,
+                             @Value("${jobtracker.import.retained-jobs:20}") int retainedJobs) {
+        this.pipeline = pipeline;
+        this.maxErrors = maxErrors;
+        this.retainedJobs = retainedJobs;
+    }
+    
+    public ImportJobStatus startImport(BulkFormat format, InputStream body) throws IOException {
+        Path file = Files.createTempFile("jobtracker-import-", "." + format.getFileExtension());
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, maxErrors);
+        register(job);
+        pipeline.run(job, file);
+        return job.toStatus();
+    }
+    
+    public ImportJobStatus getStatus(String id) {
+        ImportJob job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found with id: " + id);
+        }
+        return job.toStatus();
+    }
+    
+    private void register(ImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            // Forget the oldest finished jobs; running ones stay until they finish
+            Iterator<ImportJob> oldest = jobs.values().iterator();
+            while (jobs.size() > retainedJobs && oldest.hasNext()) {
+                if (oldest.next().isFinished()) {
+                    oldest.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobtracker.bulk;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Line-oriented formats supported by the bulk export and import endpoints.
+ */
+public enum BulkFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+    
+    private final MediaType mediaType;
+    private final String fileExtension;
+    
+    BulkFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+    
+    /**
+     * The format whose media type includes {@code contentType}, or null.
+     */
+    public static BulkFormat forContentType(MediaType contentType) {
+        for (BulkFormat format : values()) {
+            if (contentType != null && format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.jobtracker.bulk;
+
+import com.jobtracker.dto.ImportJobStatus;
+import com.jobtracker.dto.ImportJobStatus.LineError;
+import com.jobtracker.dto.ImportJobStatus.State;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import, updated concurrently by the pipeline stages and read by
+ * status requests.
+ */
+class ImportJob {
+    
+    private final String id;
+    private final BulkFormat format;
+    private final int maxErrors;
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Queue<LineError> errors = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retainedErrors = new AtomicInteger();
+    private volatile State state = State.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+    
+    ImportJob(String id, BulkFormat format, int maxErrors) {
+        this.id = id;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+    
+    String getId() {
+        return id;
+    }
+    
+    BulkFormat getFormat() {
+        return format;
+    }
+    
+    boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+    
+    void started() {
+        startedAt = LocalDateTime.now();
+        state = State.RUNNING;
+    }
+    
+    void finished(State finalState, String finalMessage) {
+        message = finalMessage;
+        finishedAt = LocalDateTime.now();
+        state = finalState;
+    }
+    
+    void recordRead() {
+        records.incrementAndGet();
+    }
+    
+    void imported(int count) {
+        imported.addAndGet(count);
+    }
+    
+    void failed(long line, List<String> lineErrors) {
+        failed.incrementAndGet();
+        // Keep the first few; the count above stays exact
+        if (retainedErrors.incrementAndGet() <= maxErrors) {
+            errors.add(new LineError(line, lineErrors));
+        }
+    }
+    
+    ImportJobStatus toStatus() {
+        LocalDateTime start = startedAt;
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = start != null ? Math.max(Duration.between(start, end).toMillis(), 1) : 0;
+        long done = imported.get() + failed.get();
+        double rate = millis > 0 ? done * 1000.0 / millis : 0.0;
+        return new ImportJobStatus(id, format.name(), state, records.get(), imported.get(), failed.get(),
+            Math.round(rate * 10) / 10.0, start, finishedAt, message, List.copyOf(errors));
+    }
+}
@@ -0,0 +1,370 @@
+package com.jobtracker.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.jobtracker.dto.ImportJobStatus.State;
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.service.JobApplicationBatchService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs an import as three stages connected by bounded queues:
+ * <ol>
+ *   <li>a reader splits the file into records and hands them on in chunks,</li>
+ *   <li>{@code parallelism} parsers turn records into {@link JobApplicationRequest}s and
+ *       validate them, recording failures per line,</li>
+ *   <li>a writer inserts valid requests through {@link JobApplicationBatchService}, one
+ *       transaction per {@code chunk-size} rows.</li>
+ * </ol>
+ * A full queue blocks the stage feeding it, so at most a few chunks per stage are in
+ * memory whatever the size of the file. The reader and parsers of every import share
+ * one pool of {@code parallelism + 1} threads; tasks start in submission order, so
+ * concurrent imports queue behind each other rather than adding threads.
+ */
+@Component
+class ImportPipeline {
+    
+    private static final Logger log = LoggerFactory.getLogger(ImportPipeline.class);
+    
+    /** A record longer than this is almost certainly an unbalanced quote swallowing the file. */
+    private static final int MAX_RECORD_CHARS = 1 << 20;
+    
+    private final JobApplicationBatchService batchService;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ExecutorService stages;
+    
+    ImportPipeline(JobApplicationBatchService batchService,
+                   Validator validator,
+                   ObjectMapper objectMapper,
+                   @Value("${jobtracker.import.chunk-size:1000}") int chunkSize,
+                   @Value("${jobtracker.import.parallelism:0}") int parallelism) {
+        this.batchService = batchService;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(JobApplicationRequest.class);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threads = new AtomicInteger();
+        this.stages = Executors.newFixedThreadPool(this.parallelism + 1,
+            task -> new Thread(task, "import-" + threads.incrementAndGet()));
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        stages.shutdownNow();
+    }
+    
+    /**
+     * Imports {@code file} into the database, then deletes it.
+     */
+    @Async
+    public void run(ImportJob job, Path file) {
+        job.started();
+        // Fresh lists rather than List.of(): the sentinels are compared by identity
+        List<RawRecord> endOfRecords = new ArrayList<>();
+        List<ParsedRecord> endOfParsed = new ArrayList<>();
+        BlockingQueue<List<RawRecord>> records = new ArrayBlockingQueue<>(2 * parallelism);
+        BlockingQueue<List<ParsedRecord>> parsed = new ArrayBlockingQueue<>(2 * parallelism);
+        AtomicReference<Exception> readFailure = new AtomicReference<>();
+        // Set by the reader before it queues any record, so parsers always see it
+        AtomicReference<CsvHeader> header = new AtomicReference<>();
+        List<Future<?>> tasks = new ArrayList<>(parallelism + 1);
+        try {
+            tasks.add(stages.submit(() -> read(job, file, header, records, endOfRecords, readFailure)));
+            for (int i = 0; i < parallelism; i++) {
+                tasks.add(stages.submit(() -> parse(job, header, records, endOfRecords, parsed, endOfParsed)));
+            }
+            write(job, parsed, endOfParsed);
+            
+            Exception failure = readFailure.get();
+            if (failure != null) {
+                job.finished(State.FAILED, "Stopped reading the file: " + failure.getMessage());
+            } else {
+                job.finished(State.COMPLETED, null);
+            }
+            log.info("Import {} {}: {}", job.getId(), failure != null ? "failed" : "completed", job.toStatus());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finished(State.FAILED, "Interrupted");
+        } catch (RuntimeException e) {
+            log.error("Import {} failed", job.getId(), e);
+            job.finished(State.FAILED, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        } finally {
+            // Frees stages still blocked on a queue after a failure; finished ones are unaffected
+            tasks.forEach(task -> task.cancel(true));
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+    
+    private void read(ImportJob job, Path file, AtomicReference<CsvHeader> header,
+                      BlockingQueue<List<RawRecord>> out, List<RawRecord> end, AtomicReference<Exception> failure) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), 1 << 16)) {
+            long lineNumber = 0;
+            String line;
+            List<RawRecord> chunk = new ArrayList<>(chunkSize);
+            StringBuilder record = new StringBuilder();
+            boolean open = false;
+            long recordStart = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (record.isEmpty()) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    recordStart = lineNumber;
+                } else {
+                    record.append('\n');
+                }
+                record.append(line);
+                if (job.getFormat() == BulkFormat.CSV && ApplicationCsv.togglesQuote(line)) {
+                    open = !open;
+                }
+                if (open) {
+                    if (record.length() > MAX_RECORD_CHARS) {
+                        throw new IllegalArgumentException("Record starting on line " + recordStart
+                            + " exceeds " + MAX_RECORD_CHARS + " characters; is a quote unbalanced?");
+                    }
+                    continue;
+                }
+                if (job.getFormat() == BulkFormat.CSV && header.get() == null) {
+                    header.set(CsvHeader.parse(record.toString()));
+                } else {
+                    chunk.add(new RawRecord(recordStart, record.toString()));
+                }
+                record.setLength(0);
+                if (chunk.size() == chunkSize) {
+                    out.put(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!record.isEmpty()) {
+                chunk.add(new RawRecord(recordStart, record.toString()));
+            }
+            if (!chunk.isEmpty()) {
+                out.put(chunk);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (IOException | RuntimeException e) {
+            failure.set(e);
+        }
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                out.put(end);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void parse(ImportJob job, AtomicReference<CsvHeader> header, BlockingQueue<List<RawRecord>> in,
+                       List<RawRecord> endIn, BlockingQueue<List<ParsedRecord>> out, List<ParsedRecord> endOut) {
+        try {
+            try {
+                List<RawRecord> chunk;
+                while ((chunk = in.take()) != endIn) {
+                    List<ParsedRecord> valid = new ArrayList<>(chunk.size());
+                    for (RawRecord record : chunk) {
+                        job.recordRead();
+                        List<String> errors = new ArrayList<>();
+                        JobApplicationRequest request = job.getFormat() == BulkFormat.CSV
+                            ? fromCsv(record.text(), header.get(), errors)
+                            : fromJson(record.text(), errors);
+                        if (request != null) {
+                            validate(request, errors);
+                        }
+                        if (errors.isEmpty()) {
+                            valid.add(new ParsedRecord(record.line(), request));
+                        } else {
+                            job.failed(record.line(), errors);
+                        }
+                    }
+                    if (!valid.isEmpty()) {
+                        out.put(valid);
+                    }
+                }
+            } finally {
+                out.put(endOut);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void write(ImportJob job, BlockingQueue<List<ParsedRecord>> in, List<ParsedRecord> end)
+            throws InterruptedException {
+        List<ParsedRecord> pending = new ArrayList<>(chunkSize);
+        int finishedParsers = 0;
+        while (finishedParsers < parallelism) {
+            List<ParsedRecord> chunk = in.take();
+            if (chunk == end) {
+                finishedParsers++;
+                continue;
+            }
+            pending.addAll(chunk);
+            if (pending.size() >= chunkSize) {
+                insert(job, pending);
+                pending = new ArrayList<>(chunkSize);
+            }
+        }
+        insert(job, pending);
+    }
+    
+    private void insert(ImportJob job, List<ParsedRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            job.imported(batchService.insertValidated(records.stream().map(ParsedRecord::request).toList()));
+        } catch (RuntimeException e) {
+            // The whole transaction rolled back; report its lines and carry on with the next
+            List<String> errors = List.of("Not saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            log.warn("Import {} could not save {} records", job.getId(), records.size(), e);
+            for (ParsedRecord record : records) {
+                job.failed(record.line(), errors);
+            }
+        }
+    }
+    
+    private JobApplicationRequest fromJson(String text, List<String> errors) {
+        try {
+            return requestReader.readValue(text);
+        } catch (ValueInstantiationException e) {
+            // Record compact constructors (e.g. the salary range check) fail during deserialization
+            errors.add(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        } catch (JsonProcessingException e) {
+            errors.add("Malformed JSON: " + e.getOriginalMessage());
+        }
+        return null;
+    }
+    
+    private static JobApplicationRequest fromCsv(String text, CsvHeader header, List<String> errors) {
+        List<String> fields;
+        try {
+            fields = ApplicationCsv.parseRecord(text);
+        } catch (IllegalArgumentException e) {
+            errors.add(e.getMessage());
+            return null;
+        }
+        ApplicationStatus status = null;
+        String statusText = header.get(fields, "status");
+        if (statusText != null) {
+            try {
+                status = ApplicationStatus.valueOf(statusText.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                errors.add("status: unknown status '" + statusText + "'");
+            }
+        }
+        Integer salaryMin = integer(header.get(fields, "salaryMin"), "salaryMin", errors);
+        Integer salaryMax = integer(header.get(fields, "salaryMax"), "salaryMax", errors);
+        LocalDateTime appliedDate = null;
+        String appliedText = header.get(fields, "appliedDate");
+        if (appliedText != null) {
+            try {
+                appliedDate = LocalDateTime.parse(appliedText.trim());
+            } catch (DateTimeParseException e) {
+                errors.add("appliedDate: expected an ISO date-time such as 2024-03-01T09:00:00");
+            }
+        }
+        if (!errors.isEmpty()) {
+            return null;
+        }
+        try {
+            return new JobApplicationRequest(header.get(fields, "companyName"), header.get(fields, "jobTitle"), status,
+                header.get(fields, "description"), header.get(fields, "notes"), header.get(fields, "location"),
+                header.get(fields, "jobUrl"), salaryMin, salaryMax, appliedDate);
+        } catch (IllegalArgumentException e) {
+            errors.add(e.getMessage());
+            return null;
+        }
+    }
+    
+    private static Integer integer(String text, String field, List<String> errors) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(text.trim());
+        } catch (NumberFormatException e) {
+            errors.add(field + ": expected a whole number");
+            return null;
+        }
+    }
+    
+    private void validate(JobApplicationRequest request, List<String> errors) {
+        validator.validate(request).stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .forEach(errors::add);
+    }
+    
+    /**
+     * Column positions from the header row; columns may come in any order and
+     * unknown ones (such as the export's {@code id}) are ignored.
+     */
+    private record CsvHeader(Map<String, Integer> positions) {
+        
+        static CsvHeader parse(String text) {
+            List<String> names = ApplicationCsv.parseRecord(text);
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i) != null) {
+                    positions.put(names.get(i).trim(), i);
+                }
+            }
+            return new CsvHeader(positions);
+        }
+        
+        String get(List<String> fields, String column) {
+            Integer position = positions.get(column);
+            return position != null && position < fields.size() ? fields.get(position) : null;
+        }
+    }
+    
+    private record RawRecord(long line, String text) {}
+    
+    private record ParsedRecord(long line, JobApplicationRequest request) {}
+}
@@ -0,0 +1,701 @@
+package com.jobtracker.columnar;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.StatusCount;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Applications stored column by column in primitive arrays, one slot per row.
+ * <p>
+ * Status is kept as an ordinal plus one bitmap per status, so a status filter is a
+ * word-wide OR over a few {@code long[]}s and a count is a lookup. Timestamps are
+ * epoch microseconds in {@code long[]}s (the precision H2 keeps), salaries are
+ * {@code int[]}s, and company, title and location are codes into a dictionary of
+ * distinct values that returned rows share. Description, notes and URL are nearly
+ * unique per row and are kept as plain references. A dictionary value is counted by
+ * the rows using it and its code is reused once none does.
+ * <p>
+ * A removed row's slot is cleared from every bitmap and reused by the next insert,
+ * so archival does not leave the scans longer. Rows are returned as new, detached
+ * entities or summaries. The store is safe for concurrent use.
+ */
+public class ApplicationColumns {
+    
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int NO_SALARY = Integer.MIN_VALUE;
+    private static final int NO_VALUE = -1;
+    private static final int FORMAT_VERSION = 1;
+    // Largest epoch second whose microseconds still fit in a long
+    private static final long MAX_SECONDS = Long.MAX_VALUE / 1_000_000 - 1;
+    
+    // Status masks, a bit per ordinal
+    static final int ACTIVE = mask(ApplicationStatus::isActive);
+    static final int IN_INTERVIEW = mask(ApplicationStatus::isInInterviewProcess);
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, Integer> codesByValue = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    // Rows using each value, indexed by code; a code with no rows is on the free list
+    private int[] valueUses = new int[16];
+    private int[] freeCodes = new int[16];
+    private int freeCodeCount;
+    
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    
+    private long[] ids = new long[16];
+    private long[] versions = new long[16];
+    private byte[] statuses = new byte[16];
+    private int[] companyCodes = new int[16];
+    private int[] titleCodes = new int[16];
+    private int[] locationCodes = new int[16];
+    private String[] descriptions = new String[16];
+    private String[] notes = new String[16];
+    private String[] jobUrls = new String[16];
+    private int[] salaryMins = new int[16];
+    private int[] salaryMaxes = new int[16];
+    private long[] appliedDates = new long[16];
+    private long[] createdAts = new long[16];
+    private long[] updatedAts = new long[16];
+    private long[] statusChangedAts = new long[16];
+    
+    // One bit per slot for each status, indexed by ordinal
+    private final long[][] statusBits = new long[STATUSES.length][1];
+    private final int[] statusCounts = new int[STATUSES.length];
+    
+    /**
+     * Inserts or replaces the row with the same id. A row older than the stored one
+     * (by version) is ignored, so a stale read cannot undo a newer change.
+     */
+    public void put(JobApplicationResponse row) {
+        lock.writeLock().lock();
+        try {
+            long version = row.version() != null ? row.version() : 0;
+            Integer slot = slotsById.get(row.id());
+            if (slot != null) {
+                if (versions[slot] > version) {
+                    return;
+                }
+                unlinkStatus(slot);
+                releaseValues(slot);
+            } else {
+                slot = nextSlot();
+                slotsById.put(row.id(), slot);
+            }
+            ids[slot] = row.id();
+            versions[slot] = version;
+            statuses[slot] = (byte) row.status().ordinal();
+            companyCodes[slot] = encode(row.companyName());
+            titleCodes[slot] = encode(row.jobTitle());
+            locationCodes[slot] = encode(row.location());
+            descriptions[slot] = row.description();
+            notes[slot] = row.notes();
+            jobUrls[slot] = row.jobUrl();
+            salaryMins[slot] = row.salaryMin() != null ? row.salaryMin() : NO_SALARY;
+            salaryMaxes[slot] = row.salaryMax() != null ? row.salaryMax() : NO_SALARY;
+            appliedDates[slot] = micros(row.appliedDate());
+            createdAts[slot] = micros(row.createdAt());
+            updatedAts[slot] = micros(row.updatedAt());
+            statusChangedAts[slot] = micros(row.statusChangedAt());
+            statusBits[statuses[slot]][slot >>> 6] |= 1L << slot;
+            statusCounts[statuses[slot]]++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            unlinkStatus(slot);
+            releaseValues(slot);
+            // NO_TIME never falls in a date range, so scans need no liveness check
+            createdAts[slot] = NO_TIME;
+            descriptions[slot] = null;
+            notes[slot] = null;
+            jobUrls[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Drops every row whose id is not in {@code sortedIds}.
+     */
+    public int retainOnly(long[] sortedIds) {
+        lock.writeLock().lock();
+        try {
+            List<Long> stale = new ArrayList<>();
+            for (Long id : slotsById.keySet()) {
+                if (Arrays.binarySearch(sortedIds, id) < 0) {
+                    stale.add(id);
+                }
+            }
+            stale.forEach(this::remove);
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            codesByValue.clear();
+            values.clear();
+            Arrays.fill(valueUses, 0);
+            freeCodeCount = 0;
+            slotsById.clear();
+            slotCount = 0;
+            freeCount = 0;
+            Arrays.fill(descriptions, null);
+            Arrays.fill(notes, null);
+            Arrays.fill(jobUrls, null);
+            for (long[] bits : statusBits) {
+                Arrays.fill(bits, 0);
+            }
+            Arrays.fill(statusCounts, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public long count(ApplicationStatus status) {
+        lock.readLock().lock();
+        try {
+            return statusCounts[status.ordinal()];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Row counts per status, leaving out statuses with no rows as {@code GROUP BY} does.
+     */
+    public List<StatusCount> countByStatus() {
+        lock.readLock().lock();
+        try {
+            List<StatusCount> counts = new ArrayList<>(STATUSES.length);
+            for (ApplicationStatus status : STATUSES) {
+                if (statusCounts[status.ordinal()] > 0) {
+                    counts.add(new Count(status, statusCounts[status.ordinal()]));
+                }
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Entities whose status is in {@code statusMask} (a bit per ordinal), in slot order.
+     */
+    public List<JobApplication> entities(int statusMask) {
+        lock.readLock().lock();
+        try {
+            int[] slots = select(statusMask);
+            return rows(slots, 0, slots.length, this::entity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<JobApplicationSummary> summaries(int statusMask) {
+        lock.readLock().lock();
+        try {
+            int[] slots = select(statusMask);
+            return rows(slots, 0, slots.length, this::summary);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Entities whose status is in {@code statusMask}, most recently updated first
+     * (ties by id, highest first).
+     */
+    public List<JobApplication> newestEntities(int statusMask) {
+        lock.readLock().lock();
+        try {
+            int[] slots = select(statusMask);
+            return rows(newestFirst(slots, slots.length), 0, slots.length, this::entity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Rows {@code offset} to {@code offset + limit} of {@link #newestEntities} as summaries.
+     * Only that prefix of the matches is ordered.
+     */
+    public List<JobApplicationSummary> newestSummaries(int statusMask, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] slots = select(statusMask);
+            int end = (int) Math.min(slots.length, offset + limit);
+            return rows(newestFirst(slots, end), (int) Math.min(offset, end), end, this::summary);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Entities created between {@code start} and {@code end}, both inclusive, in slot order.
+     */
+    public List<JobApplication> createdBetween(LocalDateTime start, LocalDateTime end) {
+        long from = micros(start);
+        long to = micros(end);
+        lock.readLock().lock();
+        try {
+            long[] created = createdAts;
+            int[] slots = new int[16];
+            int count = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                long time = created[slot];
+                if (time >= from && time <= to) {
+                    if (count == slots.length) {
+                        slots = Arrays.copyOf(slots, count * 2);
+                    }
+                    slots[count++] = slot;
+                }
+            }
+            return rows(slots, 0, count, this::entity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Writes the dictionary values in use and the live rows in slot order, with column
+     * values as stored, so reading them back needs no timestamp conversion or re-encoding.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(values.size() - freeCodeCount);
+            // Codes renumbered without the free ones
+            int[] written = new int[values.size()];
+            int next = 0;
+            for (int code = 0; code < values.size(); code++) {
+                if (valueUses[code] > 0) {
+                    out.writeUTF(values.get(code));
+                    written[code] = next++;
+                }
+            }
+            out.writeInt(slotsById.size());
+            for (int slot = 0; slot < slotCount; slot++) {
+                // A free slot keeps the id of the row removed from it
+                Integer live = slotsById.get(ids[slot]);
+                if (live == null || live != slot) {
+                    continue;
+                }
+                out.writeLong(ids[slot]);
+                out.writeLong(versions[slot]);
+                out.writeByte(statuses[slot]);
+                out.writeInt(writtenCode(written, companyCodes[slot]));
+                out.writeInt(writtenCode(written, titleCodes[slot]));
+                out.writeInt(writtenCode(written, locationCodes[slot]));
+                writeNullable(out, descriptions[slot]);
+                writeNullable(out, notes[slot]);
+                writeNullable(out, jobUrls[slot]);
+                out.writeInt(salaryMins[slot]);
+                out.writeInt(salaryMaxes[slot]);
+                out.writeLong(appliedDates[slot]);
+                out.writeLong(createdAts[slot]);
+                out.writeLong(updatedAts[slot]);
+                out.writeLong(statusChangedAts[slot]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Replaces the contents of these columns with ones previously written by {@link #writeTo}.
+     */
+    public void readFrom(DataInput in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported columns version " + version);
+        }
+        lock.writeLock().lock();
+        try {
+            clear();
+            int dictionarySize = in.readInt();
+            for (int code = 0; code < dictionarySize; code++) {
+                String value = in.readUTF();
+                codesByValue.put(value, code);
+                values.add(value);
+            }
+            if (dictionarySize > valueUses.length) {
+                valueUses = new int[dictionarySize];
+            }
+            int rows = in.readInt();
+            if (rows > ids.length) {
+                grow(rows);
+            }
+            for (int i = 0; i < rows; i++) {
+                int slot = nextSlot();
+                ids[slot] = in.readLong();
+                slotsById.put(ids[slot], slot);
+                versions[slot] = in.readLong();
+                statuses[slot] = in.readByte();
+                companyCodes[slot] = in.readInt();
+                titleCodes[slot] = in.readInt();
+                locationCodes[slot] = in.readInt();
+                useValues(slot);
+                descriptions[slot] = readNullable(in);
+                notes[slot] = readNullable(in);
+                jobUrls[slot] = readNullable(in);
+                salaryMins[slot] = in.readInt();
+                salaryMaxes[slot] = in.readInt();
+                appliedDates[slot] = in.readLong();
+                createdAts[slot] = in.readLong();
+                updatedAts[slot] = in.readLong();
+                statusChangedAts[slot] = in.readLong();
+                statusBits[statuses[slot]][slot >>> 6] |= 1L << slot;
+                statusCounts[statuses[slot]]++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Slots whose status is in the mask, ascending: the OR of the selected status
+     * bitmaps, decoded a word at a time.
+     */
+    private int[] select(int statusMask) {
+        int selectedCount = 0;
+        int rows = 0;
+        long[][] selected = new long[STATUSES.length][];
+        for (int ordinal = 0; ordinal < STATUSES.length; ordinal++) {
+            if ((statusMask & (1 << ordinal)) != 0) {
+                selected[selectedCount++] = statusBits[ordinal];
+                rows += statusCounts[ordinal];
+            }
+        }
+        int[] slots = new int[rows];
+        int count = 0;
+        int words = (slotCount + 63) >>> 6;
+        for (int word = 0; word < words; word++) {
+            long bits = 0;
+            for (int i = 0; i < selectedCount; i++) {
+                bits |= selected[i][word];
+            }
+            while (bits != 0) {
+                slots[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return slots;
+    }
+    
+    /**
+     * Orders the first {@code limit} positions of {@code slots} newest first. A short
+     * prefix (a page) is found by insertion into a bounded buffer, which touches each
+     * slot once; a long one by a merge sort of the whole array.
+     */
+    private int[] newestFirst(int[] slots, int limit) {
+        if (limit <= 0) {
+            return slots;
+        }
+        if (limit >= slots.length / 4) {
+            return mergeSort(slots);
+        }
+        int[] top = new int[limit];
+        int count = 0;
+        for (int slot : slots) {
+            if (count == limit && !newer(slot, top[limit - 1])) {
+                continue;
+            }
+            int i = Math.min(count, limit - 1);
+            while (i > 0 && newer(slot, top[i - 1])) {
+                top[i] = top[i - 1];
+                i--;
+            }
+            top[i] = slot;
+            count = Math.min(count + 1, limit);
+        }
+        return top;
+    }
+    
+    private int[] mergeSort(int[] slots) {
+        int length = slots.length;
+        int[] source = slots;
+        int[] target = new int[length];
+        for (int width = 1; width < length; width <<= 1) {
+            for (int low = 0; low < length; low += width << 1) {
+                int middle = Math.min(low + width, length);
+                int high = Math.min(low + (width << 1), length);
+                int left = low;
+                int right = middle;
+                int out = low;
+                while (left < middle && right < high) {
+                    target[out++] = newer(source[right], source[left]) ? source[right++] : source[left++];
+                }
+                while (left < middle) {
+                    target[out++] = source[left++];
+                }
+                while (right < high) {
+                    target[out++] = source[right++];
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return source;
+    }
+    
+    private boolean newer(int slot, int other) {
+        long updated = updatedAts[slot];
+        long otherUpdated = updatedAts[other];
+        return updated != otherUpdated ? updated > otherUpdated : ids[slot] > ids[other];
+    }
+    
+    private static <T> List<T> rows(int[] slots, int from, int to, IntFunction<T> row) {
+        List<T> rows = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            rows.add(row.apply(slots[i]));
+        }
+        return rows;
+    }
+    
+    private JobApplication entity(int slot) {
+        JobApplication entity = new JobApplication();
+        entity.setId(ids[slot]);
+        entity.setCompanyName(decode(companyCodes[slot]));
+        entity.setJobTitle(decode(titleCodes[slot]));
+        // Before setStatusChangedAt, since setStatus stamps the change time
+        entity.setStatus(STATUSES[statuses[slot]]);
+        entity.setStatusChangedAt(time(statusChangedAts[slot]));
+        entity.setDescription(descriptions[slot]);
+        entity.setNotes(notes[slot]);
+        entity.setLocation(decode(locationCodes[slot]));
+        entity.setJobUrl(jobUrls[slot]);
+        entity.setSalaryMin(salaryMins[slot] != NO_SALARY ? salaryMins[slot] : null);
+        entity.setSalaryMax(salaryMaxes[slot] != NO_SALARY ? salaryMaxes[slot] : null);
+        entity.setAppliedDate(time(appliedDates[slot]));
+        entity.setCreatedAt(time(createdAts[slot]));
+        entity.setUpdatedAt(time(updatedAts[slot]));
+        entity.setVersion(versions[slot]);
+        return entity;
+    }
+    
+    private JobApplicationSummary summary(int slot) {
+        return new JobApplicationSummary(ids[slot], decode(companyCodes[slot]), decode(titleCodes[slot]),
+            STATUSES[statuses[slot]], time(appliedDates[slot]), time(createdAts[slot]), time(updatedAts[slot]));
+    }
+    
+    private void unlinkStatus(int slot) {
+        statusBits[statuses[slot]][slot >>> 6] &= ~(1L << slot);
+        statusCounts[statuses[slot]]--;
+    }
+    
+    private int nextSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            grow(slotCount * 2);
+        }
+        return slotCount++;
+    }
+    
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        companyCodes = Arrays.copyOf(companyCodes, capacity);
+        titleCodes = Arrays.copyOf(titleCodes, capacity);
+        locationCodes = Arrays.copyOf(locationCodes, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        notes = Arrays.copyOf(notes, capacity);
+        jobUrls = Arrays.copyOf(jobUrls, capacity);
+        salaryMins = Arrays.copyOf(salaryMins, capacity);
+        salaryMaxes = Arrays.copyOf(salaryMaxes, capacity);
+        appliedDates = Arrays.copyOf(appliedDates, capacity);
+        createdAts = Arrays.copyOf(createdAts, capacity);
+        updatedAts = Arrays.copyOf(updatedAts, capacity);
+        statusChangedAts = Arrays.copyOf(statusChangedAts, capacity);
+        int words = (capacity + 63) >>> 6;
+        for (int ordinal = 0; ordinal < STATUSES.length; ordinal++) {
+            statusBits[ordinal] = Arrays.copyOf(statusBits[ordinal], words);
+        }
+    }
+    
+    /**
+     * Code for {@code value}, counting one more row using it.
+     */
+    private int encode(String value) {
+        if (value == null) {
+            return NO_VALUE;
+        }
+        Integer code = codesByValue.get(value);
+        if (code == null) {
+            if (freeCodeCount > 0) {
+                code = freeCodes[--freeCodeCount];
+                values.set(code, value);
+            } else {
+                code = values.size();
+                values.add(value);
+                if (code == valueUses.length) {
+                    valueUses = Arrays.copyOf(valueUses, code * 2);
+                }
+            }
+            codesByValue.put(value, code);
+        }
+        valueUses[code]++;
+        return code;
+    }
+    
+    private void useValues(int slot) {
+        use(companyCodes[slot]);
+        use(titleCodes[slot]);
+        use(locationCodes[slot]);
+    }
+    
+    private void use(int code) {
+        if (code != NO_VALUE) {
+            valueUses[code]++;
+        }
+    }
+    
+    private void releaseValues(int slot) {
+        release(companyCodes[slot]);
+        release(titleCodes[slot]);
+        release(locationCodes[slot]);
+    }
+    
+    private void release(int code) {
+        if (code == NO_VALUE || --valueUses[code] > 0) {
+            return;
+        }
+        codesByValue.remove(values.set(code, null));
+        if (freeCodeCount == freeCodes.length) {
+            freeCodes = Arrays.copyOf(freeCodes, freeCodeCount * 2);
+        }
+        freeCodes[freeCodeCount++] = code;
+    }
+    
+    private static int writtenCode(int[] written, int code) {
+        return code != NO_VALUE ? written[code] : NO_VALUE;
+    }
+    
+    /**
+     * Number of dictionary codes held, free ones included.
+     */
+    int dictionarySize() {
+        lock.readLock().lock();
+        try {
+            return values.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private String decode(int code) {
+        return code != NO_VALUE ? values.get(code) : null;
+    }
+    
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+    
+    static long micros(LocalDateTime time) {
+        if (time == null) {
+            return NO_TIME;
+        }
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        if (seconds > MAX_SECONDS) {
+            return Long.MAX_VALUE;
+        }
+        if (seconds < -MAX_SECONDS) {
+            return NO_TIME + 1;
+        }
+        // Rounded like H2 rounds a TIMESTAMP(6), so the columns hold what the table holds
+        return seconds * 1_000_000 + (time.getNano() + 500) / 1_000;
+    }
+    
+    static LocalDateTime time(long micros) {
+        if (micros == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+    
+    private static int mask(Predicate<ApplicationStatus> included) {
+        int mask = 0;
+        for (ApplicationStatus status : STATUSES) {
+            if (included.test(status)) {
+                mask |= mask(status);
+            }
+        }
+        return mask;
+    }
+    
+    static int mask(ApplicationStatus status) {
+        return 1 << status.ordinal();
+    }
+    
+    private record Count(ApplicationStatus status, long count) implements StatusCount {
+        
+        @Override
+        public ApplicationStatus getStatus() {
+            return status;
+        }
+        
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+}
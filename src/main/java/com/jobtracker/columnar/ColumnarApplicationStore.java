@@ -0,0 +1,104 @@
+package com.jobtracker.columnar;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationsArchivedEvent;
+import com.jobtracker.service.ApplicationsImportedEvent;
+import com.jobtracker.service.DataVersionTracker;
+import com.jobtracker.snapshot.SnapshotContributor;
+import com.jobtracker.snapshot.SnapshotManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Keeps {@link ApplicationColumns} in step with {@code job_applications}, which stays
+ * the store of record. The columns are loaded at startup by {@link SnapshotManager}
+ * and then follow committed {@link ApplicationChangedEvent}s; archived rows are dropped.
+ * <p>
+ * Until the load finishes, {@link #columns()} returns null and reads go to the database.
+ */
+@Component
+@Profile(ColumnarStoreConfig.PROFILE)
+public class ColumnarApplicationStore implements SnapshotContributor {
+    
+    private final ApplicationColumns columns = new ApplicationColumns();
+    private volatile boolean loaded;
+    
+    // Before the version bump, so a client revalidating its ETag reads the change
+    @Order(DataVersionTracker.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.after() != null) {
+            columns.put(event.after());
+        } else {
+            columns.remove(event.id());
+        }
+    }
+    
+    @Order(DataVersionTracker.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsArchived(ApplicationsArchivedEvent event) {
+        event.ids().forEach(columns::remove);
+    }
+    
+    @Order(DataVersionTracker.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        event.created().forEach(columns::put);
+    }
+    
+    /**
+     * The loaded columns, or null while they are still being loaded.
+     */
+    public ApplicationColumns columns() {
+        return loaded ? columns : null;
+    }
+    
+    @Override
+    public String section() {
+        return "columns";
+    }
+    
+    @Override
+    public void writeSnapshot(DataOutput out) throws IOException {
+        columns.writeTo(out);
+    }
+    
+    @Override
+    public void readSnapshot(DataInput in) throws IOException {
+        columns.readFrom(in);
+    }
+    
+    @Override
+    public void apply(JobApplication application) {
+        columns.put(JobApplicationResponse.fromEntity(application));
+    }
+    
+    @Override
+    public int retainOnly(long[] sortedIds) {
+        return columns.retainOnly(sortedIds);
+    }
+    
+    @Override
+    public int size() {
+        return columns.size();
+    }
+    
+    @Override
+    public void clear() {
+        loaded = false;
+        columns.clear();
+    }
+    
+    @Override
+    public void loaded() {
+        loaded = true;
+    }
+}
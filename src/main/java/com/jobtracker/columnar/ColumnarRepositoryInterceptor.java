@@ -0,0 +1,65 @@
+package com.jobtracker.columnar;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Answers the status, count and date-range reads of {@code JobApplicationRepository}
+ * from {@link ApplicationColumns} instead of running the query. Every other method,
+ * and any call made before the columns are loaded, proceeds to JPA.
+ * <p>
+ * Reads inside a read-write transaction also proceed: the columns only see committed
+ * changes, and such a transaction may be reading its own.
+ */
+public class ColumnarRepositoryInterceptor implements MethodInterceptor {
+    
+    private final Supplier<ColumnarApplicationStore> store;
+    
+    public ColumnarRepositoryInterceptor(Supplier<ColumnarApplicationStore> store) {
+        this.store = store;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ApplicationColumns columns = store.get().columns();
+        if (columns == null || inReadWriteTransaction()) {
+            return invocation.proceed();
+        }
+        Object[] args = invocation.getArguments();
+        return switch (invocation.getMethod().getName() + "/" + args.length) {
+            case "count/0" -> (long) columns.size();
+            case "countByStatus/1" -> columns.count((ApplicationStatus) args[0]);
+            case "countGroupedByStatus/0" -> columns.countByStatus();
+            case "findByStatus/1" -> columns.entities(ApplicationColumns.mask((ApplicationStatus) args[0]));
+            case "findSummariesByStatus/1" -> columns.summaries(ApplicationColumns.mask((ApplicationStatus) args[0]));
+            case "findActiveApplications/0" -> columns.newestEntities(ApplicationColumns.ACTIVE);
+            case "findActiveSummaries/0" -> columns.newestSummaries(ApplicationColumns.ACTIVE, 0, Integer.MAX_VALUE);
+            case "findActiveSummaries/1" -> page(columns, ApplicationColumns.ACTIVE, (Pageable) args[0]);
+            case "findApplicationsInInterview/0" -> columns.newestEntities(ApplicationColumns.IN_INTERVIEW);
+            case "findSummariesInInterview/0" ->
+                columns.newestSummaries(ApplicationColumns.IN_INTERVIEW, 0, Integer.MAX_VALUE);
+            case "findSummariesInInterview/1" -> page(columns, ApplicationColumns.IN_INTERVIEW, (Pageable) args[0]);
+            case "findByCreatedAtBetween/2" ->
+                columns.createdBetween((LocalDateTime) args[0], (LocalDateTime) args[1]);
+            default -> invocation.proceed();
+        };
+    }
+    
+    private static Object page(ApplicationColumns columns, int statusMask, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return columns.newestSummaries(statusMask, 0, Integer.MAX_VALUE);
+        }
+        return columns.newestSummaries(statusMask, pageable.getOffset(), pageable.getPageSize());
+    }
+    
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
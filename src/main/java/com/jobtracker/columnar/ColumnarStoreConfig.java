@@ -0,0 +1,39 @@
+package com.jobtracker.columnar;
+
+import com.jobtracker.repository.JobApplicationRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * In-memory columnar reads, enabled with the {@value #PROFILE} profile. Adds
+ * {@link ColumnarRepositoryInterceptor} to the {@link JobApplicationRepository}
+ * proxy; writes still go through JPA to H2.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(ColumnarStoreConfig.PROFILE)
+public class ColumnarStoreConfig {
+    
+    public static final String PROFILE = "columnar";
+    
+    @Bean
+    static BeanPostProcessor columnarRepositoryPostProcessor(ObjectProvider<ColumnarApplicationStore> store) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxy, information) -> {
+                            if (information.getRepositoryInterface() == JobApplicationRepository.class) {
+                                proxy.addAdvice(new ColumnarRepositoryInterceptor(store::getObject));
+                            }
+                        }));
+                }
+                return bean;
+            }
+        };
+    }
+}
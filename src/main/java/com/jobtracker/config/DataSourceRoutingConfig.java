@@ -0,0 +1,53 @@
+package com.jobtracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Two connection pools behind the application's single {@link DataSource}: read-only
+ * transactions run on the read pool, everything else on the write pool.
+ * <p>
+ * Both pools start from {@code spring.datasource.*}. The write pool takes the usual
+ * {@code spring.datasource.hikari.*} settings and the read pool its own
+ * {@code jobtracker.datasource.read.*} ones, so it can be sized separately or pointed
+ * at a replica with {@code jobtracker.datasource.read.jdbc-url}. Each pool is still a
+ * separate bean, so the virtual-thread limiter, query tracing and pool metrics apply
+ * to each one.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceRoutingConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("write");
+        return pool;
+    }
+    
+    @Bean
+    @ConfigurationProperties("jobtracker.datasource.read")
+    HikariDataSource readDataSource(DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("read");
+        pool.setReadOnly(true);
+        return pool;
+    }
+    
+    @Bean
+    @Primary
+    LazyConnectionDataSourceProxy dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                             @Qualifier("readDataSource") DataSource readDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(writeDataSource, readDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobtracker.config;
+
+import com.jobtracker.entity.JobApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the id sequence past existing rows before the application serves traffic.
+ * <p>
+ * Databases created while ids came from an IDENTITY column already hold rows when
+ * the sequence is first created, so it would start handing out ids that are taken.
+ * The pooled optimizer uses the block ending at the returned value, so the next value
+ * must be at least {@code MAX(id) + allocationSize}. Archived rows keep their ids, so
+ * both tiers count.
+ */
+@Component
+public class IdSequenceAligner implements InitializingBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceAligner.class);
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // Depending on the EntityManagerFactory guarantees the schema exists
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void afterPropertiesSet() {
+        Long maxId = jdbcTemplate.queryForObject(
+            "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM job_applications), 0), "
+                + "COALESCE((SELECT MAX(id) FROM job_applications_archive), 0))", Long.class);
+        Long nextValue = jdbcTemplate.queryForObject(
+            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE LOWER(SEQUENCE_NAME) = ?",
+            Long.class, JobApplication.ID_SEQUENCE);
+        
+        long required = maxId + JobApplication.ID_ALLOCATION_SIZE;
+        if (maxId > 0 && nextValue != null && nextValue < required) {
+            log.info("Restarting {} at {} to skip existing ids", JobApplication.ID_SEQUENCE, required);
+            jdbcTemplate.execute("ALTER SEQUENCE " + JobApplication.ID_SEQUENCE + " RESTART WITH " + required);
+        }
+    }
+}
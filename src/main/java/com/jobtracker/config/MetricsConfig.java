@@ -0,0 +1,34 @@
+package com.jobtracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Metrics beyond Spring Boot's defaults. Service timers come from {@code @Timed}
+ * (with {@code management.observations.annotations.enabled}), repository timers
+ * from Spring Data's invocation listener, and Hibernate statistics from
+ * {@code hibernate-micrometer}; this adds row counts per repository method.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+    
+    @Bean
+    static BeanPostProcessor repositoryRowCountPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Same hook Spring Boot uses to attach its repository invocation timers
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxy, information) -> proxy.addAdvice(new RepositoryRowCountInterceptor(
+                            registry::getObject, information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
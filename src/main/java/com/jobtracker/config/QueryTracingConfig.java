@@ -0,0 +1,72 @@
+package com.jobtracker.config;
+
+import com.jobtracker.jdbc.QueryStatsFilter;
+import com.jobtracker.jdbc.QueryStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Routes JDBC through datasource-proxy for per-request statement counts, JDBC
+ * time and rows read, plus the slow-query log. The proxy is applied to each
+ * connection pool after any other decoration, so it sees statements exactly as the
+ * application issues them and logs them under the pool that ran them. The routing
+ * {@link LazyConnectionDataSourceProxy} above the pools is left alone, so no
+ * statement is counted twice.
+ */
+@Configuration(proxyBeanMethods = false)
+public class QueryTracingConfig {
+    
+    // Concrete return type: the container reads Ordered from it before creating the bean
+    @Bean
+    static QueryTracingPostProcessor queryTracingDataSourcePostProcessor(Environment environment) {
+        return new QueryTracingPostProcessor(environment);
+    }
+    
+    @Bean
+    QueryStatsFilter queryStatsFilter(
+            @Value("${jobtracker.jdbc.max-statements-per-request:10}") int maxStatements,
+            @Value("${jobtracker.jdbc.max-rows-per-request:1000}") long maxRows) {
+        return new QueryStatsFilter(maxStatements, maxRows);
+    }
+    
+    private static final class QueryTracingPostProcessor implements BeanPostProcessor, Ordered {
+        
+        private final Environment environment;
+        
+        QueryTracingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+        
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                    && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                Duration slowQueryThreshold = environment.getProperty(
+                    "jobtracker.jdbc.slow-query-threshold", Duration.class, Duration.ofMillis(200));
+                QueryStatsListener listener = new QueryStatsListener(slowQueryThreshold);
+                return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(listener)
+                    .methodListener(listener)
+                    .proxyResultSet()
+                    .build();
+            }
+            return bean;
+        }
+        
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
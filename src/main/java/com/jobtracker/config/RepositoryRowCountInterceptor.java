@@ -0,0 +1,97 @@
+package com.jobtracker.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Records how many rows each repository read returns, as the
+ * {@value #METRIC} distribution tagged by repository and method.
+ * <p>
+ * Timing is left to Spring Boot's {@code spring.data.repository.invocations}
+ * timer; this adds the result size, which tells a slow query from a large one.
+ * Streams are counted as they are consumed and recorded when closed. Writes and
+ * scalar results (counts, existence checks) are not recorded.
+ */
+public class RepositoryRowCountInterceptor implements MethodInterceptor {
+    
+    public static final String METRIC = "jobtracker.repository.rows";
+    
+    private final Supplier<MeterRegistry> registry;
+    private final String repository;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    
+    public RepositoryRowCountInterceptor(Supplier<MeterRegistry> registry, Class<?> repositoryInterface) {
+        this.registry = registry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        Method method = invocation.getMethod();
+        if (!isRead(method)) {
+            return result;
+        }
+        if (result instanceof Stream<?> stream) {
+            LongAdder rows = new LongAdder();
+            DistributionSummary summary = summary(method);
+            return stream.peek(row -> rows.increment()).onClose(() -> summary.record(rows.sum()));
+        }
+        long rows = rows(result);
+        if (rows >= 0) {
+            summary(method).record(rows);
+        }
+        return result;
+    }
+    
+    private static boolean isRead(Method method) {
+        Class<?> type = method.getReturnType();
+        String name = method.getName();
+        return !(type.isPrimitive() || Number.class.isAssignableFrom(type) || type == Boolean.class
+            || name.startsWith("save") || name.startsWith("delete"));
+    }
+    
+    /**
+     * Rows in a query result, or -1 for results that are not rows.
+     */
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Map<?, ?> || result instanceof Iterable<?>) {
+            return -1;
+        }
+        return 1;
+    }
+    
+    private DistributionSummary summary(Method method) {
+        return summaries.computeIfAbsent(method, key -> DistributionSummary.builder(METRIC)
+            .description("Rows returned per repository call")
+            .baseUnit("rows")
+            .tag("repository", repository)
+            .tag("method", key.getName())
+            .publishPercentileHistogram()
+            .register(registry.get()));
+    }
+}
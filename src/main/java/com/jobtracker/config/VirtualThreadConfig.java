@@ -0,0 +1,69 @@
+package com.jobtracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Extra wiring for virtual-thread mode ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Spring Boot itself moves Tomcat request handling, the {@code applicationTaskExecutor}
+ * (used for async MVC such as streaming exports, and for {@code @Async}) and the task
+ * scheduler onto virtual threads. This adds the one piece virtual threads remove: a
+ * bound on concurrent database work, sized to the Hikari pool.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+    
+    /** Hikari's own default, applied only when the pool starts. */
+    private static final int DEFAULT_POOL_SIZE = 10;
+    
+    // Declared as the concrete type so the container sees Ordered and runs this first
+    @Bean
+    static PoolLimiterPostProcessor connectionPoolLimiter(Environment environment) {
+        return new PoolLimiterPostProcessor(environment);
+    }
+    
+    /**
+     * Runs first, so the limiter sits directly on the pool beneath any other
+     * DataSource decoration.
+     */
+    private static final class PoolLimiterPostProcessor implements BeanPostProcessor, Ordered {
+        
+        private final Environment environment;
+        
+        PoolLimiterPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+        
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                // Wait as long as Hikari would before reporting the pool exhausted
+                Duration maxWait = environment.getProperty("jobtracker.db.limiter.max-wait", Duration.class,
+                    Duration.ofMillis(hikari.getConnectionTimeout()));
+                int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+                log.info("Limiting concurrent database work on pool '{}' to {} connections (max wait {} ms)",
+                    hikari.getPoolName(), poolSize, maxWait.toMillis());
+                return new ConcurrencyLimitedDataSource(hikari, poolSize, maxWait);
+            }
+            return bean;
+        }
+        
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobtracker.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * ETag revalidation shared by the read endpoints.
+ */
+final class ConditionalResponses {
+    
+    private ConditionalResponses() {}
+    
+    /**
+     * Answers 304 when {@code If-None-Match} matches {@code etag}, without calling
+     * {@code body}. The tag is read before the body, so the body is never older than
+     * the tag it is sent with; clients must revalidate on every use.
+     */
+    static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .body(body.get());
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.Dashboard;
+import com.jobtracker.service.DashboardService;
+import com.jobtracker.service.DataVersionTracker;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import static com.jobtracker.controller.ConditionalResponses.conditional;
+
+/**
+ * Single request behind the dashboard page: counters, recent activity and the first
+ * page of active and interviewing applications.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*")
+public class DashboardController {
+    
+    private final DashboardService service;
+    private final DataVersionTracker versions;
+    
+    public DashboardController(DashboardService service, DataVersionTracker versions) {
+        this.service = service;
+        this.versions = versions;
+    }
+    
+    @GetMapping
+    public ResponseEntity<Dashboard> getDashboard(WebRequest request) {
+        return conditional(request, versions.collectionTag(), service::getDashboard);
+    }
+}
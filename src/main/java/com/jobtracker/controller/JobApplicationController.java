@@ -1,15 +1,54 @@
 package com.jobtracker.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobtracker.analytics.ApplicationTimeSeriesService;
+import com.jobtracker.analytics.RollupInterval;
+import com.jobtracker.analytics.StageAnalyticsService;
+import com.jobtracker.bulk.ApplicationExportService;
+import com.jobtracker.bulk.ApplicationImportService;
+import com.jobtracker.bulk.BulkFormat;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationView;
+import com.jobtracker.dto.BatchItemResult;
+import com.jobtracker.dto.CursorPage;
+import com.jobtracker.dto.ImportJobStatus;
+import com.jobtracker.dto.JobApplicationPatch;
 import com.jobtracker.dto.JobApplicationRequest;
 import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.dto.NameMatch;
+import com.jobtracker.dto.SearchPage;
+import com.jobtracker.dto.StageAnalytics;
+import com.jobtracker.dto.StatusChangeRequest;
+import com.jobtracker.dto.TimeSeries;
 import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.feed.ChangeFeedStreamer;
+import com.jobtracker.search.FullTextSearchService;
+import com.jobtracker.search.NameSearchService;
+import com.jobtracker.service.DataVersionTracker;
+import com.jobtracker.service.JobApplicationBatchService;
 import com.jobtracker.service.JobApplicationService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+
+import static com.jobtracker.controller.ConditionalResponses.conditional;
 
 /**
  * REST Controller for job application endpoints.
@@ -21,9 +60,36 @@ import java.util.List;
 public class JobApplicationController {
     
     private final JobApplicationService service;
+    private final JobApplicationBatchService batchService;
+    private final ApplicationExportService exportService;
+    private final ApplicationImportService importService;
+    private final NameSearchService nameSearchService;
+    private final FullTextSearchService fullTextSearchService;
+    private final StageAnalyticsService analyticsService;
+    private final ApplicationTimeSeriesService timeSeriesService;
+    private final ChangeFeedStreamer changeFeed;
+    private final DataVersionTracker versions;
     
-    public JobApplicationController(JobApplicationService service) {
+    public JobApplicationController(JobApplicationService service,
+                                    JobApplicationBatchService batchService,
+                                    ApplicationExportService exportService,
+                                    ApplicationImportService importService,
+                                    NameSearchService nameSearchService,
+                                    FullTextSearchService fullTextSearchService,
+                                    StageAnalyticsService analyticsService,
+                                    ApplicationTimeSeriesService timeSeriesService,
+                                    ChangeFeedStreamer changeFeed,
+                                    DataVersionTracker versions) {
         this.service = service;
+        this.batchService = batchService;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.nameSearchService = nameSearchService;
+        this.fullTextSearchService = fullTextSearchService;
+        this.analyticsService = analyticsService;
+        this.timeSeriesService = timeSeriesService;
+        this.changeFeed = changeFeed;
+        this.versions = versions;
     }
     
     @PostMapping
@@ -33,14 +99,117 @@ public class JobApplicationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Creates many applications in one transaction. Items are read and validated
+     * individually; invalid items are reported in the results without failing the
+     * whole batch.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> createApplications(@RequestBody List<JsonNode> requests) {
+        return ResponseEntity.ok(batchService.createApplicationsFromJson(requests));
+    }
+    
+    /**
+     * Applies full updates to many applications, keyed by id.
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> updateApplications(@RequestBody Map<Long, JsonNode> requests) {
+        return ResponseEntity.ok(batchService.updateApplicationsFromJson(requests));
+    }
+    
+    /**
+     * {@code view=summary} returns {@link JobApplicationSummary} items, selecting
+     * only the columns a list card needs.
+     */
     @GetMapping
-    public ResponseEntity<List<JobApplicationResponse>> getAllApplications() {
-        return ResponseEntity.ok(service.getAllApplications());
+    public ResponseEntity<CursorPage<?>> getAllApplications(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + JobApplicationService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request) {
+        ApplicationFilter filter = new ApplicationFilter(status, company, createdFrom, createdTo, includeArchived);
+        boolean summary = ApplicationView.fromParameter(view) == ApplicationView.SUMMARY;
+        return conditional(request, versions.collectionTag(), () -> summary
+            ? service.getApplicationSummaries(filter, cursor, limit)
+            : service.getAllApplications(filter, cursor, limit));
+    }
+    
+    /**
+     * Ranked company-name / job-title matches for search and autocomplete.
+     * Served from memory; does not query the database.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<NameMatch>> searchByName(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + NameSearchService.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(nameSearchService.search(query, limit));
+    }
+    
+    /**
+     * BM25-ranked full-text search over descriptions and notes. Only the rows on
+     * the requested page are loaded.
+     */
+    @GetMapping("/search/text")
+    public ResponseEntity<SearchPage<JobApplicationResponse>> searchText(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + FullTextSearchService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(fullTextSearchService.search(query, page, size));
+    }
+    
+    /**
+     * Streams the applications as NDJSON or CSV, archived ones too with
+     * {@code includeArchived=true}. Rows are written as they are read from the
+     * database cursor, so the response is never buffered in memory.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(defaultValue = "NDJSON") BulkFormat format,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename("applications." + format.getFileExtension())
+            .build();
+        StreamingResponseBody body = out -> exportService.export(format, includeArchived, out);
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
+    
+    /**
+     * Imports an NDJSON or CSV file (the export layouts) sent as the request body. The
+     * body is spooled to disk and imported in the background; poll the returned
+     * {@code Location} for progress and per-line errors.
+     */
+    @PostMapping(value = "/import",
+                 consumes = {"application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportJobStatus> importApplications(
+            @RequestParam(required = false) BulkFormat format,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        BulkFormat resolved = format != null ? format : BulkFormat.forContentType(contentType);
+        if (resolved == null) {
+            throw new IllegalArgumentException("Send text/csv or application/x-ndjson, or pass format=CSV|NDJSON");
+        }
+        ImportJobStatus status = importService.startImport(resolved, body);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/applications/import/" + status.id()))
+            .body(status);
+    }
+    
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobStatus> getImportStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(importService.getStatus(jobId));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<JobApplicationResponse> getApplicationById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.getApplicationById(id));
+    public ResponseEntity<JobApplicationResponse> getApplicationById(@PathVariable Long id, WebRequest request) {
+        return conditional(request, versions.rowTag(id), () -> service.getApplicationById(id));
     }
     
     @PutMapping("/{id}")
@@ -50,6 +219,24 @@ public class JobApplicationController {
         return ResponseEntity.ok(service.updateApplication(id, request));
     }
     
+    /**
+     * Updates only the fields present in the body. Send the {@code version} from the
+     * last read to get 409 Conflict rather than overwrite a concurrent change.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<JobApplicationResponse> patchApplication(
+            @PathVariable Long id,
+            @Valid @RequestBody JobApplicationPatch patch) {
+        return ResponseEntity.ok(service.patchApplication(id, patch));
+    }
+    
+    @PutMapping("/{id}/status")
+    public ResponseEntity<JobApplicationResponse> changeStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody StatusChangeRequest request) {
+        return ResponseEntity.ok(service.changeStatus(id, request));
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteApplication(@PathVariable Long id) {
         service.deleteApplication(id);
@@ -57,23 +244,76 @@ public class JobApplicationController {
     }
     
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<JobApplicationResponse>> getApplicationsByStatus(
-            @PathVariable ApplicationStatus status) {
-        return ResponseEntity.ok(service.getApplicationsByStatus(status));
+    public ResponseEntity<List<?>> getApplicationsByStatus(
+            @PathVariable ApplicationStatus status,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request) {
+        boolean summary = ApplicationView.fromParameter(view) == ApplicationView.SUMMARY;
+        return conditional(request, versions.collectionTag(), () -> summary
+            ? service.getApplicationSummariesByStatus(status, includeArchived)
+            : service.getApplicationsByStatus(status, includeArchived));
     }
     
     @GetMapping("/active")
-    public ResponseEntity<List<JobApplicationResponse>> getActiveApplications() {
-        return ResponseEntity.ok(service.getActiveApplications());
+    public ResponseEntity<List<?>> getActiveApplications(
+            @RequestParam(defaultValue = "full") String view,
+            WebRequest request) {
+        boolean summary = ApplicationView.fromParameter(view) == ApplicationView.SUMMARY;
+        return conditional(request, versions.collectionTag(), () -> summary
+            ? service.getActiveApplicationSummaries()
+            : service.getActiveApplications());
     }
     
     @GetMapping("/interview")
-    public ResponseEntity<List<JobApplicationResponse>> getApplicationsInInterview() {
-        return ResponseEntity.ok(service.getApplicationsInInterview());
+    public ResponseEntity<List<?>> getApplicationsInInterview(
+            @RequestParam(defaultValue = "full") String view,
+            WebRequest request) {
+        boolean summary = ApplicationView.fromParameter(view) == ApplicationView.SUMMARY;
+        return conditional(request, versions.collectionTag(), () -> summary
+            ? service.getApplicationSummariesInInterview()
+            : service.getApplicationsInInterview());
+    }
+    
+    /**
+     * Server-Sent Events for every committed create, update and delete, each with the
+     * application's summary and the new statistics. Browsers resume after a dropped
+     * connection by sending {@code Last-Event-ID}; a {@code reset} event means the
+     * missed events are gone and the client should reload.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.open(lastEventId);
     }
     
     @GetMapping("/stats")
-    public ResponseEntity<JobApplicationService.ApplicationStats> getStatistics() {
-        return ResponseEntity.ok(service.getStatistics());
+    public ResponseEntity<JobApplicationService.ApplicationStats> getStatistics(WebRequest request) {
+        return conditional(request, versions.collectionTag(), service::getStatistics);
+    }
+    
+    /**
+     * Median and p90 time spent in each status, and stage-to-stage conversion rates.
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<StageAnalytics> getStageAnalytics(WebRequest request) {
+        return conditional(request, versions.collectionTag(), analyticsService::getStageAnalytics);
+    }
+    
+    /**
+     * Applications created per day, week, month or year, by current status. Defaults
+     * to the last twelve months; without {@code interval} the finest one giving at most
+     * 60 points is used.
+     */
+    @GetMapping("/timeseries")
+    public ResponseEntity<TimeSeries> getTimeSeries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) RollupInterval interval,
+            WebRequest request) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1).plusDays(1);
+        // The window moves with the current date, so the tag must too
+        return conditional(request, versions.collectionTag(start, end, interval != null ? interval : "auto"),
+            () -> timeSeriesService.getTimeSeries(start, end, interval));
     }
 }
\ No newline at end of file
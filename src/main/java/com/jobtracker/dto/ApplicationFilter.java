@@ -0,0 +1,30 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional listing filters. Null components are ignored, so an empty filter
+ * matches every application. The creation range is half-open: [createdFrom, createdTo).
+ * Archived applications are only listed with {@code includeArchived}.
+ */
+public record ApplicationFilter(
+    ApplicationStatus status,
+    String companyName,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo,
+    boolean includeArchived
+) {
+    public static ApplicationFilter none() {
+        return new ApplicationFilter(null, null, null, null, false);
+    }
+    
+    /**
+     * Whether the archive tier has to be read: it was asked for, and it can hold
+     * matches (it only contains closed applications).
+     */
+    public boolean readsArchive() {
+        return includeArchived && (status == null || !status.isActive());
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobtracker.dto;
+
+import java.util.Locale;
+
+/**
+ * Representation returned by list endpoints: the full {@link JobApplicationResponse}
+ * or the column-pruned {@link JobApplicationSummary}.
+ */
+public enum ApplicationView {
+    FULL,
+    SUMMARY;
+    
+    /**
+     * Parses a {@code view} request parameter case-insensitively.
+     */
+    public static ApplicationView fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown view '" + value + "'; expected 'full' or 'summary'");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one item in a batch request. {@code index} is the item's position in
+ * the request and {@code status} is the HTTP status the item would have received
+ * as a single request.
+ */
+public record BatchItemResult(
+    int index,
+    Long id,
+    int status,
+    JobApplicationResponse application,
+    List<String> errors
+) {
+    public static BatchItemResult success(int index, int status, JobApplicationResponse application) {
+        return new BatchItemResult(index, application.id(), status, application, List.of());
+    }
+    
+    public static BatchItemResult failure(int index, Long id, int status, List<String> errors) {
+        return new BatchItemResult(index, id, status, null, errors);
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.service.ApplicationChangedEvent.ChangeType;
+import com.jobtracker.service.JobApplicationService.ApplicationStats;
+
+/**
+ * Payload of a change feed event: which application changed, its new card-sized
+ * state ({@code null} for deletes) and the statistics after the change.
+ */
+public record ChangeNotification(
+    ChangeType type,
+    Long id,
+    JobApplicationSummary application,
+    ApplicationStats stats
+) {}
@@ -0,0 +1,14 @@
+package com.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is an opaque token
+ * to pass back as {@code cursor} to fetch the following page; it is null on the
+ * last page.
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasMore
+) {}
@@ -0,0 +1,16 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.service.JobApplicationService.ApplicationStats;
+
+import java.util.List;
+
+/**
+ * Everything the dashboard shows, in one response. The lists hold at most one page
+ * each, newest update first; the counters give their full sizes.
+ */
+public record Dashboard(
+    ApplicationStats stats,
+    List<JobApplicationSummary> recentActivity,
+    List<JobApplicationSummary> active,
+    List<JobApplicationSummary> inInterview
+) {}
@@ -0,0 +1,40 @@
+package com.jobtracker.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of a bulk import. {@code records} counts records read from the file so
+ * far; each ends up either {@code imported} or {@code failed}. At most a bounded
+ * number of {@code errors} are kept, in no particular order.
+ */
+public record ImportJobStatus(
+    String id,
+    String format,
+    State state,
+    long records,
+    long imported,
+    long failed,
+    double recordsPerSecond,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String message,
+    List<LineError> errors
+) {
+    
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+    
+    /**
+     * Why the record starting on {@code line} (1-based, counting the CSV header) was
+     * not imported.
+     */
+    public record LineError(
+        long line,
+        List<String> errors
+    ) {}
+}
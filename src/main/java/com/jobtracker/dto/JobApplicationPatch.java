@@ -0,0 +1,32 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.LocalDateTime;
+
+/**
+ * Partial update: only non-null fields are applied, so a field cannot be cleared
+ * through a patch (use a full update for that). {@code version} is the version the
+ * client last read; when present, the patch fails with 409 Conflict if the
+ * application has changed since. The salary range is checked once the patch has been
+ * merged into the stored application.
+ */
+public record JobApplicationPatch(
+    // Absent leaves the field as it is; present must not be blank, as in a full update
+    @Pattern(regexp = "(?s).*\\S.*", message = "Company name cannot be blank")
+    String companyName,
+    
+    @Pattern(regexp = "(?s).*\\S.*", message = "Job title cannot be blank")
+    String jobTitle,
+    
+    ApplicationStatus status,
+    String description,
+    String notes,
+    String location,
+    String jobUrl,
+    Integer salaryMin,
+    Integer salaryMax,
+    LocalDateTime appliedDate,
+    Long version
+) {}
@@ -1,5 +1,6 @@
 package com.jobtracker.dto;
 
+import com.jobtracker.entity.ArchivedApplication;
 import com.jobtracker.entity.JobApplication;
 import com.jobtracker.entity.JobApplication.ApplicationStatus;
 
@@ -19,6 +20,8 @@ public record JobApplicationResponse(
     LocalDateTime appliedDate,
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
+    LocalDateTime statusChangedAt,
+    Long version,
     boolean active,
     boolean inInterviewProcess
 ) {
@@ -37,8 +40,32 @@ public record JobApplicationResponse(
             entity.getAppliedDate(),
             entity.getCreatedAt(),
             entity.getUpdatedAt(),
+            entity.getStatusChangedAt(),
+            entity.getVersion(),
             entity.isActive(),
             entity.isInInterviewProcess()
         );
     }
+    
+    public static JobApplicationResponse fromArchived(ArchivedApplication archived) {
+        return new JobApplicationResponse(
+            archived.getId(),
+            archived.getCompanyName(),
+            archived.getJobTitle(),
+            archived.getStatus(),
+            archived.getDescription(),
+            archived.getNotes(),
+            archived.getLocation(),
+            archived.getJobUrl(),
+            archived.getSalaryMin(),
+            archived.getSalaryMax(),
+            archived.getAppliedDate(),
+            archived.getCreatedAt(),
+            archived.getUpdatedAt(),
+            archived.getStatusChangedAt(),
+            archived.getVersion(),
+            archived.getStatus().isActive(),
+            archived.getStatus().isInInterviewProcess()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Card-sized view of an application, without the long free-text fields. Built
+ * directly by JPQL constructor expressions, so only these columns are selected
+ * and no entity is hydrated.
+ */
+public record JobApplicationSummary(
+    Long id,
+    String companyName,
+    String jobTitle,
+    ApplicationStatus status,
+    LocalDateTime appliedDate,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    boolean active,
+    boolean inInterviewProcess
+) {
+    public JobApplicationSummary(Long id, String companyName, String jobTitle, ApplicationStatus status,
+                                 LocalDateTime appliedDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, companyName, jobTitle, status, appliedDate, createdAt, updatedAt,
+            status == null || status.isActive(),
+            status != null && status.isInInterviewProcess());
+    }
+}
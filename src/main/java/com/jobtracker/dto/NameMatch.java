@@ -0,0 +1,11 @@
+package com.jobtracker.dto;
+
+/**
+ * Ranked hit from the company-name / job-title search. Higher scores rank first.
+ */
+public record NameMatch(
+    Long id,
+    String companyName,
+    String jobTitle,
+    double score
+) {}
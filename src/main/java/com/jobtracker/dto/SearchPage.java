@@ -0,0 +1,14 @@
+package com.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results. {@code totalHits} counts every match, not
+ * just the ones on this page.
+ */
+public record SearchPage<T>(
+    List<T> items,
+    int page,
+    int size,
+    long totalHits
+) {}
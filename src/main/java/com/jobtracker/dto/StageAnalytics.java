@@ -0,0 +1,39 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * Time spent in each status and how often each status leads to each other one,
+ * over all recorded transitions.
+ */
+public record StageAnalytics(
+    List<StageTiming> stages,
+    List<StageConversion> conversions
+) {
+    
+    /**
+     * {@code entered} counts applications that reached the status, {@code exited} those
+     * that left it again. The durations are estimated from exits only and are null
+     * until the first exit.
+     */
+    public record StageTiming(
+        ApplicationStatus status,
+        long entered,
+        long exited,
+        Double medianHours,
+        Double p90Hours
+    ) {}
+    
+    /**
+     * {@code from} is null for the status applications were created in; {@code rate} is
+     * {@code count} over the number of applications that entered {@code from}.
+     */
+    public record StageConversion(
+        ApplicationStatus from,
+        ApplicationStatus to,
+        long count,
+        double rate
+    ) {}
+}
@@ -0,0 +1,15 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Moves an application to a new status. {@code version}, when present, must match
+ * the current version or the change fails with 409 Conflict.
+ */
+public record StatusChangeRequest(
+    @NotNull(message = "Status is required")
+    ApplicationStatus status,
+    
+    Long version
+) {}
@@ -0,0 +1,26 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.analytics.RollupInterval;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applications created per period, by current status, oldest period first.
+ */
+public record TimeSeries(
+    RollupInterval interval,
+    List<TimeSeriesPoint> points
+) {
+    
+    /**
+     * {@code byStatus} omits statuses with no applications.
+     */
+    public record TimeSeriesPoint(
+        LocalDate periodStart,
+        long total,
+        Map<ApplicationStatus, Long> byStatus
+    ) {}
+}
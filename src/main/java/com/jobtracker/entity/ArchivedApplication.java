@@ -0,0 +1,123 @@
+package com.jobtracker.entity;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// A closed application moved to the cold tier; written only by the archiver's SQL
+@Entity
+@Immutable
+@Table(name = "job_applications_archive")
+public class ArchivedApplication {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String companyName;
+    
+    @Column(nullable = false)
+    private String jobTitle;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status;
+    
+    @Column(length = 2000)
+    private String description;
+    
+    @Column(length = 1000)
+    private String notes;
+    
+    private String location;
+    
+    private String jobUrl;
+    
+    private Integer salaryMin;
+    
+    private Integer salaryMax;
+    
+    private LocalDateTime appliedDate;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    private LocalDateTime statusChangedAt;
+    
+    @Column(nullable = false)
+    private Long version;
+    
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+    
+    protected ArchivedApplication() {}
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getCompanyName() {
+        return companyName;
+    }
+    
+    public String getJobTitle() {
+        return jobTitle;
+    }
+    
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public String getJobUrl() {
+        return jobUrl;
+    }
+    
+    public Integer getSalaryMin() {
+        return salaryMin;
+    }
+    
+    public Integer getSalaryMax() {
+        return salaryMax;
+    }
+    
+    public LocalDateTime getAppliedDate() {
+        return appliedDate;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
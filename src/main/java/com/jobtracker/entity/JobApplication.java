@@ -3,16 +3,27 @@ package com.jobtracker.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+// Updates write only the changed columns, so a status change does not rewrite the description
 @Entity
+@DynamicUpdate
 @Table(name = "job_applications")
 public class JobApplication {
     
+    public static final String ID_SEQUENCE = "job_applications_seq";
+    
+    /** Ids handed out per sequence call; must match the sequence increment. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
+    // A pooled sequence (rather than IDENTITY) lets Hibernate batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_application_id")
+    @SequenceGenerator(name = "job_application_id", sequenceName = ID_SEQUENCE,
+                       allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @NotBlank(message = "Company name is required")
@@ -51,6 +62,14 @@ public class JobApplication {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    // When the current status was entered; feeds time-in-stage history
+    private LocalDateTime statusChangedAt;
+    
+    // Incremented on every update; a stale version fails the update instead of overwriting
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     // Constructors
     public JobApplication() {}
     
@@ -84,6 +103,9 @@ public class JobApplication {
     }
     
     public void setStatus(ApplicationStatus status) {
+        if (status != this.status) {
+            statusChangedAt = LocalDateTime.now();
+        }
         this.status = status;
     }
     
@@ -159,6 +181,22 @@ public class JobApplication {
         this.updatedAt = updatedAt;
     }
     
+    public LocalDateTime getStatusChangedAt() {
+        return statusChangedAt;
+    }
+    
+    public void setStatusChangedAt(LocalDateTime statusChangedAt) {
+        this.statusChangedAt = statusChangedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     // Enum
     public enum ApplicationStatus {
         RESEARCHING,
@@ -169,19 +207,27 @@ public class JobApplication {
         OFFER,
         REJECTED,
         WITHDRAWN,
-        ACCEPTED
+        ACCEPTED;
+        
+        public boolean isActive() {
+            return this != REJECTED
+                && this != WITHDRAWN
+                && this != ACCEPTED;
+        }
+        
+        public boolean isInInterviewProcess() {
+            return this == PHONE_SCREEN
+                || this == TECHNICAL_INTERVIEW
+                || this == ONSITE_INTERVIEW;
+        }
     }
     
     // Business logic methods
     public boolean isActive() {
-        return status != ApplicationStatus.REJECTED 
-            && status != ApplicationStatus.WITHDRAWN 
-            && status != ApplicationStatus.ACCEPTED;
+        return status == null || status.isActive();
     }
     
     public boolean isInInterviewProcess() {
-        return status == ApplicationStatus.PHONE_SCREEN
-            || status == ApplicationStatus.TECHNICAL_INTERVIEW
-            || status == ApplicationStatus.ONSITE_INTERVIEW;
+        return status != null && status.isInInterviewProcess();
     }
 }
\ No newline at end of file
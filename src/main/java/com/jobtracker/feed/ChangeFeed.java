@@ -0,0 +1,194 @@
+package com.jobtracker.feed;
+
+import com.jobtracker.dto.ChangeNotification;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationStatsTracker;
+import com.jobtracker.service.ApplicationsArchivedEvent;
+import com.jobtracker.service.ApplicationsImportedEvent;
+import com.jobtracker.service.DataVersionTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Committed changes as a sequence of numbered events, for the SSE endpoint.
+ * <p>
+ * The most recent {@code capacity} events are kept in a ring buffer so a client
+ * reconnecting with {@code Last-Event-ID} receives exactly the events it missed;
+ * a client too far behind (or from before a restart) gets a {@code reset} event
+ * telling it to reload instead. An archive batch is also published as a reset, since
+ * its rows leave the listings without a change event each, and so is each imported
+ * chunk. Each subscriber has its own bounded queue, and
+ * publishing only ever offers to it: a subscriber that falls {@code queueCapacity}
+ * events behind is disconnected rather than slowing down writers, and resumes
+ * from the ring buffer when it reconnects.
+ */
+@Component
+public class ChangeFeed {
+    
+    /** Runs after the version bump, so a client reacting to an event never reads a stale ETag. */
+    public static final int ORDER = DataVersionTracker.ORDER + 1;
+    
+    static final String RESET = "reset";
+    
+    private final ApplicationStatsTracker statsTracker;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final FeedEvent[] ring;
+    private final int queueCapacity;
+    private final List<Subscription> subscribers = new CopyOnWriteArrayList<>();
+    // A lock rather than a monitor: publishers and subscribers may be virtual threads
+    private final Lock lock = new ReentrantLock();
+    private long lastSequence;
+    
+    public ChangeFeed(ApplicationStatsTracker statsTracker,
+                      @Value("${jobtracker.feed.capacity:1024}") int capacity,
+                      @Value("${jobtracker.feed.subscriber-queue:256}") int queueCapacity) {
+        this.statsTracker = statsTracker;
+        this.ring = new FeedEvent[capacity];
+        this.queueCapacity = queueCapacity;
+    }
+    
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        JobApplicationResponse after = event.after();
+        JobApplicationSummary summary = after == null ? null : new JobApplicationSummary(after.id(),
+            after.companyName(), after.jobTitle(), after.status(), after.appliedDate(), after.createdAt(),
+            after.updatedAt());
+        publish(event.type().name().toLowerCase(Locale.ROOT),
+            new ChangeNotification(event.type(), event.id(), summary, statsTracker.snapshot()));
+    }
+    
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsArchived(ApplicationsArchivedEvent event) {
+        publish(RESET, null);
+    }
+    
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        publish(RESET, null);
+    }
+    
+    void publish(String name, ChangeNotification data) {
+        lock.lock();
+        try {
+            long sequence = ++lastSequence;
+            FeedEvent event = new FeedEvent(eventId(sequence), name, data);
+            ring[(int) (sequence % ring.length)] = event;
+            for (Subscription subscriber : subscribers) {
+                if (!subscriber.queue.offer(event)) {
+                    subscriber.overflowed = true;
+                    subscribers.remove(subscriber);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Subscribes to events after {@code lastEventId} (or to new events only, when
+     * null). Missed events are queued first; a reset event replaces them when they
+     * are no longer buffered.
+     */
+    public Subscription subscribe(String lastEventId) {
+        Subscription subscription = new Subscription(new ArrayBlockingQueue<>(queueCapacity));
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                long resumeAfter = parseSequence(lastEventId);
+                long oldest = Math.max(1, lastSequence - ring.length + 1);
+                long missed = lastSequence - resumeAfter;
+                if (resumeAfter < 0 || resumeAfter > lastSequence || resumeAfter + 1 < oldest
+                        || missed > queueCapacity) {
+                    subscription.queue.add(new FeedEvent(eventId(lastSequence), RESET, null));
+                } else {
+                    for (long sequence = resumeAfter + 1; sequence <= lastSequence; sequence++) {
+                        subscription.queue.add(ring[(int) (sequence % ring.length)]);
+                    }
+                }
+            }
+            subscribers.add(subscription);
+        } finally {
+            lock.unlock();
+        }
+        return subscription;
+    }
+    
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+    
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+    
+    /**
+     * The sequence number in an event id from this run, or -1 for ids from an
+     * earlier run or that are malformed.
+     */
+    private long parseSequence(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash < 0 || !eventId.substring(0, dash).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * One event in SSE terms: {@code id}, {@code event} name and {@code data}.
+     * {@code data} is null for reset events.
+     */
+    public record FeedEvent(String id, String name, ChangeNotification data) {}
+    
+    /**
+     * One subscriber's pending events.
+     */
+    public final class Subscription {
+        
+        private final BlockingQueue<FeedEvent> queue;
+        private volatile boolean overflowed;
+        
+        private Subscription(BlockingQueue<FeedEvent> queue) {
+            this.queue = queue;
+        }
+        
+        /**
+         * The next event, or null if none arrives within the timeout. After an overflow,
+         * the events already queued are still returned before the subscription ends.
+         */
+        public FeedEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return overflowed ? queue.poll() : queue.poll(timeout, unit);
+        }
+        
+        /**
+         * Whether the subscription was dropped for falling behind; once its queue is
+         * drained the client should reconnect.
+         */
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+        
+        public void cancel() {
+            subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobtracker.feed;
+
+import com.jobtracker.feed.ChangeFeed.FeedEvent;
+import com.jobtracker.feed.ChangeFeed.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams a {@link ChangeFeed} subscription to a client as Server-Sent Events.
+ * <p>
+ * Each connection is served by its own virtual thread, which blocks on the
+ * subscription's queue and on the socket, so a slow client only ever delays
+ * itself. Idle connections get a comment every {@code heartbeat} so dead ones are
+ * noticed; after {@code timeout} the stream ends and the browser reconnects with
+ * its {@code Last-Event-ID}.
+ */
+@Component
+public class ChangeFeedStreamer {
+    
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedStreamer.class);
+    
+    private final ChangeFeed feed;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    
+    public ChangeFeedStreamer(ChangeFeed feed,
+                              @Value("${jobtracker.feed.timeout:30m}") Duration timeout,
+                              @Value("${jobtracker.feed.heartbeat:15s}") Duration heartbeat) {
+        this.feed = feed;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+    }
+    
+    public SseEmitter open(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = feed.subscribe(lastEventId);
+        AtomicBoolean closed = new AtomicBoolean();
+        Runnable close = () -> {
+            closed.set(true);
+            subscription.cancel();
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(e -> close.run());
+        Thread.ofVirtual().name("change-feed").start(() -> stream(emitter, subscription, closed));
+        return emitter;
+    }
+    
+    private void stream(SseEmitter emitter, Subscription subscription, AtomicBoolean closed) {
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(heartbeat.toMillis()).comment("connected"));
+            while (!closed.get()) {
+                FeedEvent event = subscription.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    emitter.send(SseEmitter.event()
+                        .id(event.id())
+                        .name(event.name())
+                        .data(event.data() != null ? event.data() : "reload", MediaType.APPLICATION_JSON));
+                } else if (subscription.isOverflowed()) {
+                    log.debug("Disconnecting change feed client that fell behind");
+                    emitter.complete();
+                    return;
+                } else {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the response already completed
+            subscription.cancel();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+}
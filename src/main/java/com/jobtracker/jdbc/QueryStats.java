@@ -0,0 +1,75 @@
+package com.jobtracker.jdbc;
+
+import java.time.Duration;
+
+/**
+ * JDBC activity of one unit of work (normally an HTTP request) on the current thread:
+ * statements executed, time spent executing them, and rows read from result sets.
+ * <p>
+ * Tracking is started with {@link #start()} and ended with {@link #stop()}; scopes
+ * nest, and only the innermost one counts. Work handed to another thread (such as a
+ * streamed export) is not attributed to the scope.
+ */
+public final class QueryStats {
+    
+    /** Request attribute holding the finished stats of an HTTP request. */
+    public static final String REQUEST_ATTRIBUTE = QueryStats.class.getName();
+    
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+    
+    private final QueryStats previous;
+    private int statements;
+    private long jdbcMillis;
+    private long rows;
+    
+    private QueryStats(QueryStats previous) {
+        this.previous = previous;
+    }
+    
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+    
+    /**
+     * The active scope on this thread, or {@code null} if nothing is being tracked.
+     */
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+    
+    public void stop() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+    
+    void recordStatement(long elapsedMillis) {
+        statements++;
+        jdbcMillis += elapsedMillis;
+    }
+    
+    void recordRow() {
+        rows++;
+    }
+    
+    public int statements() {
+        return statements;
+    }
+    
+    public Duration jdbcTime() {
+        return Duration.ofMillis(jdbcMillis);
+    }
+    
+    public long rows() {
+        return rows;
+    }
+    
+    @Override
+    public String toString() {
+        return statements + " statements, " + jdbcMillis + " ms JDBC, " + rows + " rows";
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobtracker.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Tracks {@link QueryStats} per HTTP request, logs them at DEBUG, and warns when a
+ * request issues more statements than {@code maxStatements} (typically an N+1 lazy
+ * load or a query in a loop) or reads more than {@code maxRows} rows (an unbounded
+ * listing). The finished stats are left in the {@link QueryStats#REQUEST_ATTRIBUTE}
+ * request attribute.
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsFilter.class);
+    
+    private final int maxStatements;
+    private final long maxRows;
+    
+    public QueryStatsFilter(int maxStatements, long maxRows) {
+        this.maxStatements = maxStatements;
+        this.maxRows = maxRows;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stats.stop();
+            request.setAttribute(QueryStats.REQUEST_ATTRIBUTE, stats);
+            report(request, stats);
+        }
+    }
+    
+    private void report(HttpServletRequest request, QueryStats stats) {
+        if (stats.statements() > maxStatements) {
+            log.warn("{} {} issued {} (limit {} statements); check for N+1 queries",
+                request.getMethod(), request.getRequestURI(), stats, maxStatements);
+        } else if (stats.rows() > maxRows) {
+            log.warn("{} {} read {} rows (limit {}): {}",
+                request.getMethod(), request.getRequestURI(), stats.rows(), maxRows, stats);
+        } else if (log.isDebugEnabled() && stats.statements() > 0) {
+            log.debug("{} {}: {}", request.getMethod(), request.getRequestURI(), stats);
+        }
+    }
+}
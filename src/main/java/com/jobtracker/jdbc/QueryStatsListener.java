@@ -0,0 +1,68 @@
+package com.jobtracker.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Feeds the current {@link QueryStats} from the datasource proxy and logs statements:
+ * those slower than the threshold at WARN, with bind parameters, and every statement
+ * at TRACE (in place of {@code spring.jpa.show-sql}).
+ */
+public class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+    
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsListener.class);
+    
+    private final long slowQueryMillis;
+    private final DefaultQueryLogEntryCreator entryCreator = new DefaultQueryLogEntryCreator();
+    
+    public QueryStatsListener(Duration slowQueryThreshold) {
+        this.slowQueryMillis = slowQueryThreshold.toMillis();
+    }
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+    
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(execInfo.getElapsedTime());
+        }
+        if (execInfo.getElapsedTime() >= slowQueryMillis) {
+            log.warn("Slow query: {}", entryCreator.getLogEntry(execInfo, queryInfoList, false, false, false));
+        } else if (log.isTraceEnabled()) {
+            log.trace("{}", entryCreator.getLogEntry(execInfo, queryInfoList, false, false, false));
+        }
+    }
+    
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+    
+    /**
+     * Counts rows as they are read, so streamed and paged results are measured by
+     * what was actually fetched.
+     */
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && executionContext.getMethod().getName().equals("next")) {
+            QueryStats stats = QueryStats.current();
+            if (stats != null) {
+                stats.recordRow();
+            }
+        }
+    }
+}
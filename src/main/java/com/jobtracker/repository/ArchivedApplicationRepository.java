@@ -0,0 +1,71 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.entity.ArchivedApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.jobtracker.repository.JobApplicationRepository.PAGE_WHERE;
+import static com.jobtracker.repository.JobApplicationRepository.SUMMARY_SELECT;
+
+/**
+ * Read-only access to the archive tier. The listing queries mirror their
+ * {@link JobApplicationRepository} counterparts so the two tiers can be merged.
+ */
+@org.springframework.stereotype.Repository
+public interface ArchivedApplicationRepository extends Repository<ArchivedApplication, Long> {
+    
+    Optional<ArchivedApplication> findById(Long id);
+    
+    List<ArchivedApplication> findByStatus(ApplicationStatus status);
+    
+    @Query(SUMMARY_SELECT + "FROM ArchivedApplication ja WHERE ja.status = :status")
+    List<JobApplicationSummary> findSummariesByStatus(@Param("status") ApplicationStatus status);
+    
+    long count();
+    
+    /**
+     * Same cursor as {@link JobApplicationRepository#streamAllOrderById}.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ja FROM ArchivedApplication ja ORDER BY ja.id")
+    Stream<ArchivedApplication> streamAllOrderById();
+    
+    /**
+     * Same keyset page as {@link JobApplicationRepository#findPage}.
+     */
+    @Query("SELECT ja FROM ArchivedApplication ja " + PAGE_WHERE)
+    List<ArchivedApplication> findPage(@Param("status") ApplicationStatus status,
+                                       @Param("companyName") String companyName,
+                                       @Param("createdFrom") LocalDateTime createdFrom,
+                                       @Param("createdTo") LocalDateTime createdTo,
+                                       @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+    
+    /**
+     * Same keyset page as {@link JobApplicationRepository#findSummaryPage}.
+     */
+    @Query(SUMMARY_SELECT + "FROM ArchivedApplication ja " + PAGE_WHERE)
+    List<JobApplicationSummary> findSummaryPage(@Param("status") ApplicationStatus status,
+                                                @Param("companyName") String companyName,
+                                                @Param("createdFrom") LocalDateTime createdFrom,
+                                                @Param("createdTo") LocalDateTime createdTo,
+                                                @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+}
@@ -1,33 +1,140 @@
 package com.jobtracker.repository;
 
+import com.jobtracker.dto.JobApplicationSummary;
 import com.jobtracker.entity.JobApplication;
 import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
     
+    // Query fragments shared by the entity and summary variants of each listing
+    String SUMMARY_SELECT = "SELECT new com.jobtracker.dto.JobApplicationSummary(" +
+        "ja.id, ja.companyName, ja.jobTitle, ja.status, ja.appliedDate, ja.createdAt, ja.updatedAt) ";
+    // Listed positively (rather than NOT IN the closed statuses) so the status index applies
+    String ACTIVE_WHERE = "WHERE ja.status IN " +
+        "('RESEARCHING', 'APPLIED', 'PHONE_SCREEN', 'TECHNICAL_INTERVIEW', 'ONSITE_INTERVIEW', 'OFFER') " +
+        "ORDER BY ja.updatedAt DESC, ja.id DESC";
+    String INTERVIEW_WHERE = "WHERE ja.status IN " +
+        "('PHONE_SCREEN', 'TECHNICAL_INTERVIEW', 'ONSITE_INTERVIEW') " +
+        "ORDER BY ja.updatedAt DESC, ja.id DESC";
+    String PAGE_WHERE = "WHERE " +
+        "(:status IS NULL OR ja.status = :status) " +
+        "AND (:companyName IS NULL OR LOWER(ja.companyName) = LOWER(:companyName)) " +
+        "AND (:createdFrom IS NULL OR ja.createdAt >= :createdFrom) " +
+        "AND (:createdTo IS NULL OR ja.createdAt < :createdTo) " +
+        "AND (:cursorUpdatedAt IS NULL OR ja.updatedAt < :cursorUpdatedAt " +
+        "     OR (ja.updatedAt = :cursorUpdatedAt AND ja.id < :cursorId)) " +
+        "ORDER BY ja.updatedAt DESC, ja.id DESC";
+    
     List<JobApplication> findByStatus(ApplicationStatus status);
     
+    @Query(SUMMARY_SELECT + "FROM JobApplication ja WHERE ja.status = :status")
+    List<JobApplicationSummary> findSummariesByStatus(@Param("status") ApplicationStatus status);
+    
     List<JobApplication> findByCompanyNameContainingIgnoreCase(String companyName);
     
-    @Query("SELECT ja FROM JobApplication ja WHERE ja.status NOT IN " +
-           "('REJECTED', 'WITHDRAWN', 'ACCEPTED') ORDER BY ja.updatedAt DESC")
+    @Query("SELECT ja FROM JobApplication ja " + ACTIVE_WHERE)
     List<JobApplication> findActiveApplications();
     
-    @Query("SELECT ja FROM JobApplication ja WHERE ja.status IN " +
-           "('PHONE_SCREEN', 'TECHNICAL_INTERVIEW', 'ONSITE_INTERVIEW') " +
-           "ORDER BY ja.updatedAt DESC")
+    @Query(SUMMARY_SELECT + "FROM JobApplication ja " + ACTIVE_WHERE)
+    List<JobApplicationSummary> findActiveSummaries();
+    
+    @Query(SUMMARY_SELECT + "FROM JobApplication ja " + ACTIVE_WHERE)
+    List<JobApplicationSummary> findActiveSummaries(Pageable pageable);
+    
+    @Query("SELECT ja FROM JobApplication ja " + INTERVIEW_WHERE)
     List<JobApplication> findApplicationsInInterview();
     
+    @Query(SUMMARY_SELECT + "FROM JobApplication ja " + INTERVIEW_WHERE)
+    List<JobApplicationSummary> findSummariesInInterview();
+    
+    @Query(SUMMARY_SELECT + "FROM JobApplication ja " + INTERVIEW_WHERE)
+    List<JobApplicationSummary> findSummariesInInterview(Pageable pageable);
+    
     List<JobApplication> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
     
     long countByStatus(ApplicationStatus status);
     
-    List<JobApplication> findTop10ByOrderByUpdatedAtDesc();
+    /**
+     * Cursor over the whole table for bulk export. Must be consumed inside a
+     * transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ja FROM JobApplication ja ORDER BY ja.id")
+    Stream<JobApplication> streamAllOrderById();
+    
+    /**
+     * Cursor over rows updated at or after {@code since}, for catching up an index
+     * restored from disk. Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.updatedAt >= :since ORDER BY ja.updatedAt")
+    Stream<JobApplication> streamUpdatedSince(@Param("since") LocalDateTime since);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT ja.id FROM JobApplication ja ORDER BY ja.id")
+    Stream<Long> streamAllIds();
+    
+    @Query("SELECT ja.status AS status, COUNT(ja) AS count FROM JobApplication ja GROUP BY ja.status")
+    List<StatusCount> countGroupedByStatus();
+    
+    /**
+     * {@link #countGroupedByStatus} over the hot table and the archive together. One
+     * statement, so an archive batch committing meanwhile is counted exactly once.
+     */
+    @Query(value = "SELECT status, SUM(n) AS count FROM (" +
+        "SELECT status, COUNT(*) AS n FROM job_applications GROUP BY status " +
+        "UNION ALL SELECT status, COUNT(*) FROM job_applications_archive GROUP BY status" +
+        ") tiers GROUP BY status", nativeQuery = true)
+    List<StatusCount> countGroupedByStatusAcrossTiers();
+    
+    /**
+     * Most recently updated applications of any status, for the dashboard's activity list.
+     */
+    @Query(SUMMARY_SELECT + "FROM JobApplication ja ORDER BY ja.updatedAt DESC, ja.id DESC")
+    List<JobApplicationSummary> findRecentSummaries(Pageable pageable);
+    
+    /**
+     * Keyset page ordered by {@code (updatedAt, id)} descending. Rows strictly after
+     * the cursor are returned; pass null cursor values for the first page. Null
+     * filter parameters are ignored. Only the page size comes from {@code pageable}.
+     */
+    @Query("SELECT ja FROM JobApplication ja " + PAGE_WHERE)
+    List<JobApplication> findPage(@Param("status") ApplicationStatus status,
+                                  @Param("companyName") String companyName,
+                                  @Param("createdFrom") LocalDateTime createdFrom,
+                                  @Param("createdTo") LocalDateTime createdTo,
+                                  @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+    
+    /**
+     * {@link #findPage} selecting only the {@link JobApplicationSummary} columns.
+     */
+    @Query(SUMMARY_SELECT + "FROM JobApplication ja " + PAGE_WHERE)
+    List<JobApplicationSummary> findSummaryPage(@Param("status") ApplicationStatus status,
+                                                @Param("companyName") String companyName,
+                                                @Param("createdFrom") LocalDateTime createdFrom,
+                                                @Param("createdTo") LocalDateTime createdTo,
+                                                @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
 }
\ No newline at end of file
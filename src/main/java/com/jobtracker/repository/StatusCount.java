@@ -0,0 +1,13 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+/**
+ * Projection for the per-status aggregates in {@link JobApplicationRepository}.
+ */
+public interface StatusCount {
+    
+    ApplicationStatus getStatus();
+    
+    long getCount();
+}
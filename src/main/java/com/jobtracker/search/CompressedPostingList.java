@@ -0,0 +1,105 @@
+package com.jobtracker.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Append-only posting list of {@code (ordinal, term frequency)} pairs, stored as
+ * variable-length integers with ordinals delta-encoded. Most entries take two
+ * bytes. Ordinals must be added in increasing order.
+ */
+final class CompressedPostingList {
+    
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int count;
+    private int lastOrdinal = -1;
+    
+    void add(int ordinal, int frequency) {
+        if (ordinal <= lastOrdinal) {
+            throw new IllegalArgumentException("Ordinals must increase: " + ordinal + " after " + lastOrdinal);
+        }
+        if (length + 10 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 10));
+        }
+        writeVarInt(ordinal - lastOrdinal);
+        writeVarInt(frequency);
+        lastOrdinal = ordinal;
+        count++;
+    }
+    
+    int count() {
+        return count;
+    }
+    
+    Cursor cursor() {
+        return new Cursor();
+    }
+    
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(count);
+        out.writeInt(lastOrdinal);
+        out.writeInt(length);
+        out.write(bytes, 0, length);
+    }
+    
+    static CompressedPostingList readFrom(DataInput in) throws IOException {
+        CompressedPostingList list = new CompressedPostingList();
+        list.count = in.readInt();
+        list.lastOrdinal = in.readInt();
+        list.length = in.readInt();
+        list.bytes = new byte[Math.max(list.length, 8)];
+        in.readFully(list.bytes, 0, list.length);
+        return list;
+    }
+    
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+    
+    /**
+     * Forward-only decoder over the list as it was when the cursor was created.
+     */
+    final class Cursor {
+        
+        private final int end = length;
+        private int position;
+        private int ordinal = -1;
+        private int frequency;
+        
+        boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            ordinal += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+        
+        int ordinal() {
+            return ordinal;
+        }
+        
+        int frequency() {
+            return frequency;
+        }
+        
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.jobtracker.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over free-text application fields, ranked with Okapi BM25.
+ * <p>
+ * Documents get a new ordinal every time they are (re)indexed, so posting lists are
+ * only ever appended to and can stay delta-compressed. The ordinal a document used
+ * before is marked dead and skipped at query time; once dead ordinals outnumber live
+ * ones the index is compacted. Document frequencies still count dead entries until
+ * then, which only shifts idf slightly.
+ * <p>
+ * The index is safe for concurrent use.
+ */
+public class FullTextIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+    private static final int FORMAT_VERSION = 1;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, CompressedPostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] ids = new long[16];
+    private int[] lengths = new int[16];
+    private int ordinalCount;
+    private long totalLength;
+    
+    /**
+     * Ranked page of matching application ids, plus the total number of matches.
+     */
+    public record Hits(List<Long> ids, int total) {}
+    
+    public void put(long id, String... fields) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String field : fields) {
+            for (String term : TextAnalyzer.terms(field)) {
+                frequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+        }
+        
+        lock.writeLock().lock();
+        try {
+            removeOrdinal(ordinalsById.remove(id));
+            // A document without terms is kept (with no postings) so size() counts every row
+            int ordinal = nextOrdinal();
+            ids[ordinal] = id;
+            lengths[ordinal] = length;
+            live.set(ordinal);
+            totalLength += length;
+            ordinalsById.put(id, ordinal);
+            frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new CompressedPostingList()).add(ordinal, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeOrdinal(ordinalsById.remove(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Drops every document whose id is not in {@code sortedIds}.
+     */
+    public int retainOnly(long[] sortedIds) {
+        lock.writeLock().lock();
+        try {
+            List<Long> stale = new ArrayList<>();
+            for (Long id : ordinalsById.keySet()) {
+                if (Arrays.binarySearch(sortedIds, id) < 0) {
+                    stale.add(id);
+                }
+            }
+            stale.forEach(id -> removeOrdinal(ordinalsById.remove(id)));
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinalsById.clear();
+            live.clear();
+            ordinalCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns the ids of the matches ranked {@code offset} to {@code offset + limit},
+     * best first. A document matches if it contains any query term; ties are broken
+     * by id.
+     */
+    public Hits search(String query, int offset, int limit) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(TextAnalyzer.terms(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new Hits(List.of(), 0);
+        }
+        
+        lock.readLock().lock();
+        try {
+            int documents = ordinalsById.size();
+            double averageLength = documents == 0 ? 0 : (double) totalLength / documents;
+            List<CompressedPostingList> lists = new ArrayList<>(terms.size());
+            long postingCount = 0;
+            for (String term : terms) {
+                CompressedPostingList list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                    postingCount += list.count();
+                }
+            }
+            ScoreAccumulator scores = new ScoreAccumulator(ordinalCount, postingCount);
+            for (CompressedPostingList list : lists) {
+                double idf = Math.log(1 + (documents - list.count() + 0.5) / (list.count() + 0.5));
+                CompressedPostingList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    int ordinal = cursor.ordinal();
+                    if (!live.get(ordinal)) {
+                        continue;
+                    }
+                    double frequency = cursor.frequency();
+                    double norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                    scores.add(ordinal, Math.max(idf, 1e-6) * frequency * (K1 + 1) / (frequency + norm));
+                }
+            }
+            return new Hits(topIds(scores, offset, limit), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Ids of the matches ranked {@code offset} to {@code offset + limit}, from a bounded
+     * min-heap of match indexes whose root is the weakest of the best seen so far.
+     */
+    private List<Long> topIds(ScoreAccumulator scores, int offset, int limit) {
+        int matches = scores.size();
+        if (offset >= matches) {
+            return List.of();
+        }
+        int wanted = (int) Math.min((long) offset + limit, matches);
+        int[] heap = new int[wanted];
+        int size = 0;
+        for (int match = 0; match < matches; match++) {
+            if (size < wanted) {
+                heap[size] = match;
+                siftUp(heap, size++, scores);
+            } else if (ranksAbove(match, heap[0], scores)) {
+                heap[0] = match;
+                siftDown(heap, size, scores);
+            }
+        }
+        // The root comes off weakest first, so the ranking is filled from the back
+        long[] ranked = new long[wanted];
+        for (int i = wanted - 1; i >= 0; i--) {
+            ranked[i] = ids[scores.ordinal(heap[0])];
+            heap[0] = heap[--size];
+            siftDown(heap, size, scores);
+        }
+        List<Long> page = new ArrayList<>(wanted - offset);
+        for (int i = offset; i < wanted; i++) {
+            page.add(ranked[i]);
+        }
+        return page;
+    }
+    
+    private void siftUp(int[] heap, int position, ScoreAccumulator scores) {
+        int match = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksAbove(heap[parent], match, scores)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = match;
+    }
+    
+    private void siftDown(int[] heap, int size, ScoreAccumulator scores) {
+        if (size == 0) {
+            return;
+        }
+        int match = heap[0];
+        int position = 0;
+        int child;
+        while ((child = 2 * position + 1) < size) {
+            if (child + 1 < size && ranksAbove(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!ranksAbove(match, heap[child], scores)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = match;
+    }
+    
+    // Higher score first, ties by lower id
+    private boolean ranksAbove(int match, int other, ScoreAccumulator scores) {
+        double score = scores.score(match);
+        double otherScore = scores.score(other);
+        return score != otherScore ? score > otherScore : ids[scores.ordinal(match)] < ids[scores.ordinal(other)];
+    }
+    
+    /**
+     * Writes the live documents and their postings. Dead ordinals are dropped and
+     * the rest renumbered densely, so a written index is always compact.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            int[] remap = liveRemap();
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(ordinalsById.size());
+            for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+                out.writeLong(ids[ordinal]);
+                out.writeInt(lengths[ordinal]);
+            }
+            List<Map.Entry<String, CompressedPostingList>> terms = new ArrayList<>();
+            for (Map.Entry<String, CompressedPostingList> entry : postings.entrySet()) {
+                CompressedPostingList list = remapped(entry.getValue(), remap);
+                if (list.count() > 0) {
+                    terms.add(Map.entry(entry.getKey(), list));
+                }
+            }
+            out.writeInt(terms.size());
+            for (Map.Entry<String, CompressedPostingList> entry : terms) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Replaces the contents of this index with one previously written by {@link #writeTo}.
+     */
+    public void readFrom(DataInput in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported full-text segment version " + version);
+        }
+        lock.writeLock().lock();
+        try {
+            clear();
+            int documents = in.readInt();
+            for (int i = 0; i < documents; i++) {
+                int ordinal = nextOrdinal();
+                ids[ordinal] = in.readLong();
+                lengths[ordinal] = in.readInt();
+                live.set(ordinal);
+                totalLength += lengths[ordinal];
+                ordinalsById.put(ids[ordinal], ordinal);
+            }
+            int terms = in.readInt();
+            for (int i = 0; i < terms; i++) {
+                postings.put(in.readUTF(), CompressedPostingList.readFrom(in));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void removeOrdinal(Integer ordinal) {
+        if (ordinal == null) {
+            return;
+        }
+        live.clear(ordinal);
+        totalLength -= lengths[ordinal];
+        int dead = ordinalCount - ordinalsById.size();
+        if (dead > MIN_COMPACTION_SIZE && dead > ordinalsById.size()) {
+            compact();
+        }
+    }
+    
+    private void compact() {
+        int[] remap = liveRemap();
+        postings.replaceAll((term, list) -> remapped(list, remap));
+        postings.values().removeIf(list -> list.count() == 0);
+        int next = 0;
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            ids[next] = ids[ordinal];
+            lengths[next] = lengths[ordinal];
+            ordinalsById.put(ids[next], next);
+            next++;
+        }
+        live.clear();
+        live.set(0, next);
+        ordinalCount = next;
+    }
+    
+    private int[] liveRemap() {
+        int[] remap = new int[ordinalCount];
+        int next = 0;
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            remap[ordinal] = live.get(ordinal) ? next++ : -1;
+        }
+        return remap;
+    }
+    
+    private static CompressedPostingList remapped(CompressedPostingList list, int[] remap) {
+        CompressedPostingList result = new CompressedPostingList();
+        CompressedPostingList.Cursor cursor = list.cursor();
+        while (cursor.next()) {
+            int ordinal = remap[cursor.ordinal()];
+            if (ordinal >= 0) {
+                result.add(ordinal, cursor.frequency());
+            }
+        }
+        return result;
+    }
+    
+    private int nextOrdinal() {
+        if (ordinalCount == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        return ordinalCount++;
+    }
+}
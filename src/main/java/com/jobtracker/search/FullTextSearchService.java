@@ -0,0 +1,122 @@
+package com.jobtracker.search;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.SearchPage;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationsArchivedEvent;
+import com.jobtracker.service.ApplicationsImportedEvent;
+import com.jobtracker.snapshot.SnapshotContributor;
+import com.jobtracker.snapshot.SnapshotManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over application descriptions and notes, served from a
+ * {@link FullTextIndex} so that only matching rows are ever loaded.
+ * <p>
+ * The index is loaded at startup by {@link SnapshotManager}, from the snapshot file
+ * when there is one, and is then kept current from committed {@link ApplicationChangedEvent}s.
+ */
+@Service
+public class FullTextSearchService implements SnapshotContributor {
+    
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private final JobApplicationRepository repository;
+    private final FullTextIndex index = new FullTextIndex();
+    
+    public FullTextSearchService(JobApplicationRepository repository) {
+        this.repository = repository;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        JobApplicationResponse before = event.before();
+        JobApplicationResponse after = event.after();
+        if (after == null) {
+            index.remove(event.id());
+        } else if (before == null
+                || !Objects.equals(before.description(), after.description())
+                || !Objects.equals(before.notes(), after.notes())) {
+            index.put(after.id(), after.description(), after.notes());
+        }
+    }
+    
+    /**
+     * Only the hot tier is searched.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsArchived(ApplicationsArchivedEvent event) {
+        event.ids().forEach(index::remove);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        event.created().forEach(created -> index.put(created.id(), created.description(), created.notes()));
+    }
+    
+    @Transactional(readOnly = true)
+    public SearchPage<JobApplicationResponse> search(String query, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        long offset = (long) pageNumber * pageSize;
+        FullTextIndex.Hits hits = index.search(query, (int) Math.min(offset, Integer.MAX_VALUE), pageSize);
+        Map<Long, JobApplication> rows = repository.findAllById(hits.ids()).stream()
+            .collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+        // A hit can outlive its row briefly when a delete has not been applied yet
+        List<JobApplicationResponse> items = hits.ids().stream()
+            .map(rows::get)
+            .filter(Objects::nonNull)
+            .map(JobApplicationResponse::fromEntity)
+            .toList();
+        return new SearchPage<>(items, pageNumber, pageSize, hits.total());
+    }
+    
+    @Override
+    public String section() {
+        return "fulltext";
+    }
+    
+    @Override
+    public void writeSnapshot(DataOutput out) throws IOException {
+        index.writeTo(out);
+    }
+    
+    @Override
+    public void readSnapshot(DataInput in) throws IOException {
+        index.readFrom(in);
+    }
+    
+    @Override
+    public void apply(JobApplication application) {
+        index.put(application.getId(), application.getDescription(), application.getNotes());
+    }
+    
+    @Override
+    public int retainOnly(long[] sortedIds) {
+        return index.retainOnly(sortedIds);
+    }
+    
+    @Override
+    public int size() {
+        return index.size();
+    }
+    
+    @Override
+    public void clear() {
+        index.clear();
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobtracker.search;
+
+import com.jobtracker.dto.NameMatch;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationsArchivedEvent;
+import com.jobtracker.service.ApplicationsImportedEvent;
+import com.jobtracker.snapshot.SnapshotContributor;
+import com.jobtracker.snapshot.SnapshotManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Company-name and job-title search served from an in-memory {@link TrigramIndex},
+ * so lookups never issue a leading-wildcard {@code LIKE} against the database.
+ * <p>
+ * The index is loaded at startup by {@link SnapshotManager} and is then kept
+ * current from committed {@link ApplicationChangedEvent}s. Archived applications
+ * are dropped, so only the hot tier is searched.
+ */
+@Service
+public class NameSearchService implements SnapshotContributor {
+    
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+    
+    private final TrigramIndex index = new TrigramIndex();
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.after() == null) {
+            index.remove(event.id());
+        } else {
+            index.put(event.id(), event.after().companyName(), event.after().jobTitle());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsArchived(ApplicationsArchivedEvent event) {
+        event.ids().forEach(index::remove);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        event.created().forEach(created -> index.put(created.id(), created.companyName(), created.jobTitle()));
+    }
+    
+    public List<NameMatch> search(String query, int limit) {
+        return index.search(query, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+    
+    @Override
+    public String section() {
+        return "names";
+    }
+    
+    @Override
+    public void writeSnapshot(DataOutput out) throws IOException {
+        index.writeTo(out);
+    }
+    
+    @Override
+    public void readSnapshot(DataInput in) throws IOException {
+        index.readFrom(in);
+    }
+    
+    @Override
+    public void apply(JobApplication application) {
+        index.put(application.getId(), application.getCompanyName(), application.getJobTitle());
+    }
+    
+    @Override
+    public int retainOnly(long[] sortedIds) {
+        return index.retainOnly(sortedIds);
+    }
+    
+    @Override
+    public int size() {
+        return index.size();
+    }
+    
+    @Override
+    public void clear() {
+        index.clear();
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobtracker.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, growable list of document ordinals. New documents get increasing
+ * ordinals, so the common case is an append; re-indexed documents are inserted
+ * in place with a binary search.
+ */
+final class PostingList {
+    
+    private int[] values = new int[4];
+    private int size;
+    
+    void add(int value) {
+        if (size == 0 || values[size - 1] < value) {
+            ensureCapacity();
+            values[size++] = value;
+            return;
+        }
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        ensureCapacity();
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+    }
+    
+    void remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+    }
+    
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+    
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+    
+    /**
+     * Keeps only the first {@code count} entries of the sorted {@code candidates}
+     * that are also in this list, compacting them to the front of the array, and
+     * returns the new count. Few candidates are probed by binary search; otherwise
+     * both sides are walked in one linear merge.
+     */
+    int retainAll(int[] candidates, int count) {
+        int kept = 0;
+        if ((long) count * (32 - Integer.numberOfLeadingZeros(size)) < size) {
+            int from = 0;
+            for (int i = 0; i < count; i++) {
+                int position = Arrays.binarySearch(values, from, size, candidates[i]);
+                if (position >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = position + 1;
+                } else {
+                    from = -position - 1;
+                }
+            }
+            return kept;
+        }
+        int position = 0;
+        for (int i = 0; i < count && position < size; i++) {
+            int candidate = candidates[i];
+            while (position < size && values[position] < candidate) {
+                position++;
+            }
+            if (position < size && values[position] == candidate) {
+                candidates[kept++] = candidate;
+            }
+        }
+        return kept;
+    }
+    
+    int get(int index) {
+        return values[index];
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    private void ensureCapacity() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length + (values.length >> 1) + 1);
+        }
+    }
+}
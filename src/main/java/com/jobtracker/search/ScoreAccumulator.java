@@ -0,0 +1,95 @@
+package com.jobtracker.search;
+
+/**
+ * Per-document score sums for one query, in primitive arrays.
+ * <p>
+ * Matches are stored compactly in the order they are first seen. The lookup from
+ * ordinal to match is a dense array when the query's postings cover a good share
+ * of the index, and otherwise an open-addressing table sized to the postings, so a
+ * selective query allocates nothing proportional to the index.
+ */
+final class ScoreAccumulator {
+    
+    // Dense lookup once the postings reach 1/DENSE_FRACTION of the ordinals
+    private static final int DENSE_FRACTION = 8;
+    
+    private final int[] ordinals;
+    private final double[] scores;
+    private int size;
+    
+    // Dense: match index + 1 by ordinal, 0 for none
+    private final int[] matchesByOrdinal;
+    // Sparse: ordinal + 1 per slot (0 for an empty slot) and the match it maps to
+    private final int[] slotOrdinals;
+    private final int[] slotMatches;
+    private final int mask;
+    
+    ScoreAccumulator(int ordinalCount, long postingCount) {
+        int capacity = (int) Math.min(postingCount, ordinalCount);
+        ordinals = new int[capacity];
+        scores = new double[capacity];
+        if (postingCount >= ordinalCount / DENSE_FRACTION) {
+            matchesByOrdinal = new int[ordinalCount];
+            slotOrdinals = null;
+            slotMatches = null;
+            mask = 0;
+        } else {
+            // At most half full, so probe runs stay short
+            int slots = Integer.highestOneBit(Math.max(2, capacity * 2) - 1) << 1;
+            matchesByOrdinal = null;
+            slotOrdinals = new int[slots];
+            slotMatches = new int[slots];
+            mask = slots - 1;
+        }
+    }
+    
+    void add(int ordinal, double score) {
+        int match = matchesByOrdinal != null ? denseMatch(ordinal) : sparseMatch(ordinal);
+        scores[match] += score;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    int ordinal(int match) {
+        return ordinals[match];
+    }
+    
+    double score(int match) {
+        return scores[match];
+    }
+    
+    boolean isDense() {
+        return matchesByOrdinal != null;
+    }
+    
+    private int denseMatch(int ordinal) {
+        int match = matchesByOrdinal[ordinal] - 1;
+        if (match < 0) {
+            match = newMatch(ordinal);
+            matchesByOrdinal[ordinal] = match + 1;
+        }
+        return match;
+    }
+    
+    private int sparseMatch(int ordinal) {
+        int key = ordinal + 1;
+        int hash = ordinal * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (slotOrdinals[slot] != 0) {
+            if (slotOrdinals[slot] == key) {
+                return slotMatches[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        slotOrdinals[slot] = key;
+        slotMatches[slot] = newMatch(ordinal);
+        return slotMatches[slot];
+    }
+    
+    private int newMatch(int ordinal) {
+        ordinals[size] = ordinal;
+        return size++;
+    }
+}
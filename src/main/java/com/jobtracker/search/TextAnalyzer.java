@@ -0,0 +1,52 @@
+package com.jobtracker.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits free text into index terms: runs of letters and digits, lower-cased,
+ * with single characters and common English stop words dropped. Overlong runs
+ * (URLs, hashes) are truncated so they cannot bloat the term dictionary.
+ */
+final class TextAnalyzer {
+    
+    static final int MAX_TERM_LENGTH = 32;
+    
+    private static final Set<String> STOP_WORDS = Set.of(
+        "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+        "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these",
+        "they", "this", "to", "was", "will", "with", "we", "you", "our");
+    
+    private TextAnalyzer() {
+    }
+    
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, text, start, i);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+    
+    private static void addTerm(List<String> terms, String text, int start, int end) {
+        if (end - start < 2) {
+            return;
+        }
+        String term = text.substring(start, Math.min(end, start + MAX_TERM_LENGTH)).toLowerCase(Locale.ROOT);
+        if (!STOP_WORDS.contains(term)) {
+            terms.add(term);
+        }
+    }
+}
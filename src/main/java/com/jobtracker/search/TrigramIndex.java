@@ -0,0 +1,551 @@
+package com.jobtracker.search;
+
+import com.jobtracker.dto.NameMatch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over application company names and job titles.
+ * <p>
+ * Company names and titles repeat heavily across applications, so the index is two
+ * levels deep. Distinct field values are dictionary-encoded and only the dictionary
+ * is trigram-indexed; each value then keeps the list of documents using it as a
+ * company name and as a job title. A query finds and scores the matching values
+ * first, once each, and only walks the documents of those values.
+ * <p>
+ * Each word is padded with two leading spaces and one trailing space before its
+ * trigrams are taken (as PostgreSQL's pg_trgm does), so one- and two-letter queries
+ * still resolve as word prefixes. A query word of three or more letters matches any
+ * substring. Every query word must occur in the company name or the job title.
+ * <p>
+ * Documents are addressed by dense int ordinals to keep posting lists compact.
+ * Removed documents and values no document uses any more keep their slots until they
+ * outnumber the live ones; the index is then rebuilt from its live documents.
+ * <p>
+ * The index is safe for concurrent use.
+ */
+public class TrigramIndex {
+    
+    private static final double COMPANY_WEIGHT = 2.0;
+    private static final double TITLE_WEIGHT = 1.0;
+    private static final int NO_VALUE = -1;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+    
+    private static final Comparator<NameMatch> RANKING = Comparator
+        .comparingDouble(NameMatch::score).reversed()
+        .thenComparing(NameMatch::id);
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // Dictionary of distinct values shared by both fields, with trigram postings of value codes
+    private final Map<String, Integer> codesByValue = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private final List<String> normalizedValues = new ArrayList<>();
+    private final Map<Long, PostingList> valuePostings = new HashMap<>();
+    // Documents using each value in either field, indexed by value code
+    private int[] valueUses = new int[16];
+    private int liveValues;
+    
+    // Document ordinals using each value, indexed by value code
+    private final List<PostingList> companyDocuments = new ArrayList<>();
+    private final List<PostingList> titleDocuments = new ArrayList<>();
+    
+    // Per-ordinal columns; a removed document keeps its slot with no values
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private long[] ids = new long[16];
+    private int[] companyCodes = new int[16];
+    private int[] titleCodes = new int[16];
+    private int ordinalCount;
+    
+    public void put(long id, String companyName, String jobTitle) {
+        lock.writeLock().lock();
+        try {
+            int companyCode = encode(companyName);
+            int titleCode = encode(jobTitle);
+            Integer ordinal = ordinalsById.get(id);
+            if (ordinal != null) {
+                if (companyCodes[ordinal] == companyCode && titleCodes[ordinal] == titleCode) {
+                    return;
+                }
+                unlink(ordinal);
+            } else {
+                ordinal = nextOrdinal();
+                ids[ordinal] = id;
+                ordinalsById.put(id, ordinal);
+            }
+            companyCodes[ordinal] = companyCode;
+            titleCodes[ordinal] = titleCode;
+            if (companyCode != NO_VALUE) {
+                companyDocuments.get(companyCode).add(ordinal);
+                use(companyCode, 1);
+            }
+            if (titleCode != NO_VALUE) {
+                titleDocuments.get(titleCode).add(ordinal);
+                use(titleCode, 1);
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal != null) {
+                // Ordinals are not reused, so document lists stay append-mostly
+                unlink(ordinal);
+                companyCodes[ordinal] = NO_VALUE;
+                titleCodes[ordinal] = NO_VALUE;
+                compactIfSparse();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Drops every document whose id is not in {@code sortedIds}.
+     */
+    public int retainOnly(long[] sortedIds) {
+        lock.writeLock().lock();
+        try {
+            List<Long> stale = new ArrayList<>();
+            for (Long id : ordinalsById.keySet()) {
+                if (Arrays.binarySearch(sortedIds, id) < 0) {
+                    stale.add(id);
+                }
+            }
+            stale.forEach(this::remove);
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            codesByValue.clear();
+            values.clear();
+            normalizedValues.clear();
+            valuePostings.clear();
+            companyDocuments.clear();
+            titleDocuments.clear();
+            valueUses = new int[16];
+            liveValues = 0;
+            ordinalsById.clear();
+            ordinalCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns up to {@code limit} matches ranked by score, best first. Company-name
+     * matches outrank job-title matches, prefixes outrank inner substrings, and
+     * closer length matches rank higher. Ties are broken by id.
+     */
+    public List<NameMatch> search(String query, int limit) {
+        String[] queryWords = words(normalize(query));
+        if (queryWords.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            WordMatches[] matches = new WordMatches[queryWords.length];
+            WordMatches driver = null;
+            for (int i = 0; i < queryWords.length; i++) {
+                matches[i] = new WordMatches(queryWords[i]);
+                if (matches[i].documentCount == 0) {
+                    return List.of();
+                }
+                if (driver == null || matches[i].documentCount < driver.documentCount) {
+                    driver = matches[i];
+                }
+            }
+            
+            // Walk the documents of the most selective word and score them against all words
+            PriorityQueue<NameMatch> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            for (int code : driver.codes) {
+                offerAll(companyDocuments.get(code), null, matches, top, limit);
+                // Skip documents whose company also matched; they were offered above
+                offerAll(titleDocuments.get(code), driver, matches, top, limit);
+            }
+            List<NameMatch> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING);
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Writes the values in use and the live documents as value codes. Trigram
+     * postings are not written; they are rebuilt from the dictionary on read.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(liveValues);
+            int[] remap = new int[values.size()];
+            int next = 0;
+            for (int code = 0; code < values.size(); code++) {
+                if (valueUses[code] > 0) {
+                    out.writeUTF(values.get(code));
+                    remap[code] = next++;
+                }
+            }
+            out.writeInt(ordinalsById.size());
+            for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+                if (isLive(ordinal)) {
+                    out.writeLong(ids[ordinal]);
+                    out.writeInt(companyCodes[ordinal] != NO_VALUE ? remap[companyCodes[ordinal]] : NO_VALUE);
+                    out.writeInt(titleCodes[ordinal] != NO_VALUE ? remap[titleCodes[ordinal]] : NO_VALUE);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Replaces the contents of this index with one previously written by {@link #writeTo}.
+     */
+    public void readFrom(DataInput in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported trigram index version " + version);
+        }
+        lock.writeLock().lock();
+        try {
+            clear();
+            String[] dictionary = new String[in.readInt()];
+            for (int code = 0; code < dictionary.length; code++) {
+                dictionary[code] = in.readUTF();
+            }
+            int documents = in.readInt();
+            for (int i = 0; i < documents; i++) {
+                long id = in.readLong();
+                int companyCode = in.readInt();
+                int titleCode = in.readInt();
+                put(id, companyCode != NO_VALUE ? dictionary[companyCode] : null,
+                    titleCode != NO_VALUE ? dictionary[titleCode] : null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void offerAll(PostingList documents, WordMatches skipCompanyMatches, WordMatches[] matches,
+                          PriorityQueue<NameMatch> top, int limit) {
+        for (int i = 0; i < documents.size(); i++) {
+            int ordinal = documents.get(i);
+            int companyCode = companyCodes[ordinal];
+            if (skipCompanyMatches != null && skipCompanyMatches.score(companyCode) > 0) {
+                continue;
+            }
+            double score = documentScore(matches, companyCode, titleCodes[ordinal]);
+            if (score <= 0) {
+                continue;
+            }
+            long id = ids[ordinal];
+            if (top.size() == limit) {
+                NameMatch worst = top.peek();
+                if (score < worst.score() || (score == worst.score() && id > worst.id())) {
+                    continue;
+                }
+            }
+            top.offer(new NameMatch(id, value(companyCode), value(titleCodes[ordinal]), score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+    }
+    
+    private static double documentScore(WordMatches[] matches, int companyCode, int titleCode) {
+        double total = 0;
+        for (WordMatches match : matches) {
+            double best = Math.max(
+                match.score(companyCode) * COMPANY_WEIGHT,
+                match.score(titleCode) * TITLE_WEIGHT);
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+    
+    /**
+     * Dictionary values matching one query word, with their scores. Small
+     * dictionaries use a dense score array; large ones a map of the matches only.
+     */
+    private final class WordMatches {
+        
+        private static final int DENSE_LIMIT = 1 << 16;
+        
+        private final int[] codes;
+        private final float[] denseScores;
+        private final Map<Integer, Float> sparseScores;
+        private long documentCount;
+        
+        WordMatches(String word) {
+            int[] candidates = matchingValues(word);
+            String wordStart = " " + word;
+            boolean dense = values.size() <= DENSE_LIMIT;
+            denseScores = dense ? new float[values.size()] : null;
+            sparseScores = dense ? null : new HashMap<>();
+            int count = 0;
+            for (int code : candidates) {
+                float score = (float) fieldScore(normalizedValues.get(code), word, wordStart);
+                if (score <= 0) {
+                    // Trigrams matched but the word itself does not occur (e.g. "abab" vs "aba bab")
+                    continue;
+                }
+                candidates[count++] = code;
+                documentCount += companyDocuments.get(code).size() + titleDocuments.get(code).size();
+                if (dense) {
+                    denseScores[code] = score;
+                } else {
+                    sparseScores.put(code, score);
+                }
+            }
+            codes = Arrays.copyOf(candidates, count);
+        }
+        
+        float score(int code) {
+            if (code == NO_VALUE) {
+                return 0;
+            }
+            if (denseScores != null) {
+                return denseScores[code];
+            }
+            Float score = sparseScores.get(code);
+            return score != null ? score : 0;
+        }
+    }
+    
+    private int[] matchingValues(String word) {
+        long[] grams = queryGrams(word);
+        PostingList[] lists = new PostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = valuePostings.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+        int[] codes = lists[0].toArray();
+        int count = codes.length;
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            count = lists[i].retainAll(codes, count);
+        }
+        return Arrays.copyOf(codes, count);
+    }
+    
+    private static double fieldScore(String field, String word, String wordStart) {
+        int position = field.indexOf(word);
+        if (position < 0) {
+            return 0;
+        }
+        double base;
+        if (position == 0) {
+            base = 1.0;
+        } else if (field.contains(wordStart)) {
+            base = 0.75;
+        } else if (word.length() >= 3) {
+            base = 0.5;
+        } else {
+            // Short query words only match word prefixes
+            return 0;
+        }
+        return base * (0.5 + 0.5 * word.length() / field.length());
+    }
+    
+    private int encode(String value) {
+        if (value == null) {
+            return NO_VALUE;
+        }
+        Integer code = codesByValue.get(value);
+        if (code == null) {
+            code = values.size();
+            String normalized = normalize(value);
+            codesByValue.put(value, code);
+            values.add(value);
+            if (code == valueUses.length) {
+                valueUses = Arrays.copyOf(valueUses, code + (code >> 1));
+            }
+            normalizedValues.add(normalized);
+            companyDocuments.add(new PostingList());
+            titleDocuments.add(new PostingList());
+            for (long gram : valueGrams(normalized)) {
+                valuePostings.computeIfAbsent(gram, key -> new PostingList()).add(code);
+            }
+        }
+        return code;
+    }
+    
+    private String value(int code) {
+        return code == NO_VALUE ? null : values.get(code);
+    }
+    
+    private void unlink(int ordinal) {
+        if (companyCodes[ordinal] != NO_VALUE) {
+            companyDocuments.get(companyCodes[ordinal]).remove(ordinal);
+            use(companyCodes[ordinal], -1);
+        }
+        if (titleCodes[ordinal] != NO_VALUE) {
+            titleDocuments.get(titleCodes[ordinal]).remove(ordinal);
+            use(titleCodes[ordinal], -1);
+        }
+    }
+    
+    private void use(int code, int delta) {
+        if (valueUses[code] == 0) {
+            liveValues++;
+        }
+        valueUses[code] += delta;
+        if (valueUses[code] == 0) {
+            liveValues--;
+        }
+    }
+    
+    // A removed document keeps its ordinal, which its id no longer maps to
+    private boolean isLive(int ordinal) {
+        Integer current = ordinalsById.get(ids[ordinal]);
+        return current != null && current == ordinal;
+    }
+    
+    private void compactIfSparse() {
+        int deadOrdinals = ordinalCount - ordinalsById.size();
+        int deadValues = values.size() - liveValues;
+        if ((deadOrdinals <= MIN_COMPACTION_SIZE || deadOrdinals <= ordinalsById.size())
+                && (deadValues <= MIN_COMPACTION_SIZE || deadValues <= liveValues)) {
+            return;
+        }
+        List<LiveDocument> documents = new ArrayList<>(ordinalsById.size());
+        for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+            if (isLive(ordinal)) {
+                documents.add(new LiveDocument(ids[ordinal], value(companyCodes[ordinal]), value(titleCodes[ordinal])));
+            }
+        }
+        clear();
+        documents.forEach(document -> put(document.id(), document.companyName(), document.jobTitle()));
+    }
+    
+    private record LiveDocument(long id, String companyName, String jobTitle) {}
+    
+    /**
+     * Number of value codes held, including ones no document uses any more.
+     */
+    int dictionarySize() {
+        lock.readLock().lock();
+        try {
+            return values.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private int nextOrdinal() {
+        if (ordinalCount == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            companyCodes = Arrays.copyOf(companyCodes, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+        }
+        return ordinalCount++;
+    }
+    
+    private static long[] valueGrams(String normalized) {
+        String[] words = words(normalized);
+        long[] grams = new long[normalized.length() + 3 * words.length];
+        int count = 0;
+        for (String word : words) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams[count++] = gram(padded, i);
+            }
+        }
+        return distinct(grams, count);
+    }
+    
+    private static long[] queryGrams(String word) {
+        if (word.length() < 3) {
+            return new long[] {gram(("  " + word).substring(word.length() - 1), 0)};
+        }
+        long[] grams = new long[word.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(word, i);
+        }
+        return distinct(grams, grams.length);
+    }
+    
+    private static long[] distinct(long[] grams, int count) {
+        Arrays.sort(grams, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || grams[unique - 1] != grams[i]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, unique);
+    }
+    
+    private static long gram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32)
+            | ((long) text.charAt(offset + 1) << 16)
+            | text.charAt(offset + 2);
+    }
+    
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+    
+    private static String[] words(String normalized) {
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+}
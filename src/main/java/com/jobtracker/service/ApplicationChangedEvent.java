@@ -0,0 +1,50 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+/**
+ * Published by {@link JobApplicationService} for every create, update and delete.
+ * {@code before} is null for creates and {@code after} is null for deletes.
+ * <p>
+ * Listeners that keep derived in-memory state should use
+ * {@code @TransactionalEventListener} so they only see committed changes. Listeners
+ * that write to the database alongside the change use a plain {@code @EventListener},
+ * which runs inside the publishing transaction.
+ */
+public record ApplicationChangedEvent(
+    ChangeType type,
+    JobApplicationResponse before,
+    JobApplicationResponse after
+) {
+    
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+    
+    public static ApplicationChangedEvent created(JobApplicationResponse after) {
+        return new ApplicationChangedEvent(ChangeType.CREATED, null, after);
+    }
+    
+    public static ApplicationChangedEvent updated(JobApplicationResponse before, JobApplicationResponse after) {
+        return new ApplicationChangedEvent(ChangeType.UPDATED, before, after);
+    }
+    
+    public static ApplicationChangedEvent deleted(JobApplicationResponse before) {
+        return new ApplicationChangedEvent(ChangeType.DELETED, before, null);
+    }
+    
+    public Long id() {
+        return after != null ? after.id() : before.id();
+    }
+    
+    public ApplicationStatus previousStatus() {
+        return before != null ? before.status() : null;
+    }
+    
+    public ApplicationStatus currentStatus() {
+        return after != null ? after.status() : null;
+    }
+}
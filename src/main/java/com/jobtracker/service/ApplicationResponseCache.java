@@ -0,0 +1,97 @@
+package com.jobtracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobtracker.dto.JobApplicationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of ready-made {@link JobApplicationResponse}s by id,
+ * backing {@code GET /api/applications/{id}}.
+ * <p>
+ * Entries are weighed by their approximate size in bytes and expire after a fixed
+ * time. Committed writes refresh or evict entries through {@link ApplicationChangedEvent}s.
+ * A load holds the entry's lock until it finishes, so a refresh from a concurrent
+ * commit always lands after a stale load rather than being overwritten by it.
+ * Hit, miss, and eviction counts are published as {@code cache.*} metrics tagged
+ * {@code cache=applications}.
+ */
+@Component
+public class ApplicationResponseCache implements MeterBinder {
+    
+    public static final String CACHE_NAME = "applications";
+    
+    private final Cache<Long, JobApplicationResponse> cache;
+    
+    public ApplicationResponseCache(@Value("${jobtracker.cache.applications.max-size:64MB}") DataSize maxSize,
+                                    @Value("${jobtracker.cache.applications.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Long id, JobApplicationResponse response) -> weigh(response))
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+    
+    /**
+     * Returns the cached response for {@code id}, calling {@code loader} on a miss.
+     * Exceptions from the loader propagate and nothing is cached.
+     */
+    public JobApplicationResponse get(Long id, Function<Long, JobApplicationResponse> loader) {
+        return cache.get(id, loader);
+    }
+    
+    @Order(DataVersionTracker.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.after() != null) {
+            cache.put(event.id(), event.after());
+        } else {
+            cache.invalidate(event.id());
+        }
+    }
+    
+    // Archived rows are still served by id, but from the archive; keep the cache for the hot tier
+    @Order(DataVersionTracker.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsArchived(ApplicationsArchivedEvent event) {
+        cache.invalidateAll(event.ids());
+    }
+    
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+    
+    /**
+     * Approximate retained size: a fixed overhead for the record, boxed fields and
+     * entry, plus two bytes per character of text.
+     */
+    static int weigh(JobApplicationResponse response) {
+        return 256 + 2 * (length(response.companyName())
+            + length(response.jobTitle())
+            + length(response.description())
+            + length(response.notes())
+            + length(response.location())
+            + length(response.jobUrl()));
+    }
+    
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
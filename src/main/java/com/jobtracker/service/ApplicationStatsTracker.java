@@ -0,0 +1,134 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.StatusCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory per-status counters backing {@code /api/applications/stats}.
+ * <p>
+ * The single {@code GROUP BY status} query over both tiers (the hot table and the
+ * archive) is the source of truth; archiving moves rows between tiers without changing
+ * the counters. Committed writes adjust the counters through {@link ApplicationChangedEvent}s, and a
+ * periodic reconciliation re-reads the aggregate to correct any drift (for example a
+ * write that commits while a reconciliation query is in flight).
+ */
+@Component
+public class ApplicationStatsTracker {
+    
+    private static final Logger log = LoggerFactory.getLogger(ApplicationStatsTracker.class);
+    
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    
+    private final JobApplicationRepository repository;
+    private final DataVersionTracker versions;
+    private final AtomicLongArray counts = new AtomicLongArray(STATUSES.length);
+    private final Lock reconcileLock = new ReentrantLock();
+    private volatile boolean initialized;
+    
+    public ApplicationStatsTracker(JobApplicationRepository repository, DataVersionTracker versions) {
+        this.repository = repository;
+        this.versions = versions;
+    }
+    
+    @Order(DataVersionTracker.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        ApplicationStatus previous = event.previousStatus();
+        ApplicationStatus current = event.currentStatus();
+        if (previous == current) {
+            return;
+        }
+        if (previous != null) {
+            counts.decrementAndGet(previous.ordinal());
+        }
+        if (current != null) {
+            counts.incrementAndGet(current.ordinal());
+        }
+    }
+    
+    @Order(DataVersionTracker.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        long[] created = new long[STATUSES.length];
+        event.created().forEach(application -> created[application.status().ordinal()]++);
+        for (int i = 0; i < created.length; i++) {
+            if (created[i] != 0) {
+                counts.addAndGet(i, created[i]);
+            }
+        }
+    }
+    
+    @Scheduled(initialDelayString = "${jobtracker.stats.reconcile-initial-delay:PT0S}",
+               fixedDelayString = "${jobtracker.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        // A lock rather than a monitor: a virtual thread blocked on the query inside would pin its carrier
+        reconcileLock.lock();
+        try {
+            long[] fresh = new long[STATUSES.length];
+            for (StatusCount row : repository.countGroupedByStatusAcrossTiers()) {
+                fresh[row.getStatus().ordinal()] = row.getCount();
+            }
+            boolean drifted = false;
+            for (int i = 0; i < fresh.length; i++) {
+                long drift = counts.getAndSet(i, fresh[i]) - fresh[i];
+                if (initialized && drift != 0) {
+                    log.debug("Reconciled {} counter, drift was {}", STATUSES[i], drift);
+                    drifted = true;
+                }
+            }
+            if (drifted) {
+                // The table changed without events (e.g. edited directly); invalidate cached representations
+                versions.bump();
+            }
+            initialized = true;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+    
+    public long count(ApplicationStatus status) {
+        ensureInitialized();
+        return counts.get(status.ordinal());
+    }
+    
+    public JobApplicationService.ApplicationStats snapshot() {
+        ensureInitialized();
+        long total = 0;
+        long active = 0;
+        long inInterview = 0;
+        for (ApplicationStatus status : STATUSES) {
+            long count = counts.get(status.ordinal());
+            total += count;
+            if (status.isActive()) {
+                active += count;
+            }
+            if (status.isInInterviewProcess()) {
+                inInterview += count;
+            }
+        }
+        return new JobApplicationService.ApplicationStats(
+            total,
+            active,
+            inInterview,
+            counts.get(ApplicationStatus.REJECTED.ordinal()),
+            counts.get(ApplicationStatus.ACCEPTED.ordinal())
+        );
+    }
+    
+    private void ensureInitialized() {
+        if (!initialized) {
+            reconcile();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.jobtracker.service;
+
+import java.util.List;
+
+/**
+ * Published when a batch of closed applications has moved from the hot table to the
+ * archive. The applications themselves are unchanged, so this is not an
+ * {@link ApplicationChangedEvent}: counters and aggregates stay as they are, and only
+ * read models of the hot tier need to drop the ids.
+ */
+public record ApplicationsArchivedEvent(List<Long> ids) {}
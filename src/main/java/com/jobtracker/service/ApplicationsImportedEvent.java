@@ -0,0 +1,14 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.JobApplicationResponse;
+
+import java.util.List;
+
+/**
+ * Published once per transaction of a bulk import, in place of an
+ * {@link ApplicationChangedEvent#created} per row. Listeners of created events handle
+ * this one too and apply the whole chunk at once: one JDBC batch per derived table,
+ * one version bump and one feed reset. The response cache skips it, since it only
+ * holds rows that have been read.
+ */
+public record ApplicationsImportedEvent(List<JobApplicationResponse> created) {}
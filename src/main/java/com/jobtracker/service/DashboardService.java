@@ -0,0 +1,75 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.Dashboard;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.repository.JobApplicationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Builds the dashboard in one read-only transaction, so the three lists are read
+ * from the same snapshot on a single connection.
+ * <p>
+ * The lists share an order (newest update first) and the interview statuses are a
+ * subset of the active ones, so each list is first cut from the one before it: the
+ * active page from the recent rows, the interview page from the active page. A query
+ * is only issued when the rows already read cannot prove the page is complete.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardService {
+    
+    static final int PAGE_SIZE = 10;
+    
+    private static final Pageable FIRST_PAGE = PageRequest.ofSize(PAGE_SIZE);
+    
+    private final JobApplicationRepository repository;
+    private final ApplicationStatsTracker statsTracker;
+    
+    public DashboardService(JobApplicationRepository repository, ApplicationStatsTracker statsTracker) {
+        this.repository = repository;
+        this.statsTracker = statsTracker;
+    }
+    
+    public Dashboard getDashboard() {
+        Rows recent = Rows.of(repository.findRecentSummaries(FIRST_PAGE));
+        Rows active = recent.firstPage(JobApplicationSummary::active,
+            () -> repository.findActiveSummaries(FIRST_PAGE));
+        Rows interview = active.firstPage(JobApplicationSummary::inInterviewProcess,
+            () -> repository.findSummariesInInterview(FIRST_PAGE));
+        return new Dashboard(statsTracker.snapshot(), recent.rows(), active.rows(), interview.rows());
+    }
+    
+    /**
+     * A first page; {@code exhaustive} when it holds every row of its list, i.e. the
+     * query returned fewer rows than it asked for.
+     */
+    record Rows(List<JobApplicationSummary> rows, boolean exhaustive) {
+        
+        static Rows of(List<JobApplicationSummary> rows) {
+            return new Rows(rows, rows.size() < PAGE_SIZE);
+        }
+        
+        /**
+         * The first page of the sub-list matching {@code filter}. Taking it from these
+         * rows is correct when they contain a full page of matches, or when they are the
+         * whole list; otherwise {@code query} reads it.
+         */
+        Rows firstPage(Predicate<JobApplicationSummary> filter, Supplier<List<JobApplicationSummary>> query) {
+            List<JobApplicationSummary> matching = rows.stream().filter(filter).toList();
+            if (matching.size() >= PAGE_SIZE) {
+                return new Rows(matching.subList(0, PAGE_SIZE), false);
+            }
+            if (exhaustive) {
+                return new Rows(matching, true);
+            }
+            return of(query.get());
+        }
+    }
+}
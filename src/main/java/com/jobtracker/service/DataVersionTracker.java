@@ -0,0 +1,110 @@
+package com.jobtracker.service;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters for conditional GETs: a global version bumped by every committed
+ * write, and per-row versions recording the global version of each row's last write.
+ * <p>
+ * Versions live in memory only, so tags also carry an epoch chosen at startup;
+ * rows not written since then are at version 0 of the current epoch. Callers must
+ * read the tag <em>before</em> reading data, so a response body is never older than
+ * the tag sent with it. Deleted and archived rows drop their entry; a row without one
+ * is tagged with the version of the last removal, which no row was ever written at.
+ * <p>
+ * Versions move only after every in-memory read model has applied the same commit:
+ * listeners serving tagged reads order themselves before {@link #ORDER}.
+ */
+@Component
+public class DataVersionTracker {
+    
+    /** One short of last, leaving room for listeners that must see the bumped version. */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong removedVersion = new AtomicLong();
+    private final Map<Long, Long> rowVersions = new ConcurrentHashMap<>();
+    
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        long version = globalVersion.incrementAndGet();
+        if (event.after() == null) {
+            remove(List.of(event.id()), version);
+        } else {
+            rowVersions.merge(event.id(), version, Math::max);
+        }
+    }
+    
+    /**
+     * Archived rows leave the hot table, so their entries are dropped like deleted ones.
+     */
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsArchived(ApplicationsArchivedEvent event) {
+        remove(event.ids(), globalVersion.incrementAndGet());
+    }
+    
+    /**
+     * An imported chunk is one commit, so it takes one version for all its rows.
+     */
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        long version = globalVersion.incrementAndGet();
+        event.created().forEach(created -> rowVersions.merge(created.id(), version, Math::max));
+    }
+    
+    /**
+     * Marks all data as changed, e.g. when a reconciliation finds the table was
+     * modified without events.
+     */
+    public void bump() {
+        generation.incrementAndGet();
+        globalVersion.incrementAndGet();
+    }
+    
+    /**
+     * Strong ETag for any representation derived from the whole table.
+     */
+    public String collectionTag() {
+        return "\"" + epoch + "-" + globalVersion.get() + "\"";
+    }
+    
+    /**
+     * Strong ETag for a whole-table representation that also depends on {@code inputs}
+     * the URL does not pin down, such as a date range defaulting to today.
+     */
+    public String collectionTag(Object... inputs) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch).append('-').append(globalVersion.get());
+        for (Object input : inputs) {
+            tag.append('-').append(input);
+        }
+        return tag.append('"').toString();
+    }
+    
+    /**
+     * Strong ETag for the representation of a single row.
+     */
+    public String rowTag(Long id) {
+        Long version = rowVersions.get(id);
+        long rowVersion = version != null ? version : removedVersion.get();
+        return "\"" + epoch + "-" + generation.get() + "-r" + rowVersion + "\"";
+    }
+    
+    // The fallback moves first, so a reader never sees a removed row at an older tag
+    private void remove(List<Long> ids, long version) {
+        removedVersion.accumulateAndGet(version, Math::max);
+        ids.forEach(rowVersions::remove);
+    }
+}
@@ -0,0 +1,260 @@
+package com.jobtracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.jobtracker.dto.BatchItemResult;
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.repository.JobApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates and updates many applications in one transaction.
+ * <p>
+ * Work is done in chunks of {@code hibernate.jdbc.batch_size}: each chunk is flushed
+ * as a single JDBC batch and the persistence context is then cleared, so memory stays
+ * flat for large requests. Items failing validation are reported individually and do
+ * not abort the rest of the batch. The JSON variants read each item themselves, so an
+ * item its constructor rejects (e.g. the salary range check) fails on its own too.
+ */
+@Service
+@Transactional
+public class JobApplicationBatchService {
+    
+    private final JobApplicationRepository repository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxItems;
+    
+    public JobApplicationBatchService(JobApplicationRepository repository,
+                                      EntityManager entityManager,
+                                      Validator validator,
+                                      ObjectMapper objectMapper,
+                                      ApplicationEventPublisher eventPublisher,
+                                      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int chunkSize,
+                                      @Value("${jobtracker.batch.max-items:1000}") int maxItems) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(JobApplicationRequest.class);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+    
+    public List<BatchItemResult> createApplications(List<JobApplicationRequest> requests) {
+        return create(requests, (request, errors) -> request);
+    }
+    
+    public List<BatchItemResult> createApplicationsFromJson(List<JsonNode> items) {
+        return create(items, this::read);
+    }
+    
+    private <T> List<BatchItemResult> create(List<T> items,
+                                             BiFunction<T, List<String>, JobApplicationRequest> reader) {
+        checkSize(items.size());
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        List<JobApplication> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        
+        for (int i = 0; i < items.size(); i++) {
+            List<String> errors = new ArrayList<>();
+            JobApplicationRequest request = reader.apply(items.get(i), errors);
+            if (errors.isEmpty()) {
+                errors = validate(request);
+            }
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.failure(i, null, HttpStatus.BAD_REQUEST.value(), errors);
+                continue;
+            }
+            JobApplication application = new JobApplication();
+            JobApplicationService.mapRequestToEntity(request, application);
+            chunk.add(application);
+            chunkIndexes.add(i);
+            if (chunk.size() == chunkSize) {
+                flushCreated(chunk, chunkIndexes, results);
+            }
+        }
+        flushCreated(chunk, chunkIndexes, results);
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * Inserts requests that the caller has already validated, such as a chunk of a
+     * bulk import, in chunks of {@code hibernate.jdbc.batch_size}. Not subject to
+     * the batch size limit; the caller sizes its transactions. The rows are announced
+     * by one {@link ApplicationsImportedEvent} rather than an event per row.
+     */
+    public int insertValidated(List<JobApplicationRequest> requests) {
+        List<JobApplicationResponse> created = new ArrayList<>(requests.size());
+        List<JobApplication> chunk = new ArrayList<>(chunkSize);
+        for (JobApplicationRequest request : requests) {
+            JobApplication application = new JobApplication();
+            JobApplicationService.mapRequestToEntity(request, application);
+            chunk.add(application);
+            if (chunk.size() == chunkSize) {
+                created.addAll(persist(chunk));
+                chunk.clear();
+            }
+        }
+        created.addAll(persist(chunk));
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationsImportedEvent(created));
+        }
+        return requests.size();
+    }
+    
+    /**
+     * Applies full updates keyed by application id. Each chunk of entities is loaded
+     * with a single {@code IN} query.
+     */
+    public List<BatchItemResult> updateApplications(Map<Long, JobApplicationRequest> requests) {
+        return update(requests, (request, errors) -> request);
+    }
+    
+    public List<BatchItemResult> updateApplicationsFromJson(Map<Long, JsonNode> items) {
+        return update(items, this::read);
+    }
+    
+    private <T> List<BatchItemResult> update(Map<Long, T> items,
+                                             BiFunction<T, List<String>, JobApplicationRequest> reader) {
+        checkSize(items.size());
+        List<Map.Entry<Long, T>> entries = new ArrayList<>(items.entrySet());
+        BatchItemResult[] results = new BatchItemResult[entries.size()];
+        
+        for (int start = 0; start < entries.size(); start += chunkSize) {
+            List<Map.Entry<Long, T>> slice =
+                entries.subList(start, Math.min(start + chunkSize, entries.size()));
+            Map<Long, JobApplication> loaded = repository.findAllById(
+                    slice.stream().map(Map.Entry::getKey).toList()).stream()
+                .collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+            
+            Map<Integer, JobApplicationResponse> before = new HashMap<>();
+            List<JobApplication> chunk = new ArrayList<>(slice.size());
+            List<Integer> chunkIndexes = new ArrayList<>(slice.size());
+            for (int offset = 0; offset < slice.size(); offset++) {
+                int index = start + offset;
+                Long id = slice.get(offset).getKey();
+                JobApplication application = loaded.get(id);
+                if (application == null) {
+                    results[index] = BatchItemResult.failure(index, id, HttpStatus.NOT_FOUND.value(),
+                        List.of("Application not found with id: " + id));
+                    continue;
+                }
+                List<String> errors = new ArrayList<>();
+                JobApplicationRequest request = reader.apply(slice.get(offset).getValue(), errors);
+                if (errors.isEmpty()) {
+                    errors = validate(request);
+                }
+                if (!errors.isEmpty()) {
+                    results[index] = BatchItemResult.failure(index, id, HttpStatus.BAD_REQUEST.value(), errors);
+                    continue;
+                }
+                before.put(index, JobApplicationResponse.fromEntity(application));
+                JobApplicationService.mapRequestToEntity(request, application);
+                chunk.add(application);
+                chunkIndexes.add(index);
+            }
+            
+            repository.flush();
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = chunkIndexes.get(i);
+                JobApplicationResponse response = JobApplicationResponse.fromEntity(chunk.get(i));
+                results[index] = BatchItemResult.success(index, HttpStatus.OK.value(), response);
+                eventPublisher.publishEvent(ApplicationChangedEvent.updated(before.get(index), response));
+            }
+            entityManager.clear();
+        }
+        return Arrays.asList(results);
+    }
+    
+    private void flushCreated(List<JobApplication> chunk, List<Integer> chunkIndexes, BatchItemResult[] results) {
+        List<JobApplicationResponse> created = insert(chunk);
+        for (int i = 0; i < created.size(); i++) {
+            int index = chunkIndexes.get(i);
+            results[index] = BatchItemResult.success(index, HttpStatus.CREATED.value(), created.get(i));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+    
+    /**
+     * Saves {@code chunk} as one JDBC batch, publishes a created event per row and
+     * detaches the rows again.
+     */
+    private List<JobApplicationResponse> insert(List<JobApplication> chunk) {
+        List<JobApplicationResponse> created = persist(chunk);
+        created.forEach(response -> eventPublisher.publishEvent(ApplicationChangedEvent.created(response)));
+        return created;
+    }
+    
+    private List<JobApplicationResponse> persist(List<JobApplication> chunk) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        repository.saveAll(chunk);
+        repository.flush();
+        List<JobApplicationResponse> created = new ArrayList<>(chunk.size());
+        for (JobApplication application : chunk) {
+            created.add(JobApplicationResponse.fromEntity(application));
+        }
+        entityManager.clear();
+        return created;
+    }
+    
+    private JobApplicationRequest read(JsonNode item, List<String> errors) {
+        try {
+            return requestReader.readValue(item);
+        } catch (ValueInstantiationException e) {
+            // Record compact constructors (e.g. the salary range check) fail during deserialization
+            errors.add(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        } catch (JsonProcessingException e) {
+            errors.add("Malformed item: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+    
+    private List<String> validate(JobApplicationRequest request) {
+        if (request == null) {
+            return List.of("Request body is required");
+        }
+        return validator.validate(request).stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .toList();
+    }
+    
+    private void checkSize(int size) {
+        if (size > maxItems) {
+            throw new IllegalArgumentException("Batch size " + size + " exceeds the limit of " + maxItems);
+        }
+    }
+}
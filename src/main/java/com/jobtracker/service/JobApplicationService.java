@@ -1,93 +1,301 @@
 package com.jobtracker.service;
 
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.CursorPage;
+import com.jobtracker.dto.JobApplicationPatch;
 import com.jobtracker.dto.JobApplicationRequest;
 import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.dto.PageCursor;
+import com.jobtracker.dto.StatusChangeRequest;
 import com.jobtracker.entity.JobApplication;
 import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.ArchivedApplicationRepository;
 import com.jobtracker.repository.JobApplicationRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-
 @Service
 @Transactional
+@Timed(value = "jobtracker.service", description = "JobApplicationService calls", histogram = true)
 public class JobApplicationService {
     
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    
     private final JobApplicationRepository repository;
+    private final ArchivedApplicationRepository archiveRepository;
+    private final ApplicationStatsTracker statsTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationResponseCache responseCache;
     
-    public JobApplicationService(JobApplicationRepository repository) {
+    public JobApplicationService(JobApplicationRepository repository,
+                                 ArchivedApplicationRepository archiveRepository,
+                                 ApplicationStatsTracker statsTracker,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ApplicationResponseCache responseCache) {
         this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.statsTracker = statsTracker;
+        this.eventPublisher = eventPublisher;
+        this.responseCache = responseCache;
     }
     
     public JobApplicationResponse createApplication(JobApplicationRequest request) {
         JobApplication application = new JobApplication();
         mapRequestToEntity(request, application);
         
-        JobApplication saved = repository.save(application);
-        return JobApplicationResponse.fromEntity(saved);
+        // Flush so the response and event carry the generated timestamps; with
+        // sequence ids the insert would otherwise be deferred to commit
+        JobApplication saved = repository.saveAndFlush(application);
+        JobApplicationResponse response = JobApplicationResponse.fromEntity(saved);
+        eventPublisher.publishEvent(ApplicationChangedEvent.created(response));
+        return response;
     }
     
     public JobApplicationResponse updateApplication(Long id, JobApplicationRequest request) {
+        return modify(id, null, application -> mapRequestToEntity(request, application));
+    }
+    
+    /**
+     * Applies the non-null fields of {@code patch}; with dynamic updates only the
+     * changed columns are written.
+     */
+    public JobApplicationResponse patchApplication(Long id, JobApplicationPatch patch) {
+        return modify(id, patch.version(), application -> applyPatch(patch, application));
+    }
+    
+    public JobApplicationResponse changeStatus(Long id, StatusChangeRequest request) {
+        return modify(id, request.version(), application -> application.setStatus(request.status()));
+    }
+    
+    /**
+     * Loads, changes and flushes one application. A non-null {@code expectedVersion}
+     * that no longer matches fails before any change; a concurrent update committing
+     * between the load and the flush fails the flush. Both surface as
+     * {@link ObjectOptimisticLockingFailureException}.
+     */
+    private JobApplicationResponse modify(Long id, Long expectedVersion, Consumer<JobApplication> change) {
         JobApplication application = repository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(application.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(JobApplication.class, id);
+        }
+        JobApplicationResponse before = JobApplicationResponse.fromEntity(application);
         
-        mapRequestToEntity(request, application);
-        JobApplication updated = repository.save(application);
-        return JobApplicationResponse.fromEntity(updated);
+        change.accept(application);
+        if (application.getSalaryMin() != null && application.getSalaryMax() != null
+                && application.getSalaryMin() > application.getSalaryMax()) {
+            throw new IllegalArgumentException("Minimum salary cannot be greater than maximum salary");
+        }
+        // Flush so the published state carries the new updatedAt timestamp and version
+        JobApplication updated = repository.saveAndFlush(application);
+        JobApplicationResponse response = JobApplicationResponse.fromEntity(updated);
+        eventPublisher.publishEvent(ApplicationChangedEvent.updated(before, response));
+        return response;
     }
     
+    /**
+     * Served from {@link ApplicationResponseCache}; only a miss opens a transaction
+     * (the repository's own) to load the row. Ids not in the hot table are looked up
+     * in the archive, so links to archived applications keep working.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public JobApplicationResponse getApplicationById(Long id) {
-        JobApplication application = repository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
-        return JobApplicationResponse.fromEntity(application);
+        return responseCache.get(id, key -> repository.findById(key)
+            .map(JobApplicationResponse::fromEntity)
+            .or(() -> archiveRepository.findById(key).map(JobApplicationResponse::fromArchived))
+            .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + key)));
     }
     
-    public List<JobApplicationResponse> getAllApplications() {
-        return repository.findAll().stream()
-            .map(JobApplicationResponse::fromEntity)
-            .collect(Collectors.toList());
+    /**
+     * Returns one keyset page of applications, newest update first. The page is
+     * located by the cursor rather than an offset, so its cost does not depend on
+     * how deep into the listing the client is. With {@code includeArchived} the same
+     * page is read from the archive and the two are merged.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationResponse> getAllApplications(ApplicationFilter filter, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        PageCursor after = decodeCursor(cursor);
+        // Fetch one extra row to learn whether another page exists
+        List<JobApplicationResponse> rows = repository.findPage(
+            filter.status(),
+            filter.companyName(),
+            filter.createdFrom(),
+            filter.createdTo(),
+            after != null ? after.updatedAt() : null,
+            after != null ? after.id() : null,
+            PageRequest.ofSize(pageSize + 1)
+        ).stream().map(JobApplicationResponse::fromEntity).toList();
+        if (filter.readsArchive()) {
+            List<JobApplicationResponse> archived = archiveRepository.findPage(
+                filter.status(),
+                filter.companyName(),
+                filter.createdFrom(),
+                filter.createdTo(),
+                after != null ? after.updatedAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.ofSize(pageSize + 1)
+            ).stream().map(JobApplicationResponse::fromArchived).toList();
+            rows = mergeNewestFirst(rows, archived, JobApplicationResponse::updatedAt, JobApplicationResponse::id,
+                pageSize + 1);
+        }
+        return toPage(rows, pageSize, last -> new PageCursor(last.updatedAt(), last.id()));
     }
     
-    public List<JobApplicationResponse> getApplicationsByStatus(ApplicationStatus status) {
-        return repository.findByStatus(status).stream()
+    /**
+     * {@link #getAllApplications} returning summaries; only the summary columns are
+     * selected and no entities are loaded.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationSummary> getApplicationSummaries(ApplicationFilter filter, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        PageCursor after = decodeCursor(cursor);
+        List<JobApplicationSummary> rows = repository.findSummaryPage(
+            filter.status(),
+            filter.companyName(),
+            filter.createdFrom(),
+            filter.createdTo(),
+            after != null ? after.updatedAt() : null,
+            after != null ? after.id() : null,
+            PageRequest.ofSize(pageSize + 1)
+        );
+        if (filter.readsArchive()) {
+            List<JobApplicationSummary> archived = archiveRepository.findSummaryPage(
+                filter.status(),
+                filter.companyName(),
+                filter.createdFrom(),
+                filter.createdTo(),
+                after != null ? after.updatedAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.ofSize(pageSize + 1)
+            );
+            rows = mergeNewestFirst(rows, archived, JobApplicationSummary::updatedAt, JobApplicationSummary::id,
+                pageSize + 1);
+        }
+        return toPage(rows, pageSize, last -> new PageCursor(last.updatedAt(), last.id()));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<JobApplicationResponse> getApplicationsByStatus(ApplicationStatus status, boolean includeArchived) {
+        List<JobApplicationResponse> responses = repository.findByStatus(status).stream()
             .map(JobApplicationResponse::fromEntity)
             .collect(Collectors.toList());
+        if (includeArchived && !status.isActive()) {
+            archiveRepository.findByStatus(status).stream()
+                .map(JobApplicationResponse::fromArchived)
+                .forEach(responses::add);
+        }
+        return responses;
     }
     
+    @Transactional(readOnly = true)
     public List<JobApplicationResponse> getActiveApplications() {
         return repository.findActiveApplications().stream()
             .map(JobApplicationResponse::fromEntity)
             .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<JobApplicationResponse> getApplicationsInInterview() {
         return repository.findApplicationsInInterview().stream()
             .map(JobApplicationResponse::fromEntity)
             .collect(Collectors.toList());
     }
     
-    public void deleteApplication(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Application not found with id: " + id);
+    @Transactional(readOnly = true)
+    public List<JobApplicationSummary> getApplicationSummariesByStatus(ApplicationStatus status, boolean includeArchived) {
+        List<JobApplicationSummary> summaries = repository.findSummariesByStatus(status);
+        if (includeArchived && !status.isActive()) {
+            summaries = new ArrayList<>(summaries);
+            summaries.addAll(archiveRepository.findSummariesByStatus(status));
         }
-        repository.deleteById(id);
+        return summaries;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<JobApplicationSummary> getActiveApplicationSummaries() {
+        return repository.findActiveSummaries();
     }
     
+    @Transactional(readOnly = true)
+    public List<JobApplicationSummary> getApplicationSummariesInInterview() {
+        return repository.findSummariesInInterview();
+    }
+    
+    public void deleteApplication(Long id) {
+        JobApplication application = repository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + id));
+        repository.delete(application);
+        eventPublisher.publishEvent(ApplicationChangedEvent.deleted(JobApplicationResponse.fromEntity(application)));
+    }
+    
+    /**
+     * Served from in-memory counters, so no connection or transaction is needed.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ApplicationStats getStatistics() {
-        long total = repository.count();
-        long active = repository.findActiveApplications().size();
-        long inInterview = repository.findApplicationsInInterview().size();
-        long rejected = repository.countByStatus(ApplicationStatus.REJECTED);
-        long accepted = repository.countByStatus(ApplicationStatus.ACCEPTED);
-        
-        return new ApplicationStats(total, active, inInterview, rejected, accepted);
+        return statsTracker.snapshot();
+    }
+    
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+    
+    private static PageCursor decodeCursor(String cursor) {
+        return cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : null;
+    }
+    
+    /**
+     * Trims the one-row lookahead off {@code rows} and derives the next cursor from
+     * the last row kept.
+     */
+    private static <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page, nextCursor, hasMore);
+    }
+    
+    /**
+     * Merges two lists sorted newest first by {@code (updatedAt, id)}, keeping at most
+     * {@code limit} rows. Both tiers are read after the same cursor, so these are the
+     * first {@code limit} rows of their union. A row archived between the two reads
+     * shows up in both, next to itself, and is kept once.
+     */
+    static <T> List<T> mergeNewestFirst(List<T> hot, List<T> archived, Function<T, LocalDateTime> updatedAt,
+                                        Function<T, Long> id, int limit) {
+        Comparator<T> newestFirst = Comparator.comparing(updatedAt).thenComparing(id).reversed();
+        List<T> merged = new ArrayList<>(Math.min(limit, hot.size() + archived.size()));
+        int h = 0;
+        int a = 0;
+        while (merged.size() < limit && (h < hot.size() || a < archived.size())) {
+            boolean takeHot = a == archived.size()
+                || (h < hot.size() && newestFirst.compare(hot.get(h), archived.get(a)) <= 0);
+            T next = takeHot ? hot.get(h++) : archived.get(a++);
+            if (merged.isEmpty() || !Objects.equals(id.apply(merged.get(merged.size() - 1)), id.apply(next))) {
+                merged.add(next);
+            }
+        }
+        return merged;
     }
     
-    private void mapRequestToEntity(JobApplicationRequest request, JobApplication entity) {
+    static void mapRequestToEntity(JobApplicationRequest request, JobApplication entity) {
         entity.setCompanyName(request.companyName());
         entity.setJobTitle(request.jobTitle());
         entity.setStatus(request.status());
@@ -100,6 +308,39 @@ public class JobApplicationService {
         entity.setAppliedDate(request.appliedDate() != null ? request.appliedDate() : LocalDateTime.now());
     }
     
+    static void applyPatch(JobApplicationPatch patch, JobApplication entity) {
+        if (patch.companyName() != null) {
+            entity.setCompanyName(patch.companyName());
+        }
+        if (patch.jobTitle() != null) {
+            entity.setJobTitle(patch.jobTitle());
+        }
+        if (patch.status() != null) {
+            entity.setStatus(patch.status());
+        }
+        if (patch.description() != null) {
+            entity.setDescription(patch.description());
+        }
+        if (patch.notes() != null) {
+            entity.setNotes(patch.notes());
+        }
+        if (patch.location() != null) {
+            entity.setLocation(patch.location());
+        }
+        if (patch.jobUrl() != null) {
+            entity.setJobUrl(patch.jobUrl());
+        }
+        if (patch.salaryMin() != null) {
+            entity.setSalaryMin(patch.salaryMin());
+        }
+        if (patch.salaryMax() != null) {
+            entity.setSalaryMax(patch.salaryMax());
+        }
+        if (patch.appliedDate() != null) {
+            entity.setAppliedDate(patch.appliedDate());
+        }
+    }
+    
     public record ApplicationStats(
         long total,
         long active,
@@ -0,0 +1,54 @@
+package com.jobtracker.snapshot;
+
+import com.jobtracker.entity.JobApplication;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * In-memory state derived from {@code job_applications} that {@link SnapshotManager}
+ * writes to the snapshot file and restores on startup, one named section each.
+ * <p>
+ * The manager loads every contributor at startup, in place of a per-contributor
+ * table scan: from its snapshot section plus the rows updated since, or from a full
+ * stream of the table when there is no usable section. Changes after that still
+ * reach the contributor through its own event listeners.
+ */
+public interface SnapshotContributor {
+    
+    /**
+     * Name of this contributor's section in the snapshot file.
+     */
+    String section();
+    
+    void writeSnapshot(DataOutput out) throws IOException;
+    
+    /**
+     * Replaces the current state with a section written by {@link #writeSnapshot}.
+     */
+    void readSnapshot(DataInput in) throws IOException;
+    
+    /**
+     * Adds or replaces the state for one row read from the table.
+     */
+    void apply(JobApplication application);
+    
+    /**
+     * Drops the state of every id not in {@code sortedIds}, returning how many were dropped.
+     */
+    int retainOnly(long[] sortedIds);
+    
+    /**
+     * Number of rows held, compared with the table's row count after a restore.
+     */
+    int size();
+    
+    void clear();
+    
+    /**
+     * Called once the load has finished, before which the state may be incomplete.
+     */
+    default void loaded() {
+    }
+}
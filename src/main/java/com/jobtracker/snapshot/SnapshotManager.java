@@ -0,0 +1,403 @@
+package com.jobtracker.snapshot;
+
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.ApplicationsArchivedEvent;
+import com.jobtracker.service.ApplicationsImportedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Loads every {@link SnapshotContributor} at startup and periodically writes their
+ * state to one snapshot file, so a restart reads back only what changed.
+ * <p>
+ * The file holds a header (magic, format version, watermark), one section per
+ * contributor, a table of contents and a trailing CRC32 of everything before it. The
+ * watermark is the latest {@code updatedAt} seen when the file was written. On startup
+ * the file is memory-mapped and checked, each contributor reads its own section, and
+ * rows updated since the watermark (less a safety margin for late commits) are
+ * replayed. If a contributor then holds more rows than the table, rows deleted or
+ * archived meanwhile are pruned by id. A contributor without a usable section, or
+ * still out of step with the table after that, is rebuilt by streaming the table.
+ * <p>
+ * The load runs as a lifecycle phase ahead of the web server and the schedulers, so
+ * no write can commit while it streams rows; contributors need no guard for that.
+ */
+@Component
+public class SnapshotManager implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(SnapshotManager.class);
+    
+    private static final int MAGIC = 0x4A54534E;
+    private static final int FORMAT_VERSION = 1;
+    // The web server starts at SMART_LIFECYCLE_PHASE - 1024
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    
+    private final List<SnapshotContributor> contributors;
+    private final JobApplicationRepository repository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path path;
+    private final Duration replayMargin;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Object watermarkLock = new Object();
+    private final Lock flushLock = new ReentrantLock();
+    private volatile LocalDateTime watermark;
+    private volatile boolean loaded;
+    private volatile boolean running;
+    
+    /**
+     * A checked snapshot file: its watermark and its sections by name, as slices of the mapping.
+     */
+    private record Snapshot(LocalDateTime watermark, Map<String, ByteBuffer> sections) {}
+    
+    public SnapshotManager(List<SnapshotContributor> contributors,
+                           JobApplicationRepository repository,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${jobtracker.snapshot.path:}") String path,
+                           @Value("${jobtracker.snapshot.replay-margin:PT5M}") Duration replayMargin) {
+        this.contributors = contributors;
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.path = path.isBlank() ? null : Path.of(path);
+        this.replayMargin = replayMargin;
+    }
+    
+    @Override
+    public void start() {
+        load();
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    /**
+     * Loads every contributor, from the snapshot where possible, and writes a fresh snapshot.
+     */
+    public void load() {
+        readOnlyTransaction.executeWithoutResult(status -> loadContributors());
+        dirty.set(true);
+        flush();
+    }
+    
+    private void loadContributors() {
+        long start = System.nanoTime();
+        loaded = false;
+        watermark = null;
+        contributors.forEach(SnapshotContributor::clear);
+        
+        List<SnapshotContributor> restored = new ArrayList<>();
+        List<SnapshotContributor> rebuilt = new ArrayList<>();
+        Snapshot snapshot = readSnapshot();
+        for (SnapshotContributor contributor : contributors) {
+            if (snapshot != null && snapshot.watermark() != null && restore(contributor, snapshot)) {
+                restored.add(contributor);
+            } else {
+                rebuilt.add(contributor);
+            }
+        }
+        
+        int replayed = 0;
+        int dropped = 0;
+        if (!restored.isEmpty()) {
+            advanceWatermark(snapshot.watermark());
+            try (Stream<JobApplication> rows = repository.streamUpdatedSince(snapshot.watermark().minus(replayMargin))) {
+                replayed = apply(restored, rows);
+            }
+            dropped = prune(restored, rebuilt);
+        }
+        if (!rebuilt.isEmpty()) {
+            rebuilt.forEach(SnapshotContributor::clear);
+            try (Stream<JobApplication> rows = repository.streamAllOrderById()) {
+                apply(rebuilt, rows);
+            }
+        }
+        contributors.forEach(SnapshotContributor::loaded);
+        loaded = true;
+        log.info("Loaded {} from snapshot ({} rows replayed, {} dropped) and rebuilt {} in {} ms",
+            sections(restored), replayed, dropped, sections(rebuilt), (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.after() != null) {
+            advanceWatermark(event.after().updatedAt());
+        }
+        dirty.set(true);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsArchived(ApplicationsArchivedEvent event) {
+        dirty.set(true);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsImported(ApplicationsImportedEvent event) {
+        event.created().forEach(created -> advanceWatermark(created.updatedAt()));
+        dirty.set(true);
+    }
+    
+    /**
+     * Writes the snapshot file if anything changed since the last write.
+     */
+    @Scheduled(initialDelayString = "${jobtracker.snapshot.flush-interval:PT1M}",
+               fixedDelayString = "${jobtracker.snapshot.flush-interval:PT1M}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            // Until loaded, the contributors may hold only part of the table
+            if (path == null || !loaded || !dirty.getAndSet(false)) {
+                return;
+            }
+            // Read the watermark first: changes applied after it are replayed on the next load
+            LocalDateTime snapshotWatermark = watermark;
+            Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            try {
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                writeSnapshot(temporary, snapshotWatermark);
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                dirty.set(true);
+                log.warn("Could not write snapshot {}", path, e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    private void writeSnapshot(Path file, LocalDateTime snapshotWatermark) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(stream, checksum));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(snapshotWatermark == null ? "" : snapshotWatermark.toString());
+            int[] offsets = new int[contributors.size()];
+            int[] lengths = new int[contributors.size()];
+            for (int i = 0; i < contributors.size(); i++) {
+                offsets[i] = out.size();
+                contributors.get(i).writeSnapshot(out);
+                lengths[i] = out.size() - offsets[i];
+            }
+            // size() saturates at Integer.MAX_VALUE, which is also as far as a single mapping reaches
+            if (out.size() == Integer.MAX_VALUE) {
+                throw new IOException("Snapshot exceeds 2 GB");
+            }
+            int tableOfContents = out.size();
+            out.writeInt(contributors.size());
+            for (int i = 0; i < contributors.size(); i++) {
+                out.writeUTF(contributors.get(i).section());
+                out.writeInt(offsets[i]);
+                out.writeInt(lengths[i]);
+            }
+            out.writeInt(tableOfContents);
+            out.flush();
+            new DataOutputStream(stream).writeLong(checksum.getValue());
+        }
+    }
+    
+    /**
+     * Maps the snapshot file and checks it, returning its sections as slices of the
+     * mapping; null if there is no file or it cannot be used.
+     */
+    private Snapshot readSnapshot() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 3 * Integer.BYTES + Long.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot size " + size);
+            }
+            // The mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int end = (int) size - Long.BYTES;
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a snapshot file");
+            }
+            if (buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + buffer.getInt(Integer.BYTES));
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.slice(0, end));
+            if (buffer.getLong(end) != checksum.getValue()) {
+                throw new IOException("Checksum mismatch");
+            }
+            
+            String storedWatermark = input(buffer.slice(2 * Integer.BYTES, end - 2 * Integer.BYTES)).readUTF();
+            int tableOfContents = buffer.getInt(end - Integer.BYTES);
+            DataInputStream in = input(buffer.slice(tableOfContents, end - Integer.BYTES - tableOfContents));
+            int count = in.readInt();
+            Map<String, ByteBuffer> sections = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String section = in.readUTF();
+                int offset = in.readInt();
+                int length = in.readInt();
+                sections.put(section, buffer.slice(offset, length));
+            }
+            return new Snapshot(storedWatermark.isEmpty() ? null : LocalDateTime.parse(storedWatermark), sections);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable snapshot {}; rebuilding", path, e);
+            return null;
+        }
+    }
+    
+    private boolean restore(SnapshotContributor contributor, Snapshot snapshot) {
+        ByteBuffer section = snapshot.sections().get(contributor.section());
+        if (section == null) {
+            return false;
+        }
+        try {
+            contributor.readSnapshot(input(section));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable snapshot section {}; rebuilding it", contributor.section(), e);
+            contributor.clear();
+            return false;
+        }
+    }
+    
+    /**
+     * Compares each restored contributor with the table's row count. Every row updated
+     * since the snapshot was replayed, so a contributor holding more rows still holds
+     * deleted or archived ones, which are dropped; one holding fewer is moved to
+     * {@code rebuilt}, as the table changed in a way the watermark cannot account for.
+     */
+    private int prune(List<SnapshotContributor> restored, List<SnapshotContributor> rebuilt) {
+        long rows = repository.count();
+        long[] ids = null;
+        int dropped = 0;
+        for (SnapshotContributor contributor : List.copyOf(restored)) {
+            if (contributor.size() > rows) {
+                if (ids == null) {
+                    try (Stream<Long> allIds = repository.streamAllIds()) {
+                        ids = allIds.mapToLong(Long::longValue).toArray();
+                    }
+                }
+                dropped += contributor.retainOnly(ids);
+            }
+            if (contributor.size() != rows) {
+                log.warn("Snapshot section {} holds {} rows, the table {}; rebuilding it",
+                    contributor.section(), contributor.size(), rows);
+                restored.remove(contributor);
+                rebuilt.add(contributor);
+            }
+        }
+        return dropped;
+    }
+    
+    private int apply(List<SnapshotContributor> targets, Stream<JobApplication> rows) {
+        int[] count = new int[1];
+        rows.forEach(application -> {
+            for (SnapshotContributor contributor : targets) {
+                contributor.apply(application);
+            }
+            advanceWatermark(application.getUpdatedAt());
+            entityManager.detach(application);
+            count[0]++;
+        });
+        return count[0];
+    }
+    
+    private void advanceWatermark(LocalDateTime updatedAt) {
+        synchronized (watermarkLock) {
+            if (updatedAt != null && (watermark == null || updatedAt.isAfter(watermark))) {
+                watermark = updatedAt;
+            }
+        }
+    }
+    
+    private static List<String> sections(List<SnapshotContributor> contributors) {
+        return contributors.stream().map(SnapshotContributor::section).toList();
+    }
+    
+    private static DataInputStream input(ByteBuffer buffer) {
+        return new DataInputStream(new ByteBufferInputStream(buffer));
+    }
+    
+    /**
+     * Reads a slice of the mapped file without copying it to the heap first.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        
+        private final ByteBuffer buffer;
+        
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+        
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+        
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
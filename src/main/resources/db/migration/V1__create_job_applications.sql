@@ -0,0 +1,21 @@
+-- Baseline schema, as previously generated by ddl-auto=update.
+-- IF NOT EXISTS lets databases created before migrations were introduced adopt this history.
+CREATE TABLE IF NOT EXISTS job_applications (
+    id BIGINT NOT NULL,
+    applied_date TIMESTAMP(6),
+    company_name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    description VARCHAR(2000),
+    job_title VARCHAR(255) NOT NULL,
+    job_url VARCHAR(255),
+    location VARCHAR(255),
+    notes VARCHAR(1000),
+    salary_max INTEGER,
+    salary_min INTEGER,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('RESEARCHING', 'APPLIED', 'PHONE_SCREEN',
+        'TECHNICAL_INTERVIEW', 'ONSITE_INTERVIEW', 'OFFER', 'REJECTED', 'WITHDRAWN', 'ACCEPTED')),
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS job_applications_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,12 @@
+-- Serves findByStatus, countByStatus, the grouped status count and the
+-- active/interview IN lists, which sort by updated_at.
+CREATE INDEX IF NOT EXISTS idx_job_applications_status_updated
+    ON job_applications (status, updated_at DESC);
+
+-- Keyset pagination over (updated_at, id) and the recent-activity query.
+CREATE INDEX IF NOT EXISTS idx_job_applications_updated_id
+    ON job_applications (updated_at DESC, id DESC);
+
+-- findByCreatedAtBetween and the listing's creation-range filter.
+CREATE INDEX IF NOT EXISTS idx_job_applications_created_at
+    ON job_applications (created_at);
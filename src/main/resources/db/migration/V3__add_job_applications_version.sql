@@ -0,0 +1,2 @@
+-- Optimistic locking: JPA @Version, incremented on every update. Existing rows start at 0.
+ALTER TABLE job_applications ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
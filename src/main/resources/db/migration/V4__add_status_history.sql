@@ -0,0 +1,39 @@
+-- When each application entered its current status. Existing rows get their last
+-- update time, the closest known value.
+ALTER TABLE job_applications ADD COLUMN IF NOT EXISTS status_changed_at TIMESTAMP(6);
+UPDATE job_applications SET status_changed_at = updated_at WHERE status_changed_at IS NULL;
+
+-- Append-only log of status transitions; from_status is null for creation.
+-- No foreign key: history outlives deleted applications.
+CREATE TABLE IF NOT EXISTS application_status_history (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id BIGINT NOT NULL,
+    from_status VARCHAR(32),
+    to_status VARCHAR(32) NOT NULL,
+    changed_at TIMESTAMP(6) NOT NULL,
+    time_in_previous_ms BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_status_history_application
+    ON application_status_history (application_id, changed_at);
+
+-- Aggregates maintained in the writing transaction (StatusHistoryRecorder).
+-- Transition counts per (from, to); 'NEW' stands for creation.
+CREATE TABLE IF NOT EXISTS stage_transitions (
+    from_status VARCHAR(32) NOT NULL,
+    to_status VARCHAR(32) NOT NULL,
+    transitions BIGINT NOT NULL,
+    PRIMARY KEY (from_status, to_status)
+);
+
+-- Log-scale histogram of time spent in a status before leaving it.
+CREATE TABLE IF NOT EXISTS stage_durations (
+    status VARCHAR(32) NOT NULL,
+    bucket INT NOT NULL,
+    exits BIGINT NOT NULL,
+    PRIMARY KEY (status, bucket)
+);
+
+-- Existing applications entered their current status; earlier transitions are unknown
+INSERT INTO stage_transitions (from_status, to_status, transitions)
+    SELECT 'NEW', status, COUNT(*) FROM job_applications GROUP BY status;
@@ -0,0 +1,23 @@
+-- Applications per creation period and current status, at day, ISO week, month and year
+-- granularity. Maintained by StatusRollupRecorder; equal to
+-- SELECT DATE_TRUNC(interval, created_at), status, COUNT(*) ... GROUP BY 1, 2.
+CREATE TABLE IF NOT EXISTS status_rollups (
+    granularity VARCHAR(8) NOT NULL,
+    period_start DATE NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    applications BIGINT NOT NULL,
+    PRIMARY KEY (granularity, period_start, status)
+);
+
+INSERT INTO status_rollups (granularity, period_start, status, applications)
+    SELECT 'DAY', CAST(created_at AS DATE), status, COUNT(*)
+    FROM job_applications GROUP BY CAST(created_at AS DATE), status;
+INSERT INTO status_rollups (granularity, period_start, status, applications)
+    SELECT 'WEEK', CAST(DATE_TRUNC('ISO_WEEK', created_at) AS DATE), status, COUNT(*)
+    FROM job_applications GROUP BY CAST(DATE_TRUNC('ISO_WEEK', created_at) AS DATE), status;
+INSERT INTO status_rollups (granularity, period_start, status, applications)
+    SELECT 'MONTH', CAST(DATE_TRUNC('MONTH', created_at) AS DATE), status, COUNT(*)
+    FROM job_applications GROUP BY CAST(DATE_TRUNC('MONTH', created_at) AS DATE), status;
+INSERT INTO status_rollups (granularity, period_start, status, applications)
+    SELECT 'YEAR', CAST(DATE_TRUNC('YEAR', created_at) AS DATE), status, COUNT(*)
+    FROM job_applications GROUP BY CAST(DATE_TRUNC('YEAR', created_at) AS DATE), status;
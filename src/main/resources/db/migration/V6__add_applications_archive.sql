@@ -0,0 +1,30 @@
+-- Cold tier: closed applications moved out of job_applications by ApplicationArchiver once
+-- they have been closed for jobtracker.archive.min-age. Rows keep their ids and are read-only.
+-- Only the two indexes the include-archived listings need.
+CREATE TABLE IF NOT EXISTS job_applications_archive (
+    id BIGINT NOT NULL,
+    company_name VARCHAR(255) NOT NULL,
+    job_title VARCHAR(255) NOT NULL,
+    status VARCHAR(16) NOT NULL CHECK (status IN ('REJECTED', 'WITHDRAWN', 'ACCEPTED')),
+    description VARCHAR(2000),
+    notes VARCHAR(1000),
+    location VARCHAR(255),
+    job_url VARCHAR(255),
+    salary_min INTEGER,
+    salary_max INTEGER,
+    applied_date TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    status_changed_at TIMESTAMP(6),
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Keyset pagination merged with the hot tier's (updated_at, id) order.
+CREATE INDEX IF NOT EXISTS idx_applications_archive_updated_id
+    ON job_applications_archive (updated_at DESC, id DESC);
+
+-- Status listings and the grouped status count.
+CREATE INDEX IF NOT EXISTS idx_applications_archive_status_updated
+    ON job_applications_archive (status, updated_at DESC);
@@ -0,0 +1,88 @@
+package com.jobtracker.analytics;
+
+import com.jobtracker.analytics.StageAnalyticsService.TransitionCount;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.StageAnalytics;
+import com.jobtracker.dto.StageAnalytics.StageConversion;
+import com.jobtracker.dto.StageAnalytics.StageTiming;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.service.ApplicationChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.jobtracker.dto.JobApplicationResponseBuilder.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for transition extraction, duration buckets and the analytics computed
+ * from the stage aggregates.
+ */
+class StageAnalyticsServiceTest {
+    
+    @Test
+    void buckets_ShouldRoundTripWithinTenPercent() {
+        for (Duration duration : List.of(Duration.ofMinutes(5), Duration.ofHours(3), Duration.ofDays(40))) {
+            Duration estimate = StageDurationBuckets.valueOf(StageDurationBuckets.bucketOf(duration));
+            
+            double error = Math.abs(estimate.toMillis() - duration.toMillis()) / (double) duration.toMillis();
+            assertTrue(error < 0.1, duration + " estimated as " + estimate);
+        }
+    }
+    
+    @Test
+    void transition_ShouldMeasureTimeInPreviousStatus() {
+        // Arrange
+        LocalDateTime applied = LocalDateTime.of(2024, 3, 1, 9, 0);
+        LocalDateTime screened = applied.plusDays(2);
+        ApplicationChangedEvent event = ApplicationChangedEvent.updated(
+            response(1L).at(applied).build(),
+            response(1L).status(ApplicationStatus.PHONE_SCREEN).at(screened).build());
+        
+        // Act
+        StatusTransition transition = StatusTransition.of(event);
+        
+        // Assert
+        assertEquals(ApplicationStatus.APPLIED, transition.from());
+        assertEquals(ApplicationStatus.PHONE_SCREEN, transition.to());
+        assertEquals(Duration.ofDays(2), transition.timeInPrevious());
+    }
+    
+    @Test
+    void transition_ShouldBeNullWhenStatusUnchangedOrDeleted() {
+        JobApplicationResponse applied = response(1L).build();
+        
+        assertNull(StatusTransition.of(ApplicationChangedEvent.updated(applied, applied)));
+        assertNull(StatusTransition.of(ApplicationChangedEvent.deleted(applied)));
+        assertNull(StatusTransition.of(ApplicationChangedEvent.created(applied)).from());
+    }
+    
+    @Test
+    void summarize_ShouldComputeConversionRatesAndPercentiles() {
+        // Arrange: 10 created as APPLIED, 4 moved on to a phone screen, 1 rejected
+        List<TransitionCount> transitions = List.of(
+            new TransitionCount(null, ApplicationStatus.APPLIED, 10),
+            new TransitionCount(ApplicationStatus.APPLIED, ApplicationStatus.PHONE_SCREEN, 4),
+            new TransitionCount(ApplicationStatus.APPLIED, ApplicationStatus.REJECTED, 1));
+        TreeMap<Integer, Long> applied = new TreeMap<>();
+        applied.put(StageDurationBuckets.bucketOf(Duration.ofHours(24)), 4L);
+        applied.put(StageDurationBuckets.bucketOf(Duration.ofHours(240)), 1L);
+        
+        // Act
+        StageAnalytics analytics = StageAnalyticsService.summarize(transitions, Map.of(ApplicationStatus.APPLIED, applied));
+        
+        // Assert
+        StageTiming timing = analytics.stages().get(ApplicationStatus.APPLIED.ordinal());
+        assertEquals(10, timing.entered());
+        assertEquals(5, timing.exited());
+        assertEquals(24, timing.medianHours(), 24 * 0.1);
+        assertEquals(240, timing.p90Hours(), 240 * 0.1);
+        assertNull(analytics.stages().get(ApplicationStatus.OFFER.ordinal()).medianHours());
+        StageConversion screened = analytics.conversions().get(1);
+        assertEquals(0.4, screened.rate(), 1e-9);
+    }
+}
@@ -0,0 +1,171 @@
+package com.jobtracker.analytics;
+
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.StatusChangeRequest;
+import com.jobtracker.dto.TimeSeries;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.service.ApplicationChangedEvent;
+import com.jobtracker.service.JobApplicationBatchService;
+import com.jobtracker.service.JobApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.jobtracker.dto.JobApplicationResponseBuilder.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the rollups maintained on write match a {@code GROUP BY} over the
+ * applications table, at every granularity.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:rollups;DB_CLOSE_DELAY=-1",
+    "jobtracker.snapshot.path="
+})
+class StatusRollupRecorderTest {
+    
+    @Autowired
+    private JobApplicationService service;
+    
+    @Autowired
+    private JobApplicationBatchService batchService;
+    
+    @Autowired
+    private ApplicationTimeSeriesService timeSeriesService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private StatusRollupRecorder rollupRecorder;
+    
+    @Autowired
+    private StatusHistoryRecorder historyRecorder;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void rollups_ShouldMatchTheApplicationsTableAfterWrites() {
+        // Arrange
+        JobApplicationResponse first = service.createApplication(request("Acme"));
+        JobApplicationResponse second = service.createApplication(request("Globex"));
+        batchService.createApplications(List.of(request("Initech"), request("Hooli"), request("Umbrella")));
+        
+        // Act
+        service.changeStatus(first.id(), new StatusChangeRequest(ApplicationStatus.PHONE_SCREEN, null));
+        service.changeStatus(first.id(), new StatusChangeRequest(ApplicationStatus.OFFER, null));
+        service.deleteApplication(second.id());
+        
+        // Assert
+        for (String granularity : List.of("DAY", "WEEK", "MONTH", "YEAR")) {
+            String period = "CAST(DATE_TRUNC('" + (granularity.equals("WEEK") ? "ISO_WEEK" : granularity)
+                + "', created_at) AS DATE)";
+            List<Map<String, Object>> expected = jdbcTemplate.queryForList("SELECT " + period
+                + " AS period_start, status, COUNT(*) AS applications FROM job_applications GROUP BY "
+                + period + ", status ORDER BY 1, 2");
+            List<Map<String, Object>> actual = jdbcTemplate.queryForList("SELECT period_start, status, applications "
+                + "FROM status_rollups WHERE granularity = ? AND applications <> 0 ORDER BY 1, 2", granularity);
+            assertEquals(expected, actual, granularity);
+        }
+        TimeSeries series = timeSeriesService.getTimeSeries(LocalDate.now(), LocalDate.now(), RollupInterval.DAY);
+        assertEquals(4, series.points().get(0).total());
+        assertEquals(1L, series.points().get(0).byStatus().get(ApplicationStatus.OFFER));
+    }
+    
+    @Test
+    void recorders_ShouldCountBothConcurrentFirstWritesToNewKeys() throws Exception {
+        // Arrange: a period no other test uses, and a transition with no row yet
+        LocalDateTime created = LocalDateTime.of(2001, 1, 1, 12, 0);
+        ApplicationChangedEvent event = ApplicationChangedEvent.updated(
+            response(1L).status(ApplicationStatus.OFFER).at(created).build(),
+            response(1L).status(ApplicationStatus.ACCEPTED).createdAt(created)
+                .updatedAt(created.plusDays(1)).statusChangedAt(created.plusDays(1)).build());
+        jdbcTemplate.update("DELETE FROM stage_transitions WHERE from_status = 'OFFER' AND to_status = 'ACCEPTED'");
+        jdbcTemplate.update("DELETE FROM stage_durations WHERE status = 'OFFER'");
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        try {
+            // Act: the first transaction holds its new rows uncommitted while the second writes the same keys
+            CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    record(event);
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void beforeCommit(boolean readOnly) {
+                            firstWritten.countDown();
+                            await(release);
+                        }
+                    });
+                }));
+            assertTrue(firstWritten.await(10, TimeUnit.SECONDS));
+            CompletableFuture<Void> second = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> record(event)));
+            Thread.sleep(300);
+            release.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+            
+            // Assert
+            assertEquals(2L, jdbcTemplate.queryForObject("SELECT applications FROM status_rollups "
+                + "WHERE granularity = 'DAY' AND period_start = DATE '2001-01-01' AND status = 'ACCEPTED'", Long.class));
+            assertEquals(2L, jdbcTemplate.queryForObject("SELECT transitions FROM stage_transitions "
+                + "WHERE from_status = 'OFFER' AND to_status = 'ACCEPTED'", Long.class));
+            assertEquals(2L, jdbcTemplate.queryForObject(
+                "SELECT SUM(exits) FROM stage_durations WHERE status = 'OFFER'", Long.class));
+        } finally {
+            release.countDown();
+            jdbcTemplate.update("DELETE FROM status_rollups WHERE period_start < DATE '2002-01-01'");
+        }
+    }
+    
+    @Test
+    void chooseInterval_ShouldPickTheFinestIntervalWithinTargetPoints() {
+        LocalDate to = LocalDate.of(2024, 6, 30);
+        
+        assertEquals(RollupInterval.DAY, ApplicationTimeSeriesService.chooseInterval(to.minusDays(30), to));
+        assertEquals(RollupInterval.WEEK, ApplicationTimeSeriesService.chooseInterval(to.minusMonths(6), to));
+        assertEquals(RollupInterval.MONTH, ApplicationTimeSeriesService.chooseInterval(to.minusYears(3), to));
+        assertEquals(RollupInterval.YEAR, ApplicationTimeSeriesService.chooseInterval(to.minusYears(20), to));
+    }
+    
+    @Test
+    void getTimeSeries_ShouldRejectTooManyPoints() {
+        LocalDate to = LocalDate.now();
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> timeSeriesService.getTimeSeries(to.minusYears(5), to, RollupInterval.DAY));
+    }
+    
+    private void record(ApplicationChangedEvent event) {
+        rollupRecorder.onApplicationChanged(event);
+        historyRecorder.onApplicationChanged(event);
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static JobApplicationRequest request(String companyName) {
+        return new JobApplicationRequest(companyName, "Engineer", ApplicationStatus.APPLIED,
+            null, null, null, null, null, null, LocalDateTime.now());
+    }
+}
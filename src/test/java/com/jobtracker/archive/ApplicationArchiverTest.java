@@ -0,0 +1,97 @@
+package com.jobtracker.archive;
+
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.CursorPage;
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.ArchivedApplicationRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.service.ApplicationStatsTracker;
+import com.jobtracker.service.JobApplicationService;
+import com.jobtracker.service.JobApplicationService.ApplicationStats;
+import com.jobtracker.service.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Moves rows between the hot and archive tables against a real database.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archive;DB_CLOSE_DELAY=-1",
+    "jobtracker.snapshot.path=",
+    "jobtracker.archive.enabled=false",
+    "jobtracker.archive.min-age=0s",
+    "jobtracker.archive.batch-size=2"
+})
+class ApplicationArchiverTest {
+    
+    @Autowired
+    private ApplicationArchiver archiver;
+    
+    @Autowired
+    private JobApplicationService service;
+    
+    @Autowired
+    private ApplicationStatsTracker statsTracker;
+    
+    @Autowired
+    private JobApplicationRepository repository;
+    
+    @Autowired
+    private ArchivedApplicationRepository archiveRepository;
+    
+    @Test
+    void archive_ShouldMoveClosedApplicationsAndKeepThemReadable() {
+        // Arrange: three closed applications span two batches, the active one stays
+        JobApplicationResponse active = create("ActiveCo", ApplicationStatus.APPLIED);
+        JobApplicationResponse rejected = create("RejectedCo", ApplicationStatus.REJECTED);
+        create("WithdrawnCo", ApplicationStatus.WITHDRAWN);
+        create("AcceptedCo", ApplicationStatus.ACCEPTED);
+        service.getApplicationById(rejected.id());
+        ApplicationStats before = statsTracker.snapshot();
+        
+        // Act
+        int moved = archiver.archive();
+        
+        // Assert
+        assertEquals(3, moved);
+        assertEquals(List.of(active.id()), repository.findAll().stream().map(a -> a.getId()).toList());
+        assertEquals(3, archiveRepository.count());
+        assertEquals(rejected.companyName(), service.getApplicationById(rejected.id()).companyName());
+        assertThrows(ResourceNotFoundException.class,
+            () -> service.updateApplication(rejected.id(), request("RejectedCo", ApplicationStatus.APPLIED)));
+        
+        statsTracker.reconcile();
+        assertEquals(before, statsTracker.snapshot());
+        
+        CursorPage<JobApplicationSummary> hotOnly = service.getApplicationSummaries(ApplicationFilter.none(), null, 10);
+        assertEquals(List.of(active.id()), hotOnly.items().stream().map(JobApplicationSummary::id).toList());
+        
+        CursorPage<JobApplicationResponse> first = service.getAllApplications(
+            new ApplicationFilter(null, null, null, null, true), null, 3);
+        CursorPage<JobApplicationResponse> second = service.getAllApplications(
+            new ApplicationFilter(null, null, null, null, true), first.nextCursor(), 3);
+        assertEquals(3, first.items().size());
+        assertEquals(1, second.items().size());
+        assertFalse(second.hasMore());
+        
+        assertEquals(1, service.getApplicationsByStatus(ApplicationStatus.REJECTED, true).size());
+        assertTrue(service.getApplicationsByStatus(ApplicationStatus.REJECTED, false).isEmpty());
+        assertEquals(0, archiver.archive());
+    }
+    
+    private JobApplicationResponse create(String company, ApplicationStatus status) {
+        return service.createApplication(request(company, status));
+    }
+    
+    private static JobApplicationRequest request(String company, ApplicationStatus status) {
+        return new JobApplicationRequest(company, "Engineer", status, null, null, null, null, null, null, null);
+    }
+}
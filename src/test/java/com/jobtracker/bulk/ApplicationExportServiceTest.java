@@ -0,0 +1,247 @@
+package com.jobtracker.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * End-to-end tests for the export endpoint: NDJSON framing, the CSV layout, the
+ * archive merge and cursor-style streaming, plus a CSV write/parse round trip.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:exports;DB_CLOSE_DELAY=-1",
+    "jobtracker.snapshot.path="
+})
+@AutoConfigureMockMvc
+class ApplicationExportServiceTest {
+    
+    private static final String AWKWARD_NOTES = "Met at \"DevConf\", then\r\nfollowed up";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ApplicationExportService exportService;
+    
+    @Autowired
+    private JobApplicationRepository repository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private List<Long> ids;
+    
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM job_applications_archive");
+        List<JobApplication> applications = new ArrayList<>();
+        for (String company : List.of("Acme, Inc.", "Globex", "Initech")) {
+            applications.add(application(company, null));
+        }
+        applications.get(0).setNotes(AWKWARD_NOTES);
+        ids = repository.saveAll(applications).stream().map(JobApplication::getId).sorted().toList();
+    }
+    
+    @Test
+    void exportNdjson_ShouldWriteOneObjectPerLineInIdOrder() throws Exception {
+        // Act
+        String body = export("NDJSON");
+        
+        // Assert
+        assertTrue(body.endsWith("}\n"), "Missing trailing newline");
+        String[] lines = body.substring(0, body.length() - 1).split("\n", -1);
+        assertEquals(3, lines.length);
+        List<Long> exported = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            exported.add(row.get("id").asLong());
+            assertTrue(row.get("location").isNull());
+        }
+        assertEquals(ids, exported);
+        assertEquals(AWKWARD_NOTES, objectMapper.readTree(lines[0]).get("notes").asText());
+    }
+    
+    @Test
+    void exportCsv_ShouldWriteHeaderAndQuoteOnlyWhereNeeded() throws Exception {
+        // Act
+        String body = export("CSV");
+        
+        // Assert
+        List<String> records = records(body);
+        assertEquals(String.join(",", ApplicationCsv.COLUMNS), records.get(0));
+        assertEquals(4, records.size());
+        List<String> first = ApplicationCsv.parseRecord(records.get(1));
+        assertEquals(ids.get(0).toString(), first.get(0));
+        assertEquals("Acme, Inc.", first.get(1));
+        assertEquals(AWKWARD_NOTES, first.get(5));
+        assertNull(first.get(6), "Null location should be an empty field");
+        assertTrue(records.get(1).startsWith(ids.get(0) + ",\"Acme, Inc.\",Engineer,APPLIED,"));
+        assertTrue(records.get(2).startsWith(ids.get(1) + ",Globex,"));
+        assertEquals(ids.get(2).toString(), ApplicationCsv.parseRecord(records.get(3)).get(0));
+    }
+    
+    @Test
+    void exportNdjson_WithIncludeArchived_ShouldMergeTheArchiveById() throws Exception {
+        // Arrange: one archived row, and a copy of a hot one as if archived mid-export
+        long archivedId = ids.get(2) + 100;
+        archive(archivedId, "Umbrella");
+        archive(ids.get(1), "Globex");
+        
+        // Act
+        String hotOnly = export("NDJSON");
+        String merged = export("NDJSON", "includeArchived", "true");
+        
+        // Assert
+        assertEquals(ids, exportedIds(hotOnly));
+        assertEquals(List.of(ids.get(0), ids.get(1), ids.get(2), archivedId), exportedIds(merged));
+        String last = merged.substring(0, merged.length() - 1).split("\n")[3];
+        assertEquals("Umbrella", objectMapper.readTree(last).get("companyName").asText());
+    }
+    
+    @Test
+    void export_ShouldNotKeepRowsInThePersistenceContext() {
+        // Arrange: join an outer transaction so its persistence context can be inspected afterwards
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        // Act
+        long written = transaction.execute(status -> {
+            try {
+                long rows = exportService.export(BulkFormat.CSV, false, out);
+                assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+                return rows;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        
+        // Assert
+        assertEquals(3, written);
+    }
+    
+    @Test
+    void writeRow_ShouldRoundTripThroughParseRecord() throws Exception {
+        // Arrange
+        JobApplication application = application("Quote \"Co\", Ltd", AWKWARD_NOTES);
+        application.setId(42L);
+        application.setDescription("");
+        application.setSalaryMin(100);
+        application.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30));
+        JobApplicationResponse row = JobApplicationResponse.fromEntity(application);
+        StringWriter out = new StringWriter();
+        
+        // Act
+        ApplicationCsv.writeRow(out, row);
+        
+        // Assert
+        String text = out.toString();
+        assertTrue(text.endsWith("\r\n"));
+        List<String> fields = ApplicationCsv.parseRecord(text.substring(0, text.length() - 2));
+        assertEquals(Arrays.asList("42", "Quote \"Co\", Ltd", "Engineer", "APPLIED", null, AWKWARD_NOTES, null,
+            null, "100", null, row.appliedDate().toString(), "2024-03-01T09:30", null), fields);
+    }
+    
+    private String export(String format, String... parameters) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/applications/export").param("format", format);
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.param(parameters[i], parameters[i + 1]);
+        }
+        MvcResult started = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", containsString("attachment")))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+    
+    private List<Long> exportedIds(String ndjson) throws IOException {
+        List<Long> exported = new ArrayList<>();
+        for (String line : ndjson.substring(0, ndjson.length() - 1).split("\n")) {
+            exported.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        return exported;
+    }
+    
+    private void archive(long id, String companyName) {
+        jdbcTemplate.update("INSERT INTO job_applications_archive (id, company_name, job_title, status, "
+            + "created_at, updated_at, version, archived_at) "
+            + "VALUES (?, ?, 'Engineer', 'REJECTED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP)",
+            id, companyName);
+    }
+    
+    /**
+     * Splits a CSV body into records, keeping line breaks inside quoted fields.
+     */
+    private static List<String> records(String body) {
+        List<String> records = new ArrayList<>();
+        StringBuilder record = new StringBuilder();
+        boolean open = false;
+        for (String line : body.split("\r\n", -1)) {
+            if (!record.isEmpty() || open) {
+                record.append("\r\n");
+            }
+            record.append(line);
+            open ^= ApplicationCsv.togglesQuote(line);
+            if (!open && !record.isEmpty()) {
+                records.add(record.toString());
+                record.setLength(0);
+            }
+        }
+        return records;
+    }
+    
+    private static JobApplication application(String companyName, String notes) {
+        JobApplication application = new JobApplication();
+        application.setCompanyName(companyName);
+        application.setJobTitle("Engineer");
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setNotes(notes);
+        application.setAppliedDate(LocalDateTime.of(2024, 2, 1, 12, 0));
+        return application;
+    }
+}
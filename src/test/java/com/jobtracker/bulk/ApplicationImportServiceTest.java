@@ -0,0 +1,173 @@
+package com.jobtracker.bulk;
+
+import com.jobtracker.dto.ImportJobStatus;
+import com.jobtracker.dto.ImportJobStatus.LineError;
+import com.jobtracker.dto.ImportJobStatus.State;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.search.NameSearchService;
+import com.jobtracker.service.ApplicationStatsTracker;
+import com.jobtracker.service.JobApplicationService.ApplicationStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end tests for the import pipeline: parsing, per-line errors and inserts.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:imports;DB_CLOSE_DELAY=-1",
+    "jobtracker.snapshot.path=",
+    "jobtracker.import.chunk-size=2",
+    "jobtracker.import.parallelism=2"
+})
+class ApplicationImportServiceTest {
+    
+    @Autowired
+    private ApplicationImportService importService;
+    
+    @Autowired
+    private JobApplicationRepository repository;
+    
+    @Autowired
+    private NameSearchService nameSearchService;
+    
+    @Autowired
+    private ApplicationStatsTracker statsTracker;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void importNdjson_ShouldInsertValidLinesAndReportInvalidOnes() throws Exception {
+        // Arrange
+        String body = """
+            {"companyName":"NdjsonCo 1","jobTitle":"Engineer","status":"APPLIED"}
+            {"companyName":"","jobTitle":"Engineer","status":"APPLIED"}
+            
+            {"companyName":"NdjsonCo 2","jobTitle":"Engineer","status":"OFFER","salaryMin":5,"salaryMax":1}
+            {"companyName":"NdjsonCo 3",
+            {"companyName":"NdjsonCo 4","jobTitle":"Engineer","status":"REJECTED","notes":"n"}
+            """;
+        
+        // Act
+        ImportJobStatus status = awaitCompletion(importService.startImport(BulkFormat.NDJSON, stream(body)));
+        
+        // Assert
+        assertEquals(State.COMPLETED, status.state());
+        assertEquals(5, status.records());
+        assertEquals(2, status.imported());
+        assertEquals(3, status.failed());
+        List<LineError> errors = sorted(status.errors());
+        assertEquals(List.of(2L, 4L, 5L), errors.stream().map(LineError::line).toList());
+        assertEquals(List.of("companyName: Company name is required"), errors.get(0).errors());
+        assertEquals(List.of("Minimum salary cannot be greater than maximum salary"), errors.get(1).errors());
+        assertTrue(errors.get(2).errors().get(0).startsWith("Malformed JSON"));
+        assertTrue(repository.findAll().stream().anyMatch(a -> a.getCompanyName().equals("NdjsonCo 4")));
+    }
+    
+    @Test
+    void importCsv_ShouldMapColumnsByHeaderAndKeepQuotedLineBreaks() throws Exception {
+        // Arrange: columns out of export order, a quoted field spanning two lines
+        String body = "status,jobTitle,companyName,notes,salaryMin\r\n"
+            + "APPLIED,Engineer,CsvCo 1,\"first line\r\nsecond, \"\"quoted\"\"\",100\r\n"
+            + "NOT_A_STATUS,Engineer,CsvCo 2,,abc\r\n"
+            + "PHONE_SCREEN,Engineer,CsvCo 3,,\r\n";
+        
+        // Act
+        ImportJobStatus status = awaitCompletion(importService.startImport(BulkFormat.CSV, stream(body)));
+        
+        // Assert
+        assertEquals(2, status.imported());
+        assertEquals(1, status.failed());
+        assertEquals(4, status.errors().get(0).line());
+        assertEquals(List.of("status: unknown status 'NOT_A_STATUS'", "salaryMin: expected a whole number"),
+            status.errors().get(0).errors());
+        assertEquals("first line\nsecond, \"quoted\"", repository.findAll().stream()
+            .filter(a -> a.getCompanyName().equals("CsvCo 1")).findFirst().orElseThrow().getNotes());
+    }
+    
+    @Test
+    void startImport_WhenImportsOverlap_ShouldCompleteEachOnTheSharedPool() throws Exception {
+        // Arrange: enough records per import to keep all of its stages busy
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            StringBuilder body = new StringBuilder("companyName,jobTitle,status\r\n");
+            for (int row = 0; row < 50; row++) {
+                body.append("OverlapCo ").append(i).append('-').append(row).append(",Engineer,APPLIED\r\n");
+            }
+            bodies.add(body.toString());
+        }
+        
+        // Act
+        List<ImportJobStatus> started = new ArrayList<>();
+        for (String body : bodies) {
+            started.add(importService.startImport(BulkFormat.CSV, stream(body)));
+        }
+        
+        // Assert
+        for (ImportJobStatus job : started) {
+            ImportJobStatus status = awaitCompletion(job);
+            assertEquals(State.COMPLETED, status.state());
+            assertEquals(50, status.imported());
+        }
+    }
+    
+    @Test
+    void startImport_ShouldApplyEachChunkToHistoryStatsAndSearch() throws Exception {
+        // Arrange: five rows make three chunks of up to two
+        StringBuilder body = new StringBuilder("companyName,jobTitle,status\r\n");
+        for (int row = 0; row < 5; row++) {
+            body.append("DerivedCo ").append(row).append(",Engineer,").append(row < 3 ? "APPLIED" : "OFFER")
+                .append("\r\n");
+        }
+        
+        // Act
+        ImportJobStatus status = awaitCompletion(importService.startImport(BulkFormat.CSV, stream(body.toString())));
+        
+        // Assert
+        assertEquals(5, status.imported());
+        assertEquals(5, nameSearchService.search("DerivedCo", 10).size());
+        assertEquals(5, jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM application_status_history h
+            JOIN job_applications a ON a.id = h.application_id
+            WHERE a.company_name LIKE 'DerivedCo %' AND h.from_status IS NULL""", Integer.class));
+        ApplicationStats counted = statsTracker.snapshot();
+        statsTracker.reconcile();
+        assertEquals(statsTracker.snapshot(), counted, "Counters drifted from the table");
+    }
+    
+    @Test
+    void parseRecord_ShouldTreatEmptyFieldsAsNullAndUnescapeQuotes() {
+        assertEquals(Arrays.asList("a", null, "b,\"c\"", ""), ApplicationCsv.parseRecord("a,,\"b,\"\"c\"\"\",\"\""));
+        assertThrows(IllegalArgumentException.class, () -> ApplicationCsv.parseRecord("a,\"open"));
+    }
+    
+    private ImportJobStatus awaitCompletion(ImportJobStatus started) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ImportJobStatus status = importService.getStatus(started.id());
+            if (status.state() == State.COMPLETED || status.state() == State.FAILED) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        return fail("Import did not finish");
+    }
+    
+    private static List<LineError> sorted(List<LineError> errors) {
+        return errors.stream().sorted(Comparator.comparingLong(LineError::line)).toList();
+    }
+    
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,166 @@
+package com.jobtracker.columnar;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationResponseBuilder;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.StatusCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.jobtracker.dto.JobApplicationResponseBuilder.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ApplicationColumns scans, ordering and maintenance.
+ */
+class ApplicationColumnsTest {
+    
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 3, 1, 9, 30, 0, 123_456_000);
+    
+    private ApplicationColumns columns;
+    
+    @BeforeEach
+    void setUp() {
+        columns = new ApplicationColumns();
+        columns.put(row(1L, ApplicationStatus.APPLIED, 1, 0L).build());
+        columns.put(row(2L, ApplicationStatus.PHONE_SCREEN, 2, 0L).build());
+        columns.put(row(3L, ApplicationStatus.REJECTED, 3, 0L).build());
+        columns.put(row(4L, ApplicationStatus.ONSITE_INTERVIEW, 2, 0L).build());
+    }
+    
+    @Test
+    void entities_ShouldRoundTripEveryColumn() {
+        JobApplicationResponse row = row(1L, ApplicationStatus.APPLIED, 1, 0L).build();
+        
+        JobApplication entity = columns.entities(ApplicationColumns.mask(ApplicationStatus.APPLIED)).get(0);
+        
+        assertEquals(row, JobApplicationResponse.fromEntity(entity));
+    }
+    
+    @Test
+    void newestSummaries_ShouldOrderByUpdatedAtThenIdDescending() {
+        List<JobApplicationSummary> active = columns.newestSummaries(ApplicationColumns.ACTIVE, 0, 10);
+        List<JobApplicationSummary> page = columns.newestSummaries(ApplicationColumns.ACTIVE, 1, 1);
+        
+        assertEquals(List.of(4L, 2L, 1L), active.stream().map(JobApplicationSummary::id).toList());
+        assertEquals(List.of(2L), page.stream().map(JobApplicationSummary::id).toList());
+        assertEquals(List.of(4L, 2L), ids(columns.newestEntities(ApplicationColumns.IN_INTERVIEW)));
+    }
+    
+    @Test
+    void createdBetween_ShouldIncludeBothBounds() {
+        List<JobApplication> created = columns.createdBetween(BASE_TIME.plusDays(1), BASE_TIME.plusDays(2));
+        
+        assertEquals(List.of(1L, 2L, 4L), ids(created));
+    }
+    
+    @Test
+    void put_ShouldMoveRowBetweenStatusesAndIgnoreOlderVersions() {
+        columns.put(row(1L, ApplicationStatus.WITHDRAWN, 5, 2L).build());
+        columns.put(row(1L, ApplicationStatus.OFFER, 6, 1L).build());
+        
+        assertEquals(0, columns.count(ApplicationStatus.APPLIED));
+        assertEquals(List.of(1L), ids(columns.entities(ApplicationColumns.mask(ApplicationStatus.WITHDRAWN))));
+        assertEquals(0, columns.count(ApplicationStatus.OFFER));
+    }
+    
+    @Test
+    void remove_ShouldDropRowAndReuseItsSlot() {
+        columns.remove(3L);
+        columns.remove(3L);
+        assertEquals(3, columns.size());
+        assertTrue(columns.createdBetween(BASE_TIME.plusDays(3), BASE_TIME.plusDays(3)).isEmpty());
+        
+        columns.put(row(5L, ApplicationStatus.ACCEPTED, 7, 0L).build());
+        
+        assertEquals(List.of(ApplicationStatus.APPLIED, ApplicationStatus.PHONE_SCREEN,
+                ApplicationStatus.ONSITE_INTERVIEW, ApplicationStatus.ACCEPTED),
+            columns.countByStatus().stream().map(StatusCount::getStatus).toList());
+        assertEquals(List.of(5L), ids(columns.entities(ApplicationColumns.mask(ApplicationStatus.ACCEPTED))));
+    }
+    
+    @Test
+    void scans_ShouldSpanSeveralBitmapWords() {
+        for (long id = 10; id < 210; id++) {
+            columns.put(row(id, ApplicationStatus.TECHNICAL_INTERVIEW, (int) id, 0L).build());
+        }
+        
+        List<JobApplicationSummary> page = columns.newestSummaries(ApplicationColumns.IN_INTERVIEW, 0, 3);
+        
+        assertEquals(202, columns.summaries(ApplicationColumns.IN_INTERVIEW).size());
+        assertEquals(List.of(209L, 208L, 207L), page.stream().map(JobApplicationSummary::id).toList());
+        assertEquals(203, columns.newestEntities(ApplicationColumns.ACTIVE).size());
+    }
+    
+    @Test
+    void writeTo_ShouldRoundTripLiveRowsThroughReadFrom() throws Exception {
+        // Arrange
+        columns.remove(2L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        columns.writeTo(new DataOutputStream(bytes));
+        
+        // Act
+        ApplicationColumns restored = new ApplicationColumns();
+        restored.put(row(9L, ApplicationStatus.OFFER, 9, 0L).build());
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        
+        // Assert
+        assertEquals(3, restored.size());
+        assertEquals(columns.countByStatus().stream().map(StatusCount::getStatus).toList(),
+            restored.countByStatus().stream().map(StatusCount::getStatus).toList());
+        assertEquals(responses(columns.newestEntities(ApplicationColumns.ACTIVE)),
+            responses(restored.newestEntities(ApplicationColumns.ACTIVE)));
+        assertEquals(0, restored.count(ApplicationStatus.OFFER));
+        assertEquals(1, restored.retainOnly(new long[] {1L, 4L}));
+        assertEquals(List.of(1L, 4L), ids(restored.createdBetween(BASE_TIME, BASE_TIME.plusDays(10))));
+    }
+    
+    @Test
+    void put_WithChurningValues_ShouldReuseFreedDictionaryCodes() throws Exception {
+        // Arrange: 4 rows share 4 values
+        int initial = columns.dictionarySize();
+        
+        // Act
+        for (int round = 0; round < 1000; round++) {
+            columns.put(row(1L, ApplicationStatus.APPLIED, 1, round)
+                .companyName("Company " + round).location("City " + round).build());
+        }
+        columns.remove(1L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        columns.writeTo(new DataOutputStream(bytes));
+        ApplicationColumns restored = new ApplicationColumns();
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        
+        // Assert
+        assertTrue(columns.dictionarySize() <= initial + 2, "Dictionary kept " + columns.dictionarySize() + " codes");
+        assertEquals(4, restored.dictionarySize());
+        assertEquals(responses(columns.newestEntities(ApplicationColumns.ACTIVE)),
+            responses(restored.newestEntities(ApplicationColumns.ACTIVE)));
+        restored.put(row(2L, ApplicationStatus.PHONE_SCREEN, 8, 1L).build());
+        assertEquals("Company 0", restored.newestSummaries(ApplicationColumns.ACTIVE, 0, 1).get(0).companyName());
+    }
+    
+    private static List<JobApplicationResponse> responses(List<JobApplication> entities) {
+        return entities.stream().map(JobApplicationResponse::fromEntity).toList();
+    }
+    
+    private static List<Long> ids(List<JobApplication> entities) {
+        return entities.stream().map(JobApplication::getId).toList();
+    }
+    
+    private static JobApplicationResponseBuilder row(long id, ApplicationStatus status, int day, long version) {
+        LocalDateTime time = BASE_TIME.plusDays(day);
+        return response(id).companyName("Company " + (id % 2)).status(status).description("Description " + id)
+            .location(id % 2 == 0 ? "Remote" : null).salaryMin(100_000).appliedDate(time.minusDays(1))
+            .at(time).updatedAt(time.plusHours(1)).version(version);
+    }
+}
@@ -0,0 +1,103 @@
+package com.jobtracker.columnar;
+
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.dto.StatusChangeRequest;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.jdbc.QueryStats;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.StatusCount;
+import com.jobtracker.service.JobApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The columnar profile must return what the JPA queries return, without running them.
+ * The JPA answer is read inside a read-write transaction, where the columns step aside.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:columnar;DB_CLOSE_DELAY=-1",
+    "jobtracker.snapshot.path="
+})
+@ActiveProfiles(ColumnarStoreConfig.PROFILE)
+class ColumnarRepositoryTest {
+    
+    @Autowired
+    private JobApplicationRepository repository;
+    
+    @Autowired
+    private JobApplicationService service;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void reads_ShouldMatchJpaWithoutQueryingAndFollowWrites() {
+        // Arrange
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        LocalDateTime start = LocalDateTime.now();
+        for (int i = 0; i < 40; i++) {
+            JobApplicationResponse created = service.createApplication(new JobApplicationRequest(
+                "Company " + i, "Engineer", statuses[i % statuses.length], null, null, null, null, null, null, null));
+            if (i % 3 == 0) {
+                service.changeStatus(created.id(), new StatusChangeRequest(ApplicationStatus.OFFER, null));
+            }
+        }
+        service.deleteApplication(repository.findByStatus(ApplicationStatus.WITHDRAWN).get(0).getId());
+        LocalDateTime end = LocalDateTime.now();
+        
+        // Act & Assert
+        assertSameAsJpa(repo -> repo.count());
+        assertSameAsJpa(repo -> repo.countByStatus(ApplicationStatus.OFFER));
+        assertSameAsJpa(repo -> counts(repo.countGroupedByStatus()));
+        assertSameAsJpa(repo -> entities(repo.findByStatus(ApplicationStatus.OFFER)));
+        assertSameAsJpa(repo -> byId(repo.findSummariesByStatus(ApplicationStatus.APPLIED)));
+        assertSameAsJpa(repo -> entities(repo.findActiveApplications()));
+        assertSameAsJpa(repo -> repo.findActiveSummaries(PageRequest.ofSize(10)));
+        assertSameAsJpa(repo -> entities(repo.findApplicationsInInterview()));
+        assertSameAsJpa(repo -> repo.findSummariesInInterview());
+        assertSameAsJpa(repo -> entities(repo.findByCreatedAtBetween(start, end)));
+    }
+    
+    private <T> void assertSameAsJpa(Function<JobApplicationRepository, T> read) {
+        T expected = transactionTemplate.execute(status -> read.apply(repository));
+        QueryStats stats = QueryStats.start();
+        T actual;
+        try {
+            actual = read.apply(repository);
+        } finally {
+            stats.stop();
+        }
+        assertEquals(expected, actual);
+        assertEquals(0, stats.statements());
+    }
+    
+    // Compared by value and in id order, since these queries leave the order open
+    private static List<JobApplicationResponse> entities(List<JobApplication> entities) {
+        return entities.stream()
+            .map(JobApplicationResponse::fromEntity)
+            .sorted(Comparator.comparing(JobApplicationResponse::id))
+            .toList();
+    }
+    
+    private static List<JobApplicationSummary> byId(List<JobApplicationSummary> summaries) {
+        return summaries.stream().sorted(Comparator.comparing(JobApplicationSummary::id)).toList();
+    }
+    
+    private static List<String> counts(List<StatusCount> counts) {
+        return counts.stream().map(count -> count.getStatus() + "=" + count.getCount()).sorted().toList();
+    }
+}
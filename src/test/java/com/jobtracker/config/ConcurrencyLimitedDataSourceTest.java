@@ -0,0 +1,73 @@
+package com.jobtracker.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConcurrencyLimitedDataSource permit accounting.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+    
+    @Mock
+    private DataSource target;
+    
+    @Mock
+    private Connection connection;
+    
+    private ConcurrencyLimitedDataSource dataSource;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(target.getConnection()).thenReturn(connection);
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+    }
+    
+    @Test
+    void close_ShouldReleasePermitExactlyOnce() throws SQLException {
+        // Arrange
+        Connection first = dataSource.getConnection();
+        
+        // Act
+        first.close();
+        first.close();
+        
+        // Assert
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+    }
+    
+    @Test
+    void getConnection_WhenNoPermitWithinMaxWait_ShouldThrowTransientException() throws SQLException {
+        // Arrange
+        dataSource.getConnection();
+        
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(1)).getConnection();
+    }
+    
+    @Test
+    void getConnection_WhenTargetFails_ShouldReturnPermit() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+        
+        // Act
+        assertThrows(SQLException.class, dataSource::getConnection);
+        
+        // Assert
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
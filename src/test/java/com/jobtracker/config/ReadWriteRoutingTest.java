@@ -0,0 +1,104 @@
+package com.jobtracker.config;
+
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks which pool each kind of transaction runs on. Both pools open the same
+ * in-memory database; each tags its connections with an H2 session variable.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+    "spring.datasource.hikari.connection-init-sql=SET @POOL = 'write'",
+    "jobtracker.datasource.read.connection-init-sql=SET @POOL = 'read'",
+    "jobtracker.snapshot.path="
+})
+class ReadWriteRoutingTest {
+    
+    private static final String CURRENT_POOL = "SELECT @POOL";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private JobApplicationRepository repository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void readOnlyTransaction_ShouldRunOnTheReadPool() {
+        // Act
+        String pool = readOnly().execute(status -> jdbcTemplate.queryForObject(CURRENT_POOL, String.class));
+        
+        // Assert
+        assertEquals("read", pool);
+    }
+    
+    @Test
+    void readWriteTransactionAndAutoCommit_ShouldRunOnTheWritePool() {
+        // Act
+        String transactional = readWrite().execute(status -> jdbcTemplate.queryForObject(CURRENT_POOL, String.class));
+        String autoCommit = jdbcTemplate.queryForObject(CURRENT_POOL, String.class);
+        
+        // Assert
+        assertEquals("write", transactional);
+        assertEquals("write", autoCommit);
+    }
+    
+    @Test
+    void readOnlyWorkJoiningAReadWriteTransaction_ShouldSeeItsUncommittedWrites() {
+        // Act
+        Long count = readWrite().execute(status -> {
+            repository.saveAndFlush(application("Joined"));
+            return readOnly().execute(inner -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_applications WHERE company_name = 'Joined'", Long.class));
+        });
+        
+        // Assert
+        assertEquals(1L, count);
+    }
+    
+    @Test
+    void readOnlyTransaction_ShouldNotFlushChangesToLoadedEntities() {
+        // Arrange
+        Long id = repository.save(application("Original")).getId();
+        
+        // Act
+        readOnly().executeWithoutResult(status ->
+            repository.findById(id).orElseThrow().setCompanyName("Changed"));
+        
+        // Assert
+        assertEquals("Original", repository.findById(id).orElseThrow().getCompanyName());
+    }
+    
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+    
+    private TransactionTemplate readWrite() {
+        return new TransactionTemplate(transactionManager);
+    }
+    
+    private static JobApplication application(String companyName) {
+        JobApplication application = new JobApplication();
+        application.setCompanyName(companyName);
+        application.setJobTitle("Engineer");
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setAppliedDate(LocalDateTime.now());
+        return application;
+    }
+}
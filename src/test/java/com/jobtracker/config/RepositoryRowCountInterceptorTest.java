@@ -0,0 +1,91 @@
+package com.jobtracker.config;
+
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RepositoryRowCountInterceptor result-size recording.
+ */
+@ExtendWith(MockitoExtension.class)
+class RepositoryRowCountInterceptorTest {
+    
+    @Mock
+    private MethodInvocation invocation;
+    
+    private SimpleMeterRegistry registry;
+    private RepositoryRowCountInterceptor interceptor;
+    
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new RepositoryRowCountInterceptor(() -> registry, JobApplicationRepository.class);
+    }
+    
+    @Test
+    void invoke_WhenListReturned_ShouldRecordItsSize() throws Throwable {
+        // Arrange
+        when(invocation.getMethod())
+            .thenReturn(JobApplicationRepository.class.getMethod("findByStatus", ApplicationStatus.class));
+        when(invocation.proceed()).thenReturn(List.of(new JobApplication(), new JobApplication()));
+        
+        // Act
+        interceptor.invoke(invocation);
+        
+        // Assert
+        DistributionSummary summary = summary("findByStatus");
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+    
+    @Test
+    void invoke_WhenStreamReturned_ShouldRecordRowsConsumedOnClose() throws Throwable {
+        // Arrange
+        when(invocation.getMethod()).thenReturn(JobApplicationRepository.class.getMethod("streamAllOrderById"));
+        when(invocation.proceed()).thenReturn(Stream.of(new JobApplication(), new JobApplication(), new JobApplication()));
+        
+        // Act
+        try (Stream<?> rows = (Stream<?>) interceptor.invoke(invocation)) {
+            assertEquals(3, rows.toList().size());
+            assertEquals(0, summary("streamAllOrderById").count());
+        }
+        
+        // Assert
+        assertEquals(3.0, summary("streamAllOrderById").totalAmount());
+    }
+    
+    @Test
+    void invoke_WhenScalarReturned_ShouldNotRecord() throws Throwable {
+        // Arrange
+        when(invocation.getMethod())
+            .thenReturn(JobApplicationRepository.class.getMethod("countByStatus", ApplicationStatus.class));
+        when(invocation.proceed()).thenReturn(7L);
+        
+        // Act
+        interceptor.invoke(invocation);
+        
+        // Assert
+        assertTrue(registry.find(RepositoryRowCountInterceptor.METRIC).summaries().isEmpty());
+    }
+    
+    private DistributionSummary summary(String method) {
+        return registry.get(RepositoryRowCountInterceptor.METRIC)
+            .tag("repository", "JobApplicationRepository")
+            .tag("method", method)
+            .summary();
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobtracker.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the order of the DataSource decorations in virtual-thread mode: the limiter
+ * directly on the pool, the tracing proxy around it.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:virtualthreads;DB_CLOSE_DELAY=-1",
+    "spring.threads.virtual.enabled=true",
+    "jobtracker.snapshot.path="
+})
+class VirtualThreadConfigTest {
+    
+    @Autowired
+    private ApplicationContext context;
+    
+    @Test
+    void connectionPools_ShouldBeLimitedBeneathTheTracingProxy() {
+        // Act
+        Map<String, ProxyDataSource> traced = context.getBeansOfType(ProxyDataSource.class);
+        
+        // Assert
+        assertFalse(traced.isEmpty());
+        traced.forEach((name, proxy) -> assertInstanceOf(ConcurrencyLimitedDataSource.class, proxy.getDataSource(), name));
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jobtracker.jdbc.QueryStatsResultMatchers.queries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of JDBC statements each endpoint issues, so a lazy load or a
+ * query in a loop shows up as a test failure rather than as production latency.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1",
+    "jobtracker.snapshot.path="
+})
+@AutoConfigureMockMvc
+class EndpointQueryCountTest {
+    
+    private static final String REQUEST_BODY = """
+        {"companyName":"Acme","jobTitle":"Engineer","status":"APPLIED"}""";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private JobApplicationRepository repository;
+    
+    private Long id;
+    
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            JobApplication application = new JobApplication();
+            application.setCompanyName("Company " + i);
+            application.setJobTitle("Engineer");
+            application.setStatus(ApplicationStatus.APPLIED);
+            application.setAppliedDate(LocalDateTime.now());
+            applications.add(application);
+        }
+        id = repository.saveAll(applications).get(0).getId();
+    }
+    
+    @Test
+    void list_ShouldIssueOneQueryPerPage() throws Exception {
+        mockMvc.perform(get("/api/applications").param("limit", "10"))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(1))
+            .andExpect(queries().atMostRows(11));
+    }
+    
+    @Test
+    void getById_ShouldIssueOneQueryThenServeFromCache() throws Exception {
+        mockMvc.perform(get("/api/applications/{id}", id))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(1));
+        mockMvc.perform(get("/api/applications/{id}", id))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(0));
+    }
+    
+    @Test
+    void stats_ShouldBeServedFromMemory() throws Exception {
+        mockMvc.perform(get("/api/applications/stats"))
+            .andExpect(status().isOk())
+            .andExpect(queries().atMostStatements(1));
+        mockMvc.perform(get("/api/applications/stats"))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(0));
+    }
+    
+    @Test
+    void statusListing_ShouldNotLoadRowsOneByOne() throws Exception {
+        mockMvc.perform(get("/api/applications/status/{status}", ApplicationStatus.APPLIED))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(1))
+            .andExpect(queries().atMostRows(30));
+    }
+    
+    @Test
+    void create_ShouldIssueAnInsertPlusTheHistoryWrites() throws Exception {
+        // Sequence call (at most), insert, history insert, transition count and rollup merges
+        mockMvc.perform(post("/api/applications").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+            .andExpect(status().isCreated())
+            .andExpect(queries().atMostStatements(5));
+    }
+    
+    @Test
+    void update_ShouldIssueOneSelectAndOneUpdate() throws Exception {
+        mockMvc.perform(put("/api/applications/{id}", id).contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(2));
+    }
+    
+    @Test
+    void patchAndStatusChange_ShouldIssueOneSelectAndOneUpdate() throws Exception {
+        mockMvc.perform(patch("/api/applications/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"notes\":\"Followed up\"}"))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(2));
+        // Plus the history insert and the transition, duration and rollup merges
+        mockMvc.perform(put("/api/applications/{id}/status", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"OFFER\"}"))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(6));
+    }
+    
+    @Test
+    void analytics_ShouldReadOnlyTheAggregates() throws Exception {
+        mockMvc.perform(get("/api/applications/analytics"))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(2))
+            .andExpect(queries().atMostRows(200));
+    }
+    
+    @Test
+    void timeSeries_ShouldReadOnlyTheRollups() throws Exception {
+        mockMvc.perform(get("/api/applications/timeseries").param("from", "2015-01-01").param("interval", "MONTH"))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(1))
+            .andExpect(queries().atMostRows(400));
+    }
+    
+    @Test
+    void dashboard_ShouldCutTheActivePageFromTheRecentRows() throws Exception {
+        // All rows are APPLIED: the active page comes from the recent rows, the
+        // (empty) interview page needs its own query
+        mockMvc.perform(get("/api/dashboard"))
+            .andExpect(status().isOk())
+            .andExpect(queries().statements(2))
+            .andExpect(queries().atMostRows(10));
+    }
+    
+    @Test
+    void patch_WithStaleVersion_ShouldReturnConflict() throws Exception {
+        mockMvc.perform(patch("/api/applications/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"REJECTED\",\"version\":0}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/applications/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"WITHDRAWN\",\"version\":0}"))
+            .andExpect(status().isConflict())
+            .andExpect(queries().statements(1));
+    }
+    
+    @Test
+    void patch_WithInvalidFields_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/api/applications/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"companyName\":\"  \"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors.companyName").value("Company name cannot be blank"))
+            .andExpect(queries().statements(0));
+        // Valid on its own, but inverted once merged with the stored maximum
+        mockMvc.perform(patch("/api/applications/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salaryMax\":100}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/applications/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salaryMin\":200}"))
+            .andExpect(status().isBadRequest());
+    }
+}
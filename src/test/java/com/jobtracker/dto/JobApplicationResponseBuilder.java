@@ -0,0 +1,130 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Test fixture for {@link JobApplicationResponse}, with defaults for every field a
+ * test does not care about:
+ * <pre>
+ * JobApplicationResponse row = response(7L).status(ApplicationStatus.OFFER).build();
+ * </pre>
+ * Timestamps default to one shared "now"; the active and interview flags follow the status.
+ */
+public final class JobApplicationResponseBuilder {
+    
+    private Long id;
+    private String companyName = "Acme";
+    private String jobTitle = "Engineer";
+    private ApplicationStatus status = ApplicationStatus.APPLIED;
+    private String description;
+    private String notes;
+    private String location;
+    private String jobUrl;
+    private Integer salaryMin;
+    private Integer salaryMax;
+    private LocalDateTime appliedDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime statusChangedAt;
+    private Long version = 0L;
+    
+    private JobApplicationResponseBuilder(Long id) {
+        this.id = id;
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+        this.statusChangedAt = now;
+    }
+    
+    public static JobApplicationResponseBuilder response(Long id) {
+        return new JobApplicationResponseBuilder(id);
+    }
+    
+    public JobApplicationResponseBuilder companyName(String companyName) {
+        this.companyName = companyName;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder jobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder status(ApplicationStatus status) {
+        this.status = status;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder description(String description) {
+        this.description = description;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder notes(String notes) {
+        this.notes = notes;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder location(String location) {
+        this.location = location;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder jobUrl(String jobUrl) {
+        this.jobUrl = jobUrl;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder salaryMin(Integer salaryMin) {
+        this.salaryMin = salaryMin;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder salaryMax(Integer salaryMax) {
+        this.salaryMax = salaryMax;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder appliedDate(LocalDateTime appliedDate) {
+        this.appliedDate = appliedDate;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder createdAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder updatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder statusChangedAt(LocalDateTime statusChangedAt) {
+        this.statusChangedAt = statusChangedAt;
+        return this;
+    }
+    
+    /**
+     * Sets created, updated and status-changed times at once.
+     */
+    public JobApplicationResponseBuilder at(LocalDateTime time) {
+        this.createdAt = time;
+        this.updatedAt = time;
+        this.statusChangedAt = time;
+        return this;
+    }
+    
+    public JobApplicationResponseBuilder version(Long version) {
+        this.version = version;
+        return this;
+    }
+    
+    public JobApplicationResponse build() {
+        return new JobApplicationResponse(id, companyName, jobTitle, status, description, notes, location, jobUrl,
+            salaryMin, salaryMax, appliedDate, createdAt, updatedAt, statusChangedAt, version,
+            status.isActive(), status.isInInterviewProcess());
+    }
+}
@@ -0,0 +1,107 @@
+package com.jobtracker.feed;
+
+import com.jobtracker.dto.ChangeNotification;
+import com.jobtracker.feed.ChangeFeed.FeedEvent;
+import com.jobtracker.feed.ChangeFeed.Subscription;
+import com.jobtracker.service.ApplicationChangedEvent.ChangeType;
+import com.jobtracker.service.ApplicationStatsTracker;
+import com.jobtracker.service.ApplicationsArchivedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for ChangeFeed resume, reset and slow-subscriber handling.
+ */
+class ChangeFeedTest {
+    
+    private ChangeFeed feed;
+    
+    @BeforeEach
+    void setUp() {
+        feed = new ChangeFeed(mock(ApplicationStatsTracker.class), 4, 3);
+    }
+    
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayMissedEventsInOrder() throws Exception {
+        // Arrange
+        List<String> ids = new ArrayList<>();
+        Subscription live = feed.subscribe(null);
+        for (long id = 1; id <= 3; id++) {
+            publish(id);
+            ids.add(live.poll(0, TimeUnit.MILLISECONDS).id());
+        }
+        
+        // Act
+        Subscription resumed = feed.subscribe(ids.get(0));
+        
+        // Assert
+        assertEquals(2L, resumed.poll(0, TimeUnit.MILLISECONDS).data().id());
+        assertEquals(3L, resumed.poll(0, TimeUnit.MILLISECONDS).data().id());
+        assertNull(resumed.poll(0, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void subscribe_WhenMissedEventsAreGone_ShouldSendReset() throws Exception {
+        // Arrange: the ring holds 4 events, so the first of 6 has been overwritten
+        Subscription live = feed.subscribe(null);
+        publish(1);
+        String first = live.poll(0, TimeUnit.MILLISECONDS).id();
+        for (long id = 2; id <= 6; id++) {
+            publish(id);
+        }
+        
+        // Act
+        FeedEvent tooOld = feed.subscribe(first).poll(0, TimeUnit.MILLISECONDS);
+        FeedEvent otherRun = feed.subscribe("earlier-3").poll(0, TimeUnit.MILLISECONDS);
+        
+        // Assert
+        assertEquals(ChangeFeed.RESET, tooOld.name());
+        assertTrue(tooOld.id().endsWith("-6"));
+        assertEquals(ChangeFeed.RESET, otherRun.name());
+    }
+    
+    @Test
+    void onApplicationsArchived_ShouldSendResetToLiveAndResumingSubscribers() throws Exception {
+        // Arrange
+        Subscription live = feed.subscribe(null);
+        publish(1);
+        String first = live.poll(0, TimeUnit.MILLISECONDS).id();
+        
+        // Act
+        feed.onApplicationsArchived(new ApplicationsArchivedEvent(List.of(1L)));
+        
+        // Assert
+        assertEquals(ChangeFeed.RESET, live.poll(0, TimeUnit.MILLISECONDS).name());
+        assertEquals(ChangeFeed.RESET, feed.subscribe(first).poll(0, TimeUnit.MILLISECONDS).name());
+    }
+    
+    @Test
+    void publish_ShouldDropSubscribersThatFallBehindWithoutBlocking() throws Exception {
+        // Arrange
+        Subscription slow = feed.subscribe(null);
+        
+        // Act: one more than the subscriber's queue holds
+        for (long id = 1; id <= 4; id++) {
+            publish(id);
+        }
+        
+        // Assert
+        assertTrue(slow.isOverflowed());
+        assertEquals(0, feed.subscriberCount());
+        for (long id = 1; id <= 3; id++) {
+            assertEquals(id, slow.poll(1, TimeUnit.SECONDS).data().id());
+        }
+        assertNull(slow.poll(1, TimeUnit.SECONDS));
+    }
+    
+    private void publish(long id) {
+        feed.publish("created", new ChangeNotification(ChangeType.CREATED, id, null, null));
+    }
+}
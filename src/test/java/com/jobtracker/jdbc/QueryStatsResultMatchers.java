@@ -0,0 +1,48 @@
+package com.jobtracker.jdbc;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MockMvc matchers on the JDBC activity of a request, as recorded by
+ * {@link QueryStatsFilter}. Pins the number of statements an endpoint issues:
+ * <pre>
+ * mockMvc.perform(get("/api/applications/1"))
+ *     .andExpect(queries().statements(1));
+ * </pre>
+ */
+public final class QueryStatsResultMatchers {
+    
+    private QueryStatsResultMatchers() {}
+    
+    public static QueryStatsResultMatchers queries() {
+        return new QueryStatsResultMatchers();
+    }
+    
+    public ResultMatcher statements(int expected) {
+        return result -> assertEquals(expected, stats(result.getRequest().getAttribute(QueryStats.REQUEST_ATTRIBUTE))
+            .statements(), "JDBC statements issued by " + result.getRequest().getRequestURI());
+    }
+    
+    public ResultMatcher atMostStatements(int max) {
+        return result -> {
+            int statements = stats(result.getRequest().getAttribute(QueryStats.REQUEST_ATTRIBUTE)).statements();
+            assertTrue(statements <= max, "Expected at most " + max + " JDBC statements from "
+                + result.getRequest().getRequestURI() + " but was " + statements);
+        };
+    }
+    
+    public ResultMatcher atMostRows(long max) {
+        return result -> {
+            long rows = stats(result.getRequest().getAttribute(QueryStats.REQUEST_ATTRIBUTE)).rows();
+            assertTrue(rows <= max, "Expected at most " + max + " rows read by "
+                + result.getRequest().getRequestURI() + " but was " + rows);
+        };
+    }
+    
+    private static QueryStats stats(Object attribute) {
+        assertNotNull(attribute, "No QueryStats recorded; is QueryStatsFilter registered?");
+        return (QueryStats) attribute;
+    }
+}
@@ -0,0 +1,233 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs H2 EXPLAIN on the SQL behind each repository query, bound to the same values
+ * the query ran with, and fails if any of them falls back to a full table scan.
+ * Guards the indexes in db/migration against query changes that would stop using them.
+ * <p>
+ * {@code findAll}, {@code count} and {@code findByCompanyNameContainingIgnoreCase}
+ * (a leading-wildcard LIKE) are scans by design and are not covered.
+ */
+@DataJpaTest
+class RepositoryQueryPlanTest {
+    
+    private static final String TABLE_SCAN = "tableScan";
+    
+    @Autowired
+    private JobApplicationRepository repository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        // Enough rows that the optimizer prefers indexes over scanning
+        List<JobApplication> applications = new ArrayList<>();
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        for (int i = 0; i < 500; i++) {
+            JobApplication application = new JobApplication();
+            application.setCompanyName("Company " + i);
+            application.setJobTitle("Engineer");
+            application.setStatus(statuses[i % statuses.length]);
+            application.setAppliedDate(LocalDateTime.now());
+            applications.add(application);
+        }
+        repository.saveAllAndFlush(applications);
+        jdbcTemplate.execute("ANALYZE");
+        RecordingListener.clear();
+    }
+    
+    static Stream<Arguments> repositoryQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+            query("findByStatus", repo -> repo.findByStatus(ApplicationStatus.APPLIED)),
+            query("countByStatus", repo -> repo.countByStatus(ApplicationStatus.REJECTED)),
+            query("countGroupedByStatus", JobApplicationRepository::countGroupedByStatus),
+            query("countGroupedByStatusAcrossTiers", JobApplicationRepository::countGroupedByStatusAcrossTiers),
+            query("findActiveApplications", JobApplicationRepository::findActiveApplications),
+            query("findApplicationsInInterview", JobApplicationRepository::findApplicationsInInterview),
+            query("findByCreatedAtBetween", repo -> repo.findByCreatedAtBetween(now.minusDays(7), now)),
+            query("findRecentSummaries", repo -> repo.findRecentSummaries(PageRequest.ofSize(10))),
+            query("findPage", repo -> repo.findPage(null, null, null, null, null, null, PageRequest.ofSize(50))),
+            query("findPage (after cursor)", repo -> repo.findPage(
+                ApplicationStatus.APPLIED, null, null, null, now, 100L, PageRequest.ofSize(50))),
+            query("findSummariesByStatus", repo -> repo.findSummariesByStatus(ApplicationStatus.APPLIED)),
+            query("findActiveSummaries", JobApplicationRepository::findActiveSummaries),
+            query("findSummariesInInterview", JobApplicationRepository::findSummariesInInterview),
+            query("findActiveSummaries (first page)", repo -> repo.findActiveSummaries(PageRequest.ofSize(10))),
+            query("findSummariesInInterview (first page)",
+                repo -> repo.findSummariesInInterview(PageRequest.ofSize(10))),
+            query("findSummaryPage", repo -> repo.findSummaryPage(
+                null, null, null, null, now, 100L, PageRequest.ofSize(50))),
+            query("streamUpdatedSince", repo -> {
+                try (Stream<JobApplication> rows = repo.streamUpdatedSince(now.minusMinutes(5))) {
+                    rows.findFirst();
+                }
+            }),
+            query("streamAllIds", repo -> {
+                try (Stream<Long> ids = repo.streamAllIds()) {
+                    ids.findFirst();
+                }
+            }),
+            query("streamAllOrderById", repo -> {
+                try (Stream<JobApplication> rows = repo.streamAllOrderById()) {
+                    rows.findFirst();
+                }
+            })
+        );
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQuery_ShouldNotScanTable(Consumer<JobApplicationRepository> invocation) {
+        // Act
+        invocation.accept(repository);
+        List<CapturedQuery> statements = RecordingListener.drain();
+        
+        // Assert
+        assertFalse(statements.isEmpty(), "No SQL was captured");
+        for (CapturedQuery query : statements) {
+            String plan = explain(query);
+            assertFalse(plan.contains(TABLE_SCAN), () -> "Query falls back to a table scan:\n" + plan);
+        }
+    }
+    
+    @Test
+    void summaryQueries_ShouldNotSelectFreeTextColumns() {
+        // Act
+        List<JobApplicationSummary> page = repository.findSummaryPage(
+            null, null, null, null, null, null, PageRequest.ofSize(10));
+        List<CapturedQuery> statements = RecordingListener.drain();
+        
+        // Assert
+        assertEquals(10, page.size());
+        assertEquals(1, statements.size());
+        String sql = statements.get(0).sql().toLowerCase();
+        assertTrue(sql.contains("company_name"));
+        assertFalse(sql.contains("description"), sql);
+        assertFalse(sql.contains("notes"), sql);
+    }
+    
+    private String explain(CapturedQuery query) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+                // Replay the setXxx calls Hibernate made, so each value keeps its JDBC type
+                for (ParameterSetOperation parameter : query.parameters()) {
+                    try {
+                        parameter.getMethod().invoke(statement, parameter.getArgs());
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException("Could not bind " + parameter.getMethod(), e);
+                    }
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        });
+    }
+    
+    private static Arguments query(String name, Consumer<JobApplicationRepository> invocation) {
+        return Arguments.of(Named.of(name, invocation));
+    }
+    
+    record CapturedQuery(String sql, List<ParameterSetOperation> parameters) {
+    }
+    
+    /**
+     * Routes the test DataSource through datasource-proxy so each query's bound
+     * parameters are captured along with its SQL.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class RecordingConfig {
+        
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new RecordingListener())
+                            .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+    
+    /**
+     * Captures the statements Hibernate executes so the test explains the real queries.
+     */
+    static class RecordingListener implements QueryExecutionListener {
+        
+        private static final List<CapturedQuery> STATEMENTS = new ArrayList<>();
+        
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+        
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            synchronized (STATEMENTS) {
+                for (QueryInfo query : queryInfoList) {
+                    if (!query.getQuery().trim().toLowerCase().startsWith("select")) {
+                        continue;
+                    }
+                    List<List<ParameterSetOperation>> parameterSets = query.getParametersList();
+                    STATEMENTS.add(new CapturedQuery(query.getQuery(),
+                        parameterSets.isEmpty() ? List.of() : List.copyOf(parameterSets.get(0))));
+                }
+            }
+        }
+        
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+        
+        static List<CapturedQuery> drain() {
+            synchronized (STATEMENTS) {
+                List<CapturedQuery> captured = new ArrayList<>(STATEMENTS);
+                STATEMENTS.clear();
+                return captured;
+            }
+        }
+    }
+}
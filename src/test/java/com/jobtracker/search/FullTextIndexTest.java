@@ -0,0 +1,138 @@
+package com.jobtracker.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FullTextIndex tokenizing, BM25 ranking, maintenance and persistence.
+ */
+class FullTextIndexTest {
+    
+    private FullTextIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new FullTextIndex();
+        index.put(1L, "Build Kafka pipelines and Kafka connectors", "Recruiter mentioned Kafka");
+        index.put(2L, "Own the Kubernetes platform", null);
+        index.put(3L, "Backend role; some Kafka exposure is a plus, plus a lot of other words here", null);
+        index.put(4L, "Frontend React work", "Referral from Dana");
+    }
+    
+    @Test
+    void search_ShouldRankByTermFrequencyAndLength() {
+        // Act
+        FullTextIndex.Hits hits = index.search("kafka", 0, 10);
+        
+        // Assert
+        assertEquals(List.of(1L, 3L), hits.ids());
+        assertEquals(2, hits.total());
+    }
+    
+    @Test
+    void search_ShouldMatchAnyTermIgnoringCaseAndStopWords() {
+        // Act
+        FullTextIndex.Hits hits = index.search("The REACT or Kubernetes", 0, 10);
+        
+        // Assert
+        assertEquals(2, hits.total());
+        assertTrue(hits.ids().containsAll(List.of(2L, 4L)));
+    }
+    
+    @Test
+    void search_ShouldPageThroughRankedHits() {
+        // Act
+        FullTextIndex.Hits first = index.search("kafka", 0, 1);
+        FullTextIndex.Hits second = index.search("kafka", 1, 1);
+        FullTextIndex.Hits beyond = index.search("kafka", 2, 1);
+        
+        // Assert
+        assertEquals(List.of(1L), first.ids());
+        assertEquals(List.of(3L), second.ids());
+        assertEquals(List.of(), beyond.ids());
+        assertEquals(2, beyond.total());
+    }
+    
+    @Test
+    void search_ShouldRankSelectiveAndBroadQueriesAlike() {
+        // Arrange: a large index in which "kafka" is rare and "platform" is everywhere
+        for (long id = 100; id < 5100; id++) {
+            index.put(id, "Own the platform", null);
+        }
+        
+        // Act
+        FullTextIndex.Hits selective = index.search("kafka", 0, 10);
+        FullTextIndex.Hits broad = index.search("kafka platform", 0, 3);
+        FullTextIndex.Hits deep = index.search("platform", 4999, 10);
+        
+        // Assert
+        assertEquals(List.of(1L, 3L), selective.ids());
+        assertEquals(List.of(1L, 3L, 100L), broad.ids());
+        assertEquals(5003, broad.total());
+        assertEquals(List.of(5099L, 2L), deep.ids());
+    }
+    
+    @Test
+    void put_ShouldReplacePreviousTextOfDocument() {
+        // Act
+        index.put(2L, "Now a Kafka role", null);
+        
+        // Assert
+        assertEquals(0, index.search("kubernetes", 0, 10).total());
+        assertEquals(3, index.search("kafka", 0, 10).total());
+        assertEquals(4, index.size());
+    }
+    
+    @Test
+    void remove_ShouldDropDocumentFromResults() {
+        // Act
+        index.remove(1L);
+        int dropped = index.retainOnly(new long[] {2L, 4L});
+        
+        // Assert
+        assertEquals(1, dropped);
+        assertEquals(0, index.search("kafka", 0, 10).total());
+        assertEquals(2, index.size());
+    }
+    
+    @Test
+    void put_ShouldCompactAfterManyRewrites() {
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            index.put(4L, "Frontend React work revision " + i, null);
+        }
+        
+        // Assert
+        assertEquals(List.of(4L), index.search("react", 0, 10).ids());
+        assertEquals(1, index.search("revision", 0, 10).total());
+    }
+    
+    @Test
+    void writeTo_ShouldRoundTripThroughReadFrom() throws Exception {
+        // Arrange
+        index.remove(3L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        
+        // Act
+        FullTextIndex restored = new FullTextIndex();
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        
+        // Assert
+        assertEquals(3, restored.size());
+        // Written segments are compacted, so only the matches (not idf drift) must agree
+        assertEquals(Set.copyOf(index.search("kafka kubernetes react", 0, 10).ids()),
+            Set.copyOf(restored.search("kafka kubernetes react", 0, 10).ids()));
+        restored.put(5L, "Kafka streams", null);
+        assertEquals(2, restored.search("kafka", 0, 10).total());
+    }
+}
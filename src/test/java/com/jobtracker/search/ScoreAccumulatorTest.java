@@ -0,0 +1,61 @@
+package com.jobtracker.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ScoreAccumulator's dense and sparse lookups.
+ */
+class ScoreAccumulatorTest {
+    
+    @Test
+    void add_ShouldSumScoresPerOrdinalOnBothPaths() {
+        // Arrange: the same postings against a small index and a large one
+        ScoreAccumulator dense = new ScoreAccumulator(40, 6);
+        ScoreAccumulator sparse = new ScoreAccumulator(1_000_000, 6);
+        
+        // Act
+        for (ScoreAccumulator scores : new ScoreAccumulator[] {dense, sparse}) {
+            scores.add(30, 1.0);
+            scores.add(3, 0.5);
+            scores.add(30, 2.0);
+            scores.add(39, 0.25);
+            scores.add(3, 0.5);
+        }
+        
+        // Assert
+        assertTrue(dense.isDense());
+        assertFalse(sparse.isDense());
+        for (ScoreAccumulator scores : new ScoreAccumulator[] {dense, sparse}) {
+            assertEquals(3, scores.size());
+            assertEquals(30, scores.ordinal(0));
+            assertEquals(3.0, scores.score(0));
+            assertEquals(3, scores.ordinal(1));
+            assertEquals(1.0, scores.score(1));
+            assertEquals(39, scores.ordinal(2));
+        }
+    }
+    
+    @Test
+    void add_ShouldHandleCollidingOrdinalsInAFullSparseTable() {
+        // Arrange
+        int postings = 1000;
+        ScoreAccumulator scores = new ScoreAccumulator(Integer.MAX_VALUE, postings);
+        
+        // Act: ordinals a table size apart share a home slot
+        for (int i = 0; i < postings; i++) {
+            scores.add(i * 2048, i);
+        }
+        for (int i = 0; i < postings; i++) {
+            scores.add(i * 2048, 1);
+        }
+        
+        // Assert
+        assertEquals(postings, scores.size());
+        for (int match = 0; match < postings; match++) {
+            assertEquals(match * 2048, scores.ordinal(match));
+            assertEquals(match + 1.0, scores.score(match));
+        }
+    }
+}
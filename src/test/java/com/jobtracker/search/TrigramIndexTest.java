@@ -0,0 +1,124 @@
+package com.jobtracker.search;
+
+import com.jobtracker.dto.NameMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TrigramIndex matching, ranking and maintenance.
+ */
+class TrigramIndexTest {
+    
+    private TrigramIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "Google", "Software Engineer");
+        index.put(2L, "Goldman Sachs", "Backend Developer");
+        index.put(3L, "Alphabet", "Engineering Manager, Google Cloud");
+        index.put(4L, "Acme", "Site Reliability Engineer");
+    }
+    
+    @Test
+    void search_ShouldMatchSubstringsCaseInsensitively() {
+        List<NameMatch> matches = index.search("OGL", 10);
+        
+        assertEquals(List.of(1L, 3L), ids(matches));
+    }
+    
+    @Test
+    void search_ShouldRankCompanyPrefixAboveTitleMatch() {
+        List<NameMatch> matches = index.search("google", 10);
+        
+        assertEquals(1L, matches.get(0).id());
+        assertEquals(3L, matches.get(1).id());
+        assertTrue(matches.get(0).score() > matches.get(1).score());
+    }
+    
+    @Test
+    void search_WithShortQuery_ShouldMatchWordPrefixesOnly() {
+        assertEquals(List.of(1L, 2L, 3L), ids(index.search("go", 10)));
+        // "ac" occurs inside "Backend" but only Acme starts a word with it
+        assertEquals(List.of(4L), ids(index.search("ac", 10)));
+    }
+    
+    @Test
+    void search_WithSeveralWords_ShouldRequireAll() {
+        assertEquals(List.of(4L), ids(index.search("site engineer", 10)));
+        assertEquals(List.of(), ids(index.search("google backend", 10)));
+    }
+    
+    @Test
+    void search_ShouldHonourLimit() {
+        assertEquals(2, index.search("e", 2).size());
+    }
+    
+    @Test
+    void put_ShouldReplacePreviousTextForSameId() {
+        index.put(1L, "Microsoft", "Software Engineer");
+        
+        assertEquals(List.of(3L), ids(index.search("google", 10)));
+        assertEquals(List.of(1L), ids(index.search("micro", 10)));
+        assertEquals(4, index.size());
+    }
+    
+    @Test
+    void remove_ShouldDropDocument() {
+        index.remove(2L);
+        
+        assertEquals(List.of(), ids(index.search("goldman", 10)));
+        assertEquals(3, index.size());
+    }
+    
+    @Test
+    void put_WithChurningValues_ShouldReclaimUnusedOnes() {
+        // Act: every id moves to a new company several times over
+        for (int round = 0; round < 5; round++) {
+            for (long id = 1; id <= 1000; id++) {
+                index.put(id, "Company " + round + "-" + id, "Engineer");
+            }
+        }
+        for (long id = 1; id <= 1000; id++) {
+            index.remove(id);
+        }
+        
+        // Assert
+        assertEquals(0, index.size());
+        assertTrue(index.dictionarySize() < 3000, "Dictionary kept " + index.dictionarySize() + " values");
+        index.put(7L, "Initech", "Engineer");
+        assertEquals(List.of(7L), ids(index.search("initech engineer", 10)));
+    }
+    
+    @Test
+    void writeTo_ShouldRoundTripThroughReadFrom() throws Exception {
+        // Arrange
+        index.remove(2L);
+        index.put(5L, null, "Staff Engineer");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        
+        // Act
+        TrigramIndex restored = new TrigramIndex();
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        
+        // Assert
+        assertEquals(4, restored.size());
+        assertEquals(index.search("engineer", 10), restored.search("engineer", 10));
+        assertEquals(List.of(), ids(restored.search("goldman", 10)));
+        assertEquals(1, restored.retainOnly(new long[] {1L, 3L, 4L}));
+        assertEquals(List.of(1L, 3L, 4L), ids(restored.search("e", 10)).stream().sorted().toList());
+    }
+    
+    private static List<Long> ids(List<NameMatch> matches) {
+        return matches.stream().map(NameMatch::id).toList();
+    }
+}
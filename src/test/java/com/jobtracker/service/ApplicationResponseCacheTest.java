@@ -0,0 +1,100 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.JobApplicationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jobtracker.dto.JobApplicationResponseBuilder.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ApplicationResponseCache read-through, refresh and invalidation.
+ */
+class ApplicationResponseCacheTest {
+    
+    private ApplicationResponseCache cache;
+    private AtomicInteger loads;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new ApplicationResponseCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+    
+    @Test
+    void get_ShouldLoadOnceAndServeHitsFromMemory() {
+        // Act
+        cache.get(1L, this::load);
+        JobApplicationResponse second = cache.get(1L, this::load);
+        
+        // Assert
+        assertEquals("Loaded", second.companyName());
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+    
+    @Test
+    void get_WhenLoaderThrows_ShouldNotCacheFailure() {
+        // Act
+        assertThrows(ResourceNotFoundException.class,
+            () -> cache.get(1L, id -> { throw new ResourceNotFoundException("missing"); }));
+        JobApplicationResponse response = cache.get(1L, this::load);
+        
+        // Assert
+        assertEquals("Loaded", response.companyName());
+    }
+    
+    @Test
+    void onApplicationChanged_WhenUpdated_ShouldRefreshEntry() {
+        // Arrange
+        JobApplicationResponse before = cache.get(1L, this::load);
+        
+        // Act
+        JobApplicationResponse renamed = response(1L).companyName("Renamed").build();
+        cache.onApplicationChanged(ApplicationChangedEvent.updated(before, renamed));
+        
+        // Assert
+        assertEquals("Renamed", cache.get(1L, this::load).companyName());
+        assertEquals(1, loads.get());
+    }
+    
+    @Test
+    void onApplicationChanged_WhenDeleted_ShouldEvictEntry() {
+        // Arrange
+        JobApplicationResponse cached = cache.get(1L, this::load);
+        
+        // Act
+        cache.onApplicationChanged(ApplicationChangedEvent.deleted(cached));
+        cache.get(1L, this::load);
+        
+        // Assert
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void bindTo_ShouldPublishCacheMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.get(1L, this::load);
+        
+        // Act
+        cache.bindTo(registry);
+        
+        // Assert
+        assertEquals(1.0, registry.get("cache.gets")
+            .tag("cache", ApplicationResponseCache.CACHE_NAME)
+            .tag("result", "miss")
+            .functionCounter().count());
+    }
+    
+    private JobApplicationResponse load(Long id) {
+        loads.incrementAndGet();
+        return response(id).companyName("Loaded").build();
+    }
+}
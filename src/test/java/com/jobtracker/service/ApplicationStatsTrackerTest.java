@@ -0,0 +1,107 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.StatusCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.jobtracker.dto.JobApplicationResponseBuilder.response;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ApplicationStatsTracker counter maintenance and reconciliation.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationStatsTrackerTest {
+    
+    @Mock
+    private JobApplicationRepository repository;
+    
+    private ApplicationStatsTracker tracker;
+    
+    @BeforeEach
+    void setUp() {
+        tracker = new ApplicationStatsTracker(repository, new DataVersionTracker());
+    }
+    
+    @Test
+    void snapshot_ShouldInitializeFromGroupedAggregate() {
+        // Arrange
+        when(repository.countGroupedByStatusAcrossTiers()).thenReturn(List.of(
+            statusCount(ApplicationStatus.APPLIED, 4),
+            statusCount(ApplicationStatus.PHONE_SCREEN, 2),
+            statusCount(ApplicationStatus.REJECTED, 3),
+            statusCount(ApplicationStatus.ACCEPTED, 1)
+        ));
+        
+        // Act
+        JobApplicationService.ApplicationStats stats = tracker.snapshot();
+        
+        // Assert
+        assertEquals(10L, stats.total());
+        assertEquals(6L, stats.active());
+        assertEquals(2L, stats.inInterview());
+        assertEquals(3L, stats.rejected());
+        assertEquals(1L, stats.accepted());
+    }
+    
+    @Test
+    void onApplicationChanged_ShouldAdjustCountersWithoutQuerying() {
+        // Arrange
+        when(repository.countGroupedByStatusAcrossTiers()).thenReturn(List.of(
+            statusCount(ApplicationStatus.APPLIED, 1)
+        ));
+        tracker.reconcile();
+        
+        // Act
+        tracker.onApplicationChanged(ApplicationChangedEvent.created(response(2L).build()));
+        tracker.onApplicationChanged(ApplicationChangedEvent.updated(
+            response(1L).build(), response(1L).status(ApplicationStatus.PHONE_SCREEN).build()));
+        tracker.onApplicationChanged(ApplicationChangedEvent.deleted(response(2L).build()));
+        
+        // Assert
+        assertEquals(0L, tracker.count(ApplicationStatus.APPLIED));
+        assertEquals(1L, tracker.count(ApplicationStatus.PHONE_SCREEN));
+        assertEquals(1L, tracker.snapshot().inInterview());
+        verify(repository, times(1)).countGroupedByStatusAcrossTiers();
+    }
+    
+    @Test
+    void reconcile_ShouldOverwriteDriftedCounters() {
+        // Arrange
+        when(repository.countGroupedByStatusAcrossTiers())
+            .thenReturn(List.of(statusCount(ApplicationStatus.APPLIED, 1)))
+            .thenReturn(List.of(statusCount(ApplicationStatus.OFFER, 5)));
+        tracker.reconcile();
+        tracker.onApplicationChanged(ApplicationChangedEvent.created(response(9L).build()));
+        
+        // Act
+        tracker.reconcile();
+        
+        // Assert
+        assertEquals(0L, tracker.count(ApplicationStatus.APPLIED));
+        assertEquals(5L, tracker.count(ApplicationStatus.OFFER));
+        assertEquals(5L, tracker.snapshot().total());
+    }
+    
+    private static StatusCount statusCount(ApplicationStatus status, long count) {
+        return new StatusCount() {
+            @Override
+            public ApplicationStatus getStatus() {
+                return status;
+            }
+            
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
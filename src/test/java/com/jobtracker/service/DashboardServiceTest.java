@@ -0,0 +1,98 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.Dashboard;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for how DashboardService derives each list from the rows already read.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+    
+    @Mock
+    private JobApplicationRepository repository;
+    
+    @Mock
+    private ApplicationStatsTracker statsTracker;
+    
+    @InjectMocks
+    private DashboardService service;
+    
+    @Test
+    void getDashboard_WhenRecentRowsHoldAFullPage_ShouldNotQueryTheSubLists() {
+        // Arrange: ten recent rows, all in interview
+        List<JobApplicationSummary> recent = summaries(DashboardService.PAGE_SIZE, ApplicationStatus.PHONE_SCREEN);
+        when(repository.findRecentSummaries(any(Pageable.class))).thenReturn(recent);
+        
+        // Act
+        Dashboard dashboard = service.getDashboard();
+        
+        // Assert
+        assertEquals(recent, dashboard.active());
+        assertEquals(recent, dashboard.inInterview());
+        verify(repository, never()).findActiveSummaries(any(Pageable.class));
+        verify(repository, never()).findSummariesInInterview(any(Pageable.class));
+    }
+    
+    @Test
+    void getDashboard_WhenRecentRowsAreTheWholeTable_ShouldFilterThemInMemory() {
+        // Arrange: fewer rows than a page, so nothing else exists
+        List<JobApplicationSummary> recent = new ArrayList<>(summaries(2, ApplicationStatus.APPLIED));
+        recent.addAll(summaries(1, ApplicationStatus.REJECTED));
+        recent.addAll(summaries(1, ApplicationStatus.ONSITE_INTERVIEW));
+        when(repository.findRecentSummaries(any(Pageable.class))).thenReturn(recent);
+        
+        // Act
+        Dashboard dashboard = service.getDashboard();
+        
+        // Assert
+        assertEquals(3, dashboard.active().size());
+        assertEquals(List.of(recent.get(3)), dashboard.inInterview());
+        verify(repository, never()).findActiveSummaries(any(Pageable.class));
+        verify(repository, never()).findSummariesInInterview(any(Pageable.class));
+    }
+    
+    @Test
+    void getDashboard_WhenRecentRowsMissActiveOnes_ShouldQueryEachShortList() {
+        // Arrange: a full page of closed rows hides any older active ones
+        when(repository.findRecentSummaries(any(Pageable.class)))
+            .thenReturn(summaries(DashboardService.PAGE_SIZE, ApplicationStatus.REJECTED));
+        List<JobApplicationSummary> active = summaries(DashboardService.PAGE_SIZE, ApplicationStatus.APPLIED);
+        when(repository.findActiveSummaries(any(Pageable.class))).thenReturn(active);
+        List<JobApplicationSummary> interview = summaries(3, ApplicationStatus.TECHNICAL_INTERVIEW);
+        when(repository.findSummariesInInterview(any(Pageable.class))).thenReturn(interview);
+        
+        // Act
+        Dashboard dashboard = service.getDashboard();
+        
+        // Assert
+        assertEquals(active, dashboard.active());
+        assertEquals(interview, dashboard.inInterview());
+    }
+    
+    private static List<JobApplicationSummary> summaries(int count, ApplicationStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobApplicationSummary> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new JobApplicationSummary((long) i, "Company " + i, "Engineer", status,
+                now, now, now.minusMinutes(i)));
+        }
+        return rows;
+    }
+}
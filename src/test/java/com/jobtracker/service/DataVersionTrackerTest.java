@@ -0,0 +1,94 @@
+package com.jobtracker.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.jobtracker.dto.JobApplicationResponseBuilder.response;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DataVersionTracker ETag versions.
+ */
+class DataVersionTrackerTest {
+    
+    private DataVersionTracker versions;
+    
+    @BeforeEach
+    void setUp() {
+        versions = new DataVersionTracker();
+    }
+    
+    @Test
+    void onApplicationChanged_ShouldChangeCollectionTagAndOnlyThatRowTag() {
+        // Arrange
+        String collection = versions.collectionTag();
+        String row1 = versions.rowTag(1L);
+        String row2 = versions.rowTag(2L);
+        
+        // Act
+        versions.onApplicationChanged(ApplicationChangedEvent.created(response(1L).build()));
+        
+        // Assert
+        assertNotEquals(collection, versions.collectionTag());
+        assertNotEquals(row1, versions.rowTag(1L));
+        assertEquals(row2, versions.rowTag(2L));
+    }
+    
+    @Test
+    void onApplicationChanged_WhenDeleted_ShouldStillMoveRowTag() {
+        // Arrange
+        versions.onApplicationChanged(ApplicationChangedEvent.created(response(1L).build()));
+        String beforeDelete = versions.rowTag(1L);
+        
+        // Act
+        versions.onApplicationChanged(ApplicationChangedEvent.deleted(response(1L).build()));
+        
+        // Assert
+        assertNotEquals(beforeDelete, versions.rowTag(1L));
+    }
+    
+    @Test
+    void onApplicationsArchived_ShouldGiveArchivedRowsTagsTheyNeverHad() {
+        // Arrange
+        String unwritten = versions.rowTag(1L);
+        versions.onApplicationChanged(ApplicationChangedEvent.created(response(1L).build()));
+        String written = versions.rowTag(1L);
+        
+        // Act
+        versions.onApplicationsArchived(new ApplicationsArchivedEvent(List.of(1L)));
+        
+        // Assert
+        String archived = versions.rowTag(1L);
+        assertNotEquals(unwritten, archived);
+        assertNotEquals(written, archived);
+    }
+    
+    @Test
+    void bump_ShouldInvalidateEveryTag() {
+        // Arrange
+        String collection = versions.collectionTag();
+        String row = versions.rowTag(7L);
+        
+        // Act
+        versions.bump();
+        
+        // Assert
+        assertNotEquals(collection, versions.collectionTag());
+        assertNotEquals(row, versions.rowTag(7L));
+        assertTrue(versions.rowTag(7L).startsWith("\"") && versions.rowTag(7L).endsWith("\""));
+    }
+    
+    @Test
+    void collectionTag_WithInputs_ShouldDifferByInput() {
+        LocalDate today = LocalDate.of(2024, 3, 1);
+        
+        String window = versions.collectionTag(today.minusYears(1), today, "auto");
+        
+        assertEquals(window, versions.collectionTag(today.minusYears(1), today, "auto"));
+        assertNotEquals(window, versions.collectionTag(today.minusYears(1), today.plusDays(1), "auto"));
+        assertNotEquals(versions.collectionTag(), window);
+    }
+}
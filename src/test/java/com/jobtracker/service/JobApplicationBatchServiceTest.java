@@ -0,0 +1,172 @@
+package com.jobtracker.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.BatchItemResult;
+import com.jobtracker.dto.JobApplicationRequest;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.JobApplicationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobApplicationBatchService chunking and per-item results.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobApplicationBatchServiceTest {
+    
+    private static LocalValidatorFactoryBean validatorFactory;
+    
+    @Mock
+    private JobApplicationRepository repository;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private JobApplicationBatchService batchService;
+    
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = new LocalValidatorFactoryBean();
+        validatorFactory.afterPropertiesSet();
+    }
+    
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        batchService = new JobApplicationBatchService(
+            repository, entityManager, validatorFactory, new ObjectMapper(), eventPublisher, 2, 10);
+    }
+    
+    @Test
+    void createApplications_ShouldFlushAndClearPerChunk() {
+        // Arrange
+        AtomicLong ids = new AtomicLong();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<JobApplication> chunk = invocation.getArgument(0);
+            chunk.forEach(application -> application.setId(ids.incrementAndGet()));
+            return chunk;
+        });
+        List<JobApplicationRequest> requests = List.of(
+            request("A"), request("B"), request("C"), request("D"), request("E"));
+        
+        // Act
+        List<BatchItemResult> results = batchService.createApplications(requests);
+        
+        // Assert
+        assertEquals(5, results.size());
+        assertTrue(results.stream().allMatch(result -> result.status() == 201));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), results.stream().map(BatchItemResult::id).toList());
+        verify(repository, times(3)).saveAll(anyList());
+        verify(repository, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(eventPublisher, times(5)).publishEvent(any(ApplicationChangedEvent.class));
+    }
+    
+    @Test
+    void createApplications_WithInvalidItem_ShouldReportItOnly() {
+        // Arrange
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<JobApplicationRequest> requests = List.of(request("A"), request(""));
+        
+        // Act
+        List<BatchItemResult> results = batchService.createApplications(requests);
+        
+        // Assert
+        assertEquals(201, results.get(0).status());
+        assertEquals(400, results.get(1).status());
+        assertEquals(1, results.get(1).index());
+        assertEquals(List.of("companyName: Company name is required"), results.get(1).errors());
+        verify(eventPublisher, times(1)).publishEvent(any(ApplicationChangedEvent.class));
+    }
+    
+    @Test
+    void createApplicationsFromJson_WithUnreadableItems_ShouldReportThemOnly() throws Exception {
+        // Arrange: the second item fails the request's own salary range check
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<JsonNode> items = new ObjectMapper().readValue("""
+            [{"companyName":"A","jobTitle":"Engineer","status":"APPLIED"},
+             {"companyName":"B","jobTitle":"Engineer","status":"APPLIED","salaryMin":5,"salaryMax":1},
+             {"companyName":"C","jobTitle":"Engineer","status":"NOT_A_STATUS"},
+             null]
+            """, new TypeReference<>() {});
+        
+        // Act
+        List<BatchItemResult> results = batchService.createApplicationsFromJson(items);
+        
+        // Assert
+        assertEquals(List.of(201, 400, 400, 400), results.stream().map(BatchItemResult::status).toList());
+        assertEquals(List.of("Minimum salary cannot be greater than maximum salary"), results.get(1).errors());
+        assertTrue(results.get(2).errors().get(0).startsWith("Malformed item"));
+        assertEquals(List.of("Request body is required"), results.get(3).errors());
+        verify(eventPublisher, times(1)).publishEvent(any(ApplicationChangedEvent.class));
+    }
+    
+    @Test
+    void createApplications_OverLimit_ShouldThrowException() {
+        List<JobApplicationRequest> requests = Collections.nCopies(11, request("A"));
+        
+        assertThrows(IllegalArgumentException.class, () -> batchService.createApplications(requests));
+        verifyNoInteractions(repository);
+    }
+    
+    @Test
+    void updateApplications_ShouldReportMissingIds() {
+        // Arrange
+        JobApplication existing = new JobApplication();
+        existing.setId(1L);
+        existing.setCompanyName("Old");
+        existing.setJobTitle("Engineer");
+        existing.setStatus(ApplicationStatus.APPLIED);
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(existing));
+        
+        Map<Long, JobApplicationRequest> requests = new LinkedHashMap<>();
+        requests.put(1L, request("New"));
+        requests.put(2L, request("Missing"));
+        
+        // Act
+        List<BatchItemResult> results = batchService.updateApplications(requests);
+        
+        // Assert
+        assertEquals(200, results.get(0).status());
+        assertEquals("New", results.get(0).application().companyName());
+        assertEquals(404, results.get(1).status());
+        assertEquals(2L, results.get(1).id());
+        verify(repository, times(1)).flush();
+        verify(entityManager, times(1)).clear();
+    }
+    
+    private static JobApplicationRequest request(String companyName) {
+        return new JobApplicationRequest(companyName, "Engineer", ApplicationStatus.APPLIED,
+            null, null, null, null, null, null, LocalDateTime.now());
+    }
+}
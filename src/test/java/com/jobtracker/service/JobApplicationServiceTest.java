@@ -1,17 +1,32 @@
 package com.jobtracker.service;
 
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.CursorPage;
+import com.jobtracker.dto.JobApplicationPatch;
 import com.jobtracker.dto.JobApplicationRequest;
 import com.jobtracker.dto.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationSummary;
+import com.jobtracker.dto.PageCursor;
+import com.jobtracker.dto.StatusChangeRequest;
 import com.jobtracker.entity.JobApplication;
 import com.jobtracker.entity.JobApplication.ApplicationStatus;
+import com.jobtracker.repository.ArchivedApplicationRepository;
 import com.jobtracker.repository.JobApplicationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +34,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +48,18 @@ class JobApplicationServiceTest {
     @Mock
     private JobApplicationRepository repository;
     
+    @Mock
+    private ArchivedApplicationRepository archiveRepository;
+    
+    @Mock
+    private ApplicationStatsTracker statsTracker;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Spy
+    private ApplicationResponseCache responseCache = new ApplicationResponseCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+    
     @InjectMocks
     private JobApplicationService service;
     
@@ -68,7 +97,7 @@ class JobApplicationServiceTest {
     @Test
     void createApplication_ShouldReturnSavedApplication() {
         // Arrange
-        when(repository.save(any(JobApplication.class))).thenReturn(testApplication);
+        when(repository.saveAndFlush(any(JobApplication.class))).thenReturn(testApplication);
         
         // Act
         JobApplicationResponse response = service.createApplication(testRequest);
@@ -78,14 +107,15 @@ class JobApplicationServiceTest {
         assertEquals("TestCorp", response.companyName());
         assertEquals("Software Engineer", response.jobTitle());
         assertEquals(ApplicationStatus.APPLIED, response.status());
-        verify(repository, times(1)).save(any(JobApplication.class));
+        verify(repository, times(1)).saveAndFlush(any(JobApplication.class));
+        verify(eventPublisher).publishEvent(ApplicationChangedEvent.created(response));
     }
     
     @Test
     void updateApplication_WhenExists_ShouldReturnUpdatedApplication() {
         // Arrange
         when(repository.findById(1L)).thenReturn(Optional.of(testApplication));
-        when(repository.save(any(JobApplication.class))).thenReturn(testApplication);
+        when(repository.saveAndFlush(any(JobApplication.class))).thenReturn(testApplication);
         
         JobApplicationRequest updateRequest = new JobApplicationRequest(
             "UpdatedCorp",
@@ -99,8 +129,14 @@ class JobApplicationServiceTest {
         
         // Assert
         assertNotNull(response);
+        assertEquals(ApplicationStatus.TECHNICAL_INTERVIEW, response.status());
         verify(repository, times(1)).findById(1L);
-        verify(repository, times(1)).save(any(JobApplication.class));
+        verify(repository, times(1)).saveAndFlush(any(JobApplication.class));
+        
+        ArgumentCaptor<ApplicationChangedEvent> event = ArgumentCaptor.forClass(ApplicationChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ApplicationStatus.APPLIED, event.getValue().previousStatus());
+        assertEquals(ApplicationStatus.TECHNICAL_INTERVIEW, event.getValue().currentStatus());
     }
     
     @Test
@@ -114,7 +150,71 @@ class JobApplicationServiceTest {
         });
         
         verify(repository, times(1)).findById(999L);
-        verify(repository, never()).save(any(JobApplication.class));
+        verify(repository, never()).saveAndFlush(any(JobApplication.class));
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void patchApplication_ShouldChangeOnlySuppliedFields() {
+        // Arrange
+        testApplication.setVersion(3L);
+        when(repository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(repository.saveAndFlush(any(JobApplication.class))).thenReturn(testApplication);
+        JobApplicationPatch patch = new JobApplicationPatch(
+            null, null, ApplicationStatus.OFFER, null, "Verbal offer", null, null, null, null, null, 3L);
+        
+        // Act
+        JobApplicationResponse response = service.patchApplication(1L, patch);
+        
+        // Assert
+        assertEquals(ApplicationStatus.OFFER, response.status());
+        assertEquals("Verbal offer", response.notes());
+        assertEquals("TestCorp", response.companyName());
+        assertEquals("Remote", response.location());
+        assertEquals(150000, response.salaryMin());
+    }
+    
+    @Test
+    void patchApplication_WhenVersionIsStale_ShouldThrowConflictWithoutSaving() {
+        // Arrange
+        testApplication.setVersion(4L);
+        when(repository.findById(1L)).thenReturn(Optional.of(testApplication));
+        JobApplicationPatch patch = new JobApplicationPatch(
+            null, null, ApplicationStatus.OFFER, null, null, null, null, null, null, null, 3L);
+        
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> service.patchApplication(1L, patch));
+        assertEquals(ApplicationStatus.APPLIED, testApplication.getStatus());
+        verify(repository, never()).saveAndFlush(any(JobApplication.class));
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void patchApplication_WhenSalaryRangeBecomesInverted_ShouldThrowException() {
+        // Arrange
+        when(repository.findById(1L)).thenReturn(Optional.of(testApplication));
+        JobApplicationPatch patch = new JobApplicationPatch(
+            null, null, null, null, null, null, null, 200000, null, null, null);
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.patchApplication(1L, patch));
+        verify(repository, never()).saveAndFlush(any(JobApplication.class));
+    }
+    
+    @Test
+    void changeStatus_ShouldPublishStatusTransition() {
+        // Arrange
+        when(repository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(repository.saveAndFlush(any(JobApplication.class))).thenReturn(testApplication);
+        
+        // Act
+        service.changeStatus(1L, new StatusChangeRequest(ApplicationStatus.REJECTED, null));
+        
+        // Assert
+        ArgumentCaptor<ApplicationChangedEvent> event = ArgumentCaptor.forClass(ApplicationChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ApplicationStatus.APPLIED, event.getValue().previousStatus());
+        assertEquals(ApplicationStatus.REJECTED, event.getValue().currentStatus());
     }
     
     @Test
@@ -132,6 +232,21 @@ class JobApplicationServiceTest {
         verify(repository, times(1)).findById(1L);
     }
     
+    @Test
+    void getApplicationById_WhenCached_ShouldNotQueryRepository() {
+        // Arrange
+        when(repository.findById(1L)).thenReturn(Optional.of(testApplication));
+        service.getApplicationById(1L);
+        
+        // Act
+        JobApplicationResponse response = service.getApplicationById(1L);
+        
+        // Assert
+        assertEquals("TestCorp", response.companyName());
+        verify(repository, times(1)).findById(1L);
+        assertEquals(1, responseCache.stats().hitCount());
+    }
+    
     @Test
     void getApplicationById_WhenNotExists_ShouldThrowException() {
         // Arrange
@@ -148,23 +263,113 @@ class JobApplicationServiceTest {
     }
     
     @Test
-    void getAllApplications_ShouldReturnAllApplications() {
+    void getAllApplications_ShouldReturnFirstPageWithCursor() {
         // Arrange
         JobApplication app2 = new JobApplication();
         app2.setId(2L);
         app2.setCompanyName("AnotherCorp");
         app2.setJobTitle("DevOps Engineer");
         app2.setStatus(ApplicationStatus.PHONE_SCREEN);
+        app2.setUpdatedAt(LocalDateTime.now().minusDays(1));
+        
+        JobApplication app3 = new JobApplication();
+        app3.setId(3L);
+        app3.setCompanyName("ThirdCorp");
+        app3.setJobTitle("QA Engineer");
+        app3.setStatus(ApplicationStatus.APPLIED);
+        app3.setUpdatedAt(LocalDateTime.now().minusDays(2));
         
-        when(repository.findAll()).thenReturn(Arrays.asList(testApplication, app2));
+        when(repository.findPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.ofSize(3))))
+            .thenReturn(Arrays.asList(testApplication, app2, app3));
         
         // Act
-        List<JobApplicationResponse> responses = service.getAllApplications();
+        CursorPage<JobApplicationResponse> page =
+            service.getAllApplications(ApplicationFilter.none(), null, 2);
         
         // Assert
-        assertNotNull(responses);
-        assertEquals(2, responses.size());
-        verify(repository, times(1)).findAll();
+        assertEquals(2, page.items().size());
+        assertTrue(page.hasMore());
+        PageCursor next = PageCursor.decode(page.nextCursor());
+        assertEquals(2L, next.id());
+        assertEquals(app2.getUpdatedAt(), next.updatedAt());
+    }
+    
+    @Test
+    void getApplicationSummaries_ShouldPageProjectedRows() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        JobApplicationSummary first = new JobApplicationSummary(5L, "TestCorp", "Engineer",
+            ApplicationStatus.PHONE_SCREEN, null, now, now);
+        JobApplicationSummary second = new JobApplicationSummary(4L, "OtherCorp", "Engineer",
+            ApplicationStatus.REJECTED, null, now, now.minusDays(1));
+        when(repository.findSummaryPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.ofSize(2))))
+            .thenReturn(List.of(first, second));
+        
+        // Act
+        CursorPage<JobApplicationSummary> page =
+            service.getApplicationSummaries(ApplicationFilter.none(), null, 1);
+        
+        // Assert
+        assertEquals(List.of(first), page.items());
+        assertTrue(page.items().get(0).inInterviewProcess());
+        assertEquals(5L, PageCursor.decode(page.nextCursor()).id());
+        verify(repository, never()).findPage(any(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(archiveRepository);
+    }
+    
+    @Test
+    void getApplicationSummaries_WithArchived_ShouldMergeBothTiersNewestFirst() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        JobApplicationSummary hot = new JobApplicationSummary(9L, "HotCorp", "Engineer",
+            ApplicationStatus.REJECTED, null, now, now.minusDays(1));
+        JobApplicationSummary newer = new JobApplicationSummary(3L, "ColdCorp", "Engineer",
+            ApplicationStatus.REJECTED, null, now, now);
+        JobApplicationSummary older = new JobApplicationSummary(2L, "ColdCorp", "Engineer",
+            ApplicationStatus.WITHDRAWN, null, now, now.minusDays(2));
+        when(repository.findSummaryPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.ofSize(3))))
+            .thenReturn(List.of(hot));
+        when(archiveRepository.findSummaryPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.ofSize(3))))
+            .thenReturn(List.of(newer, older));
+        
+        // Act
+        CursorPage<JobApplicationSummary> page = service.getApplicationSummaries(
+            new ApplicationFilter(null, null, null, null, true), null, 2);
+        
+        // Assert
+        assertEquals(List.of(newer, hot), page.items());
+        assertTrue(page.hasMore());
+        assertEquals(9L, PageCursor.decode(page.nextCursor()).id());
+    }
+    
+    @Test
+    void getAllApplications_WithCursor_ShouldSeekPastCursor() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.now();
+        String cursor = new PageCursor(updatedAt, 7L).encode();
+        when(repository.findPage(eq(ApplicationStatus.APPLIED), isNull(), isNull(), isNull(),
+                eq(updatedAt), eq(7L), any(Pageable.class)))
+            .thenReturn(List.of(testApplication));
+        
+        // Act
+        CursorPage<JobApplicationResponse> page = service.getAllApplications(
+            new ApplicationFilter(ApplicationStatus.APPLIED, null, null, null, false), cursor, 10);
+        
+        // Assert
+        assertEquals(1, page.items().size());
+        assertFalse(page.hasMore());
+        assertNull(page.nextCursor());
+    }
+    
+    @Test
+    void getAllApplications_WithMalformedCursor_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getAllApplications(ApplicationFilter.none(), "not-a-cursor", 10));
+        verify(repository, never()).findPage(any(), any(), any(), any(), any(), any(), any());
     }
     
     @Test
@@ -175,7 +380,7 @@ class JobApplicationServiceTest {
         
         // Act
         List<JobApplicationResponse> responses = 
-            service.getApplicationsByStatus(ApplicationStatus.APPLIED);
+            service.getApplicationsByStatus(ApplicationStatus.APPLIED, false);
         
         // Assert
         assertNotNull(responses);
@@ -203,43 +408,39 @@ class JobApplicationServiceTest {
     @Test
     void deleteApplication_WhenExists_ShouldDeleteSuccessfully() {
         // Arrange
-        when(repository.existsById(1L)).thenReturn(true);
-        doNothing().when(repository).deleteById(1L);
+        when(repository.findById(1L)).thenReturn(Optional.of(testApplication));
         
         // Act
         service.deleteApplication(1L);
         
         // Assert
-        verify(repository, times(1)).existsById(1L);
-        verify(repository, times(1)).deleteById(1L);
+        verify(repository, times(1)).findById(1L);
+        verify(repository, times(1)).delete(testApplication);
+        verify(eventPublisher).publishEvent(
+            ApplicationChangedEvent.deleted(JobApplicationResponse.fromEntity(testApplication)));
     }
     
     @Test
     void deleteApplication_WhenNotExists_ShouldThrowException() {
         // Arrange
-        when(repository.existsById(999L)).thenReturn(false);
+        when(repository.findById(999L)).thenReturn(Optional.empty());
         
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
             service.deleteApplication(999L);
         });
         
-        verify(repository, times(1)).existsById(999L);
-        verify(repository, never()).deleteById(any());
+        verify(repository, times(1)).findById(999L);
+        verify(repository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
     }
     
     @Test
-    void getStatistics_ShouldReturnCorrectStats() {
+    void getStatistics_ShouldReturnTrackedCountersWithoutQuerying() {
         // Arrange
-        when(repository.count()).thenReturn(10L);
-        when(repository.findActiveApplications()).thenReturn(Arrays.asList(
-            testApplication, testApplication, testApplication
-        ));
-        when(repository.findApplicationsInInterview()).thenReturn(Arrays.asList(
-            testApplication, testApplication
-        ));
-        when(repository.countByStatus(ApplicationStatus.REJECTED)).thenReturn(3L);
-        when(repository.countByStatus(ApplicationStatus.ACCEPTED)).thenReturn(1L);
+        JobApplicationService.ApplicationStats tracked =
+            new JobApplicationService.ApplicationStats(10L, 3L, 2L, 3L, 1L);
+        when(statsTracker.snapshot()).thenReturn(tracked);
         
         // Act
         JobApplicationService.ApplicationStats stats = service.getStatistics();
@@ -251,5 +452,6 @@ class JobApplicationServiceTest {
         assertEquals(2L, stats.inInterview());
         assertEquals(3L, stats.rejected());
         assertEquals(1L, stats.accepted());
+        verifyNoInteractions(repository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.jobtracker.snapshot;
+
+import com.jobtracker.dto.NameMatch;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.search.FullTextSearchService;
+import com.jobtracker.search.NameSearchService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SnapshotManager writing, restoring and falling back to a rebuild,
+ * with real search services as the contributors.
+ */
+class SnapshotManagerTest {
+    
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 3, 1, 9, 30);
+    private static final Duration REPLAY_MARGIN = Duration.ofMinutes(5);
+    
+    @TempDir
+    private Path directory;
+    
+    private Path snapshot;
+    
+    @BeforeEach
+    void setUp() {
+        // Arrange: a first start builds the index from the table and writes the snapshot
+        snapshot = directory.resolve("snapshot.bin");
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.streamAllOrderById()).thenReturn(Stream.of(
+            row(1L, "Google", 1), row(2L, "Acme", 2), row(3L, "Globex", 3)));
+        manager(repository, new NameSearchService()).load();
+        assertTrue(Files.isRegularFile(snapshot));
+    }
+    
+    @Test
+    void load_WithSnapshot_ShouldReplayOnlyNewerRowsAndPruneDeletedOnes() {
+        // Arrange: row 2 renamed, row 4 added and row 3 deleted since
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.streamUpdatedSince(BASE_TIME.plusDays(3).minus(REPLAY_MARGIN))).thenReturn(Stream.of(
+            row(2L, "Initech", 4), row(4L, "Hooli", 4)));
+        when(repository.count()).thenReturn(3L);
+        when(repository.streamAllIds()).thenReturn(Stream.of(1L, 2L, 4L));
+        NameSearchService names = new NameSearchService();
+        
+        // Act
+        manager(repository, names).load();
+        
+        // Assert
+        verify(repository, never()).streamAllOrderById();
+        assertEquals(3, names.size());
+        assertEquals(List.of(1L), ids(names.search("google", 10)));
+        assertEquals(List.of(2L), ids(names.search("initech", 10)));
+        assertEquals(List.of(4L), ids(names.search("hooli", 10)));
+        assertEquals(List.of(), ids(names.search("acme", 10)));
+        assertEquals(List.of(), ids(names.search("globex", 10)));
+    }
+    
+    @Test
+    void load_WithCorruptSnapshot_ShouldRebuildFromTable() throws Exception {
+        // Arrange
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(snapshot, bytes);
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.streamAllOrderById()).thenReturn(Stream.of(row(1L, "Google", 1), row(4L, "Hooli", 4)));
+        NameSearchService names = new NameSearchService();
+        
+        // Act
+        manager(repository, names).load();
+        
+        // Assert
+        verify(repository, never()).streamUpdatedSince(any());
+        assertEquals(2, names.size());
+        assertEquals(List.of(4L), ids(names.search("hooli", 10)));
+        assertEquals(List.of(), ids(names.search("acme", 10)));
+    }
+    
+    @Test
+    void load_WithTermlessRows_ShouldRestoreFullTextWithoutRebuilding() {
+        // Arrange: row 2 has no description or notes, row 3 only stopwords
+        JobApplicationRepository repository = mock(JobApplicationRepository.class);
+        when(repository.streamAllOrderById()).thenReturn(Stream.of(
+            text(row(1L, "Google", 1), "Kafka platform"), row(2L, "Acme", 2), text(row(3L, "Globex", 3), "the and of")));
+        manager(repository, new FullTextSearchService(repository)).load();
+        
+        JobApplicationRepository restarted = mock(JobApplicationRepository.class);
+        when(restarted.streamUpdatedSince(any())).thenReturn(Stream.empty());
+        when(restarted.count()).thenReturn(3L);
+        FullTextSearchService fullText = new FullTextSearchService(restarted);
+        
+        // Act
+        manager(restarted, fullText).load();
+        
+        // Assert
+        verify(restarted, never()).streamAllOrderById();
+        verify(restarted, never()).streamAllIds();
+        assertEquals(3, fullText.size());
+    }
+    
+    private SnapshotManager manager(JobApplicationRepository repository, SnapshotContributor contributor) {
+        return new SnapshotManager(List.of(contributor), repository, mock(EntityManager.class),
+            mock(PlatformTransactionManager.class), snapshot.toString(), REPLAY_MARGIN);
+    }
+    
+    private static JobApplication row(long id, String companyName, int day) {
+        JobApplication application = new JobApplication();
+        application.setId(id);
+        application.setCompanyName(companyName);
+        application.setJobTitle("Engineer");
+        application.setUpdatedAt(BASE_TIME.plusDays(day));
+        return application;
+    }
+    
+    private static JobApplication text(JobApplication application, String description) {
+        application.setDescription(description);
+        return application;
+    }
+    
+    private static List<Long> ids(List<NameMatch> matches) {
+        return matches.stream().map(NameMatch::id).toList();
+    }
+}